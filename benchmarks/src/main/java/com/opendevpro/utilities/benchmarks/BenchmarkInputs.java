@@ -0,0 +1,139 @@
+package com.opendevpro.utilities.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Datos de entrada de los benchmarks, generados con semilla fija para que todas las versiones midan lo mismo.<br>
+ * <p>
+ * Cada arreglo tiene SIZE valores (potencia de 2) y los benchmarks los recorren con un cursor para no medir siempre
+ * la misma fecha.
+ */
+final class BenchmarkInputs {
+
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    private BenchmarkInputs() {
+    }
+
+    static String[] dates(String pattern) {
+        return dates(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    static String[] dates(String pattern, Locale locale) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        Random random = new Random(42);
+        String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = formatter.format(randomDate(random));
+        return values;
+    }
+
+    /**
+     * Fechas con el formato correcto que el resolver SMART rechaza (dia 32 a 39 o 00, mes 00 o 13), digitos con
+     * letras y texto que no es fecha.<br>
+     * <p>
+     * No usar 31 de un mes de 30 dias ni 29/02 de un año no bisiesto: SMART los ajusta al ultimo dia del mes y son validas.
+     */
+    static String[] invalidDates() {
+        Random random = new Random(43);
+        String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int year = 1990 + random.nextInt(60);
+            switch (i % 4) {
+                case 0:
+                    values[i] = String.format("%02d/%02d/%04d", 32 + random.nextInt(8), 1 + random.nextInt(12), year);
+                    break;
+                case 1:
+                    values[i] = String.format("00/%02d/%04d", 1 + random.nextInt(12), year);
+                    break;
+                case 2:
+                    values[i] = String.format("%02d/%s/%04d", 1 + random.nextInt(28), random.nextBoolean() ? "13" : "00", year);
+                    break;
+                default:
+                    values[i] = random.nextBoolean() ? "fecha-" + random.nextInt(1000) : String.format("1%c/0%c/%04d",
+                        (char) ('a' + random.nextInt(26)), (char) ('a' + random.nextInt(26)), year);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Fecha-horas ISO_DATE_TIME_FORMAT_MICRO_SECONDS con hora 25 a 33 (24:00 es valida, es la medianoche del dia siguiente).
+     */
+    static String[] invalidDateTimes() {
+        Random random = new Random(44);
+        String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = String.format("%04d-%02d-%02dT%02d:%02d:00.000-03:00", 1990 + random.nextInt(60),
+                1 + random.nextInt(12), 1 + random.nextInt(28), 25 + random.nextInt(9), random.nextInt(60));
+        return values;
+    }
+
+    /**
+     * Verifica que DateTimeFormatter (ResolverStyle.SMART, como isValidDate / isValidDateTime) rechace todos los valores,
+     * para que los benchmarks de fechas invalidas no midan el camino exitoso.
+     * @exception IllegalStateException => si algun valor es valido.
+     */
+    static void checkAllInvalid(String[] values, String pattern, boolean dateTime) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        for (String value : values) {
+            try {
+                if (dateTime)
+                    LocalDateTime.parse(value, formatter);
+                else
+                    LocalDate.parse(value, formatter);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            throw new IllegalStateException("Valor de prueba valido en un set de invalidos: " + value);
+        }
+    }
+
+    static Date[] utilDates() {
+        Random random = new Random(45);
+        Date[] values = new Date[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = new Date(randomMillis(random));
+        return values;
+    }
+
+    static java.sql.Date[] sqlDates() {
+        Random random = new Random(46);
+        java.sql.Date[] values = new java.sql.Date[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = java.sql.Date.valueOf(randomDate(random).toLocalDate());
+        return values;
+    }
+
+    static LocalDate[] localDates() {
+        Random random = new Random(47);
+        LocalDate[] values = new LocalDate[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = randomDate(random).toLocalDate();
+        return values;
+    }
+
+    static long[] epochMillis() {
+        Random random = new Random(48);
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            values[i] = randomMillis(random);
+        return values;
+    }
+
+    // 1990-01-01 .. 2050-01-01
+    private static long randomMillis(Random random) {
+        return 631_152_000_000L + (long) (random.nextDouble() * 1_893_456_000_000L);
+    }
+
+    private static java.time.ZonedDateTime randomDate(Random random) {
+        return java.time.Instant.ofEpochMilli(randomMillis(random)).atZone(java.time.ZoneId.of("America/Argentina/Buenos_Aires"));
+    }
+}
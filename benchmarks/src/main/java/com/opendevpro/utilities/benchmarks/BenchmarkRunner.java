@@ -0,0 +1,39 @@
+package com.opendevpro.utilities.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de benchmarks.jar.<br>
+ * <p>
+ * Corre los benchmarks en modo throughput y tiempo promedio (segun cada clase) con el GC profiler, que agrega
+ * gc.alloc.rate y gc.alloc.rate.norm (bytes por operacion), y guarda los resultados en JSON para comparar versiones
+ * (por ejemplo con jmh.morethan.io).<br>
+ * <p>
+ * java -jar benchmarks.jar [regex de benchmarks] [archivo de resultados]<br>
+ * <p>
+ * Ejemplo => java -jar benchmarks.jar Validation target/validation-1.1.json<br>
+ * <p>
+ * Para usar todas las opciones de JMH (-prof, -t, -f, -rf...) correr org.openjdk.jmh.Main con el mismo jar:<br>
+ * java -cp benchmarks.jar org.openjdk.jmh.Main ConcurrentBenchmark -t 16 -prof gc -rf json
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.opendevpro.utilities.benchmarks.*";
+        String result = args.length > 1 ? args[1] : "jmh-result.json";
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result);
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.opendevpro.utilities.benchmarks;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateUtilities;
+
+/**
+ * Los caminos mas usados corriendo en todos los cores a la vez, para ver contencion en caches y pools compartidos.<br>
+ * <p>
+ * La cantidad de hilos se cambia con -t (por defecto uno por core).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class ConcurrentBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Amsterdam");
+
+    private String[] slashDates;
+    private String[] invalidDates;
+    private Date[] utilDates;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        slashDates = BenchmarkInputs.dates(DateUtilities.DD_MM_YYYY_SLASH);
+        invalidDates = BenchmarkInputs.invalidDates();
+        BenchmarkInputs.checkAllInvalid(invalidDates, DateUtilities.DD_MM_YYYY_SLASH, false);
+        utilDates = BenchmarkInputs.utilDates();
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkInputs.MASK;
+    }
+
+    @Benchmark
+    public boolean isValidDate() {
+        int i = next();
+        return DateUtilities.isValidDate((i & 1) == 0 ? slashDates[i] : invalidDates[i], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public LocalDate fromStringToLocalDate() {
+        return DateUtilities.fromStringToLocalDate(slashDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public java.sql.Date parsearFecha() throws IOException {
+        return DateUtilities.parsearFecha(slashDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public String convertDateToIsoDateToSpecificPattern() {
+        return DateUtilities.convertDateToIsoDateToSpecificPattern(utilDates[next()], DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS);
+    }
+
+    @Benchmark
+    public LocalDateTime fromDateToLocalDateTimeByMilisecond() {
+        return DateUtilities.fromDateToLocalDateTimeByMilisecond(utilDates[next()], ZONE);
+    }
+
+    @Benchmark
+    public ZoneId getZoneIdByShortcut() {
+        return DateUtilities.getZoneIdByShortcut((cursor++ & 1) == 0 ? "AGT" : "ECT");
+    }
+}
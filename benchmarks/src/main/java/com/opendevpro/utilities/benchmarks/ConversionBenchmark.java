@@ -0,0 +1,100 @@
+package com.opendevpro.utilities.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateUtilities;
+
+/**
+ * Conversiones entre Date, java.sql.Date, LocalDate y LocalDateTime.<br>
+ * <p>
+ * La zona es parametro: una con cambios de horario, una sin cambios actuales y una de offset fijo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({ "Europe/Amsterdam", "America/Argentina/Buenos_Aires", "UTC" })
+    public String zone;
+
+    private ZoneId zoneId;
+    private Date[] utilDates;
+    private java.sql.Date[] sqlDates;
+    private LocalDate[] localDates;
+    private LocalDateTime[] localDateTimes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        zoneId = ZoneId.of(zone);
+        utilDates = BenchmarkInputs.utilDates();
+        sqlDates = BenchmarkInputs.sqlDates();
+        localDates = BenchmarkInputs.localDates();
+        localDateTimes = new LocalDateTime[BenchmarkInputs.SIZE];
+        for (int i = 0; i < localDateTimes.length; i++)
+            localDateTimes[i] = DateUtilities.fromDateToLocalDateTimeByMilisecond(utilDates[i], zoneId);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkInputs.MASK;
+    }
+
+    @Benchmark
+    public LocalDate fromDateToLocalDateByInstant() {
+        return DateUtilities.fromDateToLocalDateByInstant(utilDates[next()], zoneId);
+    }
+
+    @Benchmark
+    public LocalDate fromDateToLocalDateByMilliSeconds() {
+        return DateUtilities.fromDateToLocalDateByMilliSeconds(utilDates[next()], zoneId);
+    }
+
+    @Benchmark
+    public LocalDateTime fromDateToLocalDateTimeByInstant() {
+        return DateUtilities.fromDateToLocalDateTimeByInstant(utilDates[next()], zoneId);
+    }
+
+    @Benchmark
+    public LocalDateTime fromDateToLocalDateTimeByMilisecond() {
+        return DateUtilities.fromDateToLocalDateTimeByMilisecond(utilDates[next()], zoneId);
+    }
+
+    @Benchmark
+    public Date fromLocalDateToUtilDate() {
+        return DateUtilities.fromLocalDateToUtilDate(localDates[next()], zoneId);
+    }
+
+    @Benchmark
+    public Date fromLocalDateToSqlDate() {
+        return DateUtilities.fromLocalDateToSqlDate(localDates[next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime fromSqlDateToLocalDateTime() {
+        return DateUtilities.fromSqlDateToLocalDateTime(sqlDates[next()]);
+    }
+
+    @Benchmark
+    public Date fromLocalDateTimeToUtilDateByInstant() {
+        return DateUtilities.fromLocalDateTimeToUtilDateByInstant(localDateTimes[next()]);
+    }
+}
@@ -0,0 +1,74 @@
+package com.opendevpro.utilities.benchmarks;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateUtilities;
+
+/**
+ * Metodos de parseo (String => fecha) y de formato (fecha => String).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseFormatBenchmark {
+
+    private String[] slashDates;
+    private String[] isoDates;
+    private Date[] utilDates;
+    private LocalDate[] localDates;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        slashDates = BenchmarkInputs.dates(DateUtilities.DD_MM_YYYY_SLASH);
+        isoDates = BenchmarkInputs.dates("yyyy-MM-dd");
+        utilDates = BenchmarkInputs.utilDates();
+        localDates = BenchmarkInputs.localDates();
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkInputs.MASK;
+    }
+
+    @Benchmark
+    public LocalDate fromStringToLocalDateIso() {
+        return DateUtilities.fromStringToLocalDate(isoDates[next()]);
+    }
+
+    @Benchmark
+    public LocalDate fromStringToLocalDatePattern() {
+        return DateUtilities.fromStringToLocalDate(slashDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public java.sql.Date parsearFecha() throws IOException {
+        return DateUtilities.parsearFecha(slashDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public String convertDateToIsoDateToSpecificPattern() {
+        return DateUtilities.convertDateToIsoDateToSpecificPattern(utilDates[next()], DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS);
+    }
+
+    @Benchmark
+    public String formatLocaldateTimeToAnyPattern() {
+        return DateUtilities.formatLocaldateTimeToAnyPattern(localDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+}
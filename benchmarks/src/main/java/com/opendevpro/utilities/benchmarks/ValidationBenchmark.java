@@ -0,0 +1,93 @@
+package com.opendevpro.utilities.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateUtilities;
+
+/**
+ * isValidDate / isValidDateTime / firewallIsRealDate con entradas validas e invalidas.<br>
+ * <p>
+ * Las invalidas miden tambien el costo de la excepcion en los metodos firewall.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private String[] validDates;
+    private String[] invalidDates;
+    private String[] monthTextDates;
+    private String[] validDateTimes;
+    private String[] invalidDateTimes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        validDates = BenchmarkInputs.dates(DateUtilities.DD_MM_YYYY_SLASH);
+        invalidDates = BenchmarkInputs.invalidDates();
+        monthTextDates = BenchmarkInputs.dates(DateUtilities.DD_MMM_YYYY_DASH, Locale.US);
+        validDateTimes = BenchmarkInputs.dates(DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+        invalidDateTimes = BenchmarkInputs.invalidDateTimes();
+        BenchmarkInputs.checkAllInvalid(invalidDates, DateUtilities.DD_MM_YYYY_SLASH, false);
+        BenchmarkInputs.checkAllInvalid(invalidDateTimes, DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS, true);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkInputs.MASK;
+    }
+
+    @Benchmark
+    public boolean isValidDateValid() {
+        return DateUtilities.isValidDate(validDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public boolean isValidDateInvalid() {
+        return DateUtilities.isValidDate(invalidDates[next()], DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Benchmark
+    public boolean isValidDateTimeValid() {
+        return DateUtilities.isValidDateTime(validDateTimes[next()], DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+    }
+
+    @Benchmark
+    public boolean isValidDateTimeInvalid() {
+        return DateUtilities.isValidDateTime(invalidDateTimes[next()], DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+    }
+
+    @Benchmark
+    public void firewallIsRealDateValid() {
+        DateUtilities.firewallIsRealDate(validDates[next()], DateUtilities.DD_MM_YYYY_SLASH, false);
+    }
+
+    @Benchmark
+    public boolean firewallIsRealDateInvalid() {
+        try {
+            DateUtilities.firewallIsRealDate(invalidDates[next()], DateUtilities.DD_MM_YYYY_SLASH, false);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public void firewallIsRealDateMonthText() {
+        DateUtilities.firewallIsRealDate(monthTextDates[next()], DateUtilities.DD_MMM_YYYY_DASH, false, Locale.US);
+    }
+}
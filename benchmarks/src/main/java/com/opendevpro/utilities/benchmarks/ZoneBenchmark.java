@@ -0,0 +1,61 @@
+package com.opendevpro.utilities.benchmarks;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateUtilities;
+
+/**
+ * Busqueda de zonas por shortcut, listados y filtros por texto.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneBenchmark {
+
+    private static final String[] SHORTCUTS = { "AGT", "CAT", "AET", "BET", "PNT", "EST", "JST", "ECT" };
+    private static final String[] FILTERS = { "America", "Buenos", "Europe/A", "Pacific", "x" };
+
+    private int cursor;
+
+    @Benchmark
+    public ZoneId getZoneIdByShortcut() {
+        return DateUtilities.getZoneIdByShortcut(SHORTCUTS[cursor++ & 7]);
+    }
+
+    @Benchmark
+    public Set<String> getZoneIdAsSet() {
+        return DateUtilities.getZoneIdAsSet();
+    }
+
+    @Benchmark
+    public List<String> getZoneIdAsList() {
+        return DateUtilities.getZoneIdAsList();
+    }
+
+    @Benchmark
+    public Map<String, String> getZoneIdAsMap() {
+        return DateUtilities.getZoneIdAsMap();
+    }
+
+    @Benchmark
+    public List<String> getZoneIdsByFilterString() {
+        return DateUtilities.getZoneIdsByFilterString(FILTERS[cursor++ % FILTERS.length]);
+    }
+}
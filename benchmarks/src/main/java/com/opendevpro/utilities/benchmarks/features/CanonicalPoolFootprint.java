@@ -0,0 +1,85 @@
+package com.opendevpro.utilities.benchmarks.features;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Random;
+
+import com.opendevpro.utilities.CanonicalDatePool;
+import com.opendevpro.utilities.DateUtilities;
+
+/**
+ * Mide el heap retenido al cargar un dataset de fechas con y sin CanonicalDatePool.<br>
+ * <p>
+ * El dataset son COUNT timestamps (semilla fija) repartidos en DAYS dias, la mitad redondeados al minuto. Se convierten
+ * con fromDateToLocalDateByMilliSeconds y fromDateToLocalDateTimeByMilisecond y se guardan en arreglos, como una carga
+ * de archivo. Se compara el heap usado despues de GC y se imprime la estimacion del pool.<br>
+ * <p>
+ * java -Xmx2g -cp benchmarks.jar com.opendevpro.utilities.benchmarks.features.CanonicalPoolFootprint [count] [days]
+ */
+public final class CanonicalPoolFootprint {
+
+    private static final int COUNT = 2_000_000;
+    private static final int DAYS = 3_000;
+
+    private CanonicalPoolFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : COUNT;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : DAYS;
+        long[] millis = dataset(count, days);
+        ZoneId zone = ZoneId.of("America/Argentina/Buenos_Aires");
+
+        CanonicalDatePool.disable();
+        long plain = retainedBytes(millis, zone);
+        CanonicalDatePool.enable();
+        long pooled = retainedBytes(millis, zone);
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        CanonicalDatePool.disable();
+
+        System.out.printf("dataset: %,d valores en %,d dias%n", count, days);
+        System.out.printf("heap retenido sin pool: %,d bytes%n", plain);
+        System.out.printf("heap retenido con pool: %,d bytes (incluye el pool)%n", pooled);
+        System.out.printf("ahorro medido:          %,d bytes (%.1f%%)%n", plain - pooled, 100.0 * (plain - pooled) / plain);
+        System.out.printf("ahorro estimado:        %,d bytes, pool: %,d bytes%n", pool.savedBytesEstimate(), pool.footprintBytes());
+        System.out.println(pool);
+    }
+
+    private static long[] dataset(int count, int days) {
+        Random random = new Random(42);
+        long first = LocalDate.of(2015, 1, 1).toEpochDay() * 86_400_000L;
+        long[] millis = new long[count];
+        for (int i = 0; i < count; i++) {
+            long value = first + (long) random.nextInt(days) * 86_400_000L + random.nextInt(86_400_000);
+            millis[i] = i % 2 == 0 ? value - value % 60_000L : value;
+        }
+        return millis;
+    }
+
+    private static long retainedBytes(long[] millis, ZoneId zone) {
+        long before = usedAfterGc();
+        LocalDate[] dates = new LocalDate[millis.length];
+        LocalDateTime[] dateTimes = new LocalDateTime[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            Date date = new Date(millis[i]);
+            dates[i] = DateUtilities.fromDateToLocalDateByMilliSeconds(date, zone);
+            dateTimes[i] = DateUtilities.fromDateToLocalDateTimeByMilisecond(date, zone);
+        }
+        long after = usedAfterGc();
+        // mantiene vivos los arreglos hasta despues de medir
+        if (dates[0] == null || dateTimes[0] == null)
+            throw new IllegalStateException();
+        return after - before;
+    }
+
+    private static long usedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 4; i++)
+            System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,101 @@
+package com.opendevpro.utilities.benchmarks.features;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateCodec;
+
+/**
+ * DateCodec contra texto ("yyyy-MM-dd'T'HH:mm:ss.SSS" en UTF-8) para SIZE LocalDateTime con milis, ordenados.<br>
+ * <p>
+ * Cada invocacion codifica o decodifica el arreglo completo. Al iniciar imprime los bytes de cada formato.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateCodecBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final DateTimeFormatter TEXT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    @Param({ "FIXED", "VARINT", "DELTA" })
+    public DateCodec.Encoding encoding;
+
+    private LocalDateTime[] values;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+    private byte[][] text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new LocalDateTime[SIZE];
+        LocalDateTime current = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int i = 0; i < SIZE; i++) {
+            current = current.plusSeconds(random.nextInt(3_600)).withNano(random.nextInt(1_000) * 1_000_000);
+            values[i] = current;
+        }
+        buffer = ByteBuffer.allocate(SIZE * 32);
+        DateCodec.writeLocalDateTimes(buffer, values, encoding);
+        buffer.flip();
+        encoded = ByteBuffer.allocate(buffer.remaining());
+        encoded.put(buffer).flip();
+        buffer.clear();
+        text = new byte[SIZE][];
+        int textBytes = 0;
+        for (int i = 0; i < SIZE; i++) {
+            text[i] = TEXT.format(values[i]).getBytes(StandardCharsets.UTF_8);
+            textBytes += text[i].length;
+        }
+        System.out.println();
+        System.out.println(encoding + ": " + encoded.remaining() + " bytes, texto: " + textBytes + " bytes");
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        DateCodec.writeLocalDateTimes(buffer, values, encoding);
+        return buffer;
+    }
+
+    @Benchmark
+    public LocalDateTime[] decode() {
+        encoded.rewind();
+        return DateCodec.readLocalDateTimes(encoded);
+    }
+
+    @Benchmark
+    public ByteBuffer formatText() {
+        buffer.clear();
+        for (LocalDateTime value : values)
+            buffer.put(TEXT.format(value).getBytes(StandardCharsets.UTF_8));
+        return buffer;
+    }
+
+    @Benchmark
+    public LocalDateTime[] parseText() {
+        LocalDateTime[] result = new LocalDateTime[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            result[i] = LocalDateTime.parse(new String(text[i], StandardCharsets.UTF_8), TEXT);
+        return result;
+    }
+}
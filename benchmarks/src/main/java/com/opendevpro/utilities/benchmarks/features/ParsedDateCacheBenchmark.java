@@ -0,0 +1,119 @@
+package com.opendevpro.utilities.benchmarks.features;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opendevpro.utilities.DateUtilities;
+import com.opendevpro.utilities.ParsedDateCache;
+
+/**
+ * Feed de SIZE filas con DISTINCT fechas distintas (DD_MM_YYYY_SLASH y DD_MMM_YYYY_DASH), una de cada 8 invalida,
+ * con y sin ParsedDateCache.<br>
+ * <p>
+ * Cada invocacion recorre el feed completo con isValidDate, fromStringToLocalDate (solo las validas) o parsearFecha. Al terminar imprime
+ * el hit rate del cache.<br>
+ * <p>
+ * Medido (JDK 17, us por feed de 4096 filas, sin cache / con cache): isValidDate 438 / 113,
+ * fromStringToLocalDate 485 / 140, parsearFecha 5107 / 161.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsedDateCacheBenchmark {
+
+    private static final int SIZE = 4096;
+    private static final int DISTINCT = 32;
+
+    @Param({ "false", "true" })
+    public boolean cached;
+
+    private String[] rows;
+    private String[] patterns;
+    private boolean[] valid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(25);
+        String[] distinct = new String[DISTINCT];
+        String[] distinctPatterns = new String[DISTINCT];
+        for (int i = 0; i < DISTINCT; i++) {
+            String pattern = i % 2 == 0 ? DateUtilities.DD_MM_YYYY_SLASH : DateUtilities.DD_MMM_YYYY_DASH;
+            String text = DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)), pattern);
+            distinct[i] = i % 8 == 7 ? "31" + text.substring(2).replace('1', '4') : text;
+            distinctPatterns[i] = pattern;
+        }
+        rows = new String[SIZE];
+        patterns = new String[SIZE];
+        valid = new boolean[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int pick = random.nextInt(DISTINCT);
+            // copias distintas del mismo texto, como las que deja el lector del archivo
+            rows[i] = new String(distinct[pick].toCharArray());
+            patterns[i] = distinctPatterns[pick];
+            valid[i] = DateUtilities.isValidDate(rows[i], patterns[i]);
+        }
+        if (cached)
+            ParsedDateCache.enable();
+        else
+            ParsedDateCache.disable();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParsedDateCache cache = ParsedDateCache.shared();
+        if (cache != null)
+            System.out.println(System.lineSeparator() + cache + ", hitRate=" + cache.hitRate());
+        ParsedDateCache.disable();
+    }
+
+    @Benchmark
+    public int isValidDate() {
+        int valid = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (DateUtilities.isValidDate(rows[i], patterns[i]))
+                valid++;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public long fromStringToLocalDate() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (valid[i])
+                sum += DateUtilities.fromStringToLocalDate(rows[i], patterns[i]).toEpochDay();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parsearFecha() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            try {
+                sum += DateUtilities.parsearFecha(rows[i], patterns[i]).getTime();
+            } catch (IOException e) {
+                sum--;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,155 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Validacion y parseo de columnas de fechas completas (imports nocturnos de millones de filas).<br>
+ * <p>
+ * En lugar de llamar a isValidDate o fromStringToLocalDate(String, String) una vez por celda, el pattern se resuelve
+ * una sola vez y los valores se recorren con DateValidationEngine sin excepciones ni objetos por celda.<br>
+ * <p>
+ * Las columnas chicas (menos de INLINE_THRESHOLD valores) se procesan en el hilo que llama, las grandes se reparten
+ * en el ForkJoinPool comun.<br>
+ * <p>
+ * Igual que isValidDate, un valor null se considera valido para la validacion, en parseEpochDays devuelve el valor invalido.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * BitSet validas = BulkDateUtilities.validateDates(columna, DateUtilities.DD_MM_YYYY_SLASH);<br>
+ * int[] epochDays = BulkDateUtilities.parseEpochDays(columna, DateUtilities.DD_MM_YYYY_SLASH);
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class BulkDateUtilities {
+
+    /**
+     * Valor que devuelve parseEpochDays para las fechas invalidas o fuera del rango de int.
+     */
+    public static final int INVALID_EPOCH_DAY = Integer.MIN_VALUE;
+
+    /**
+     * Hasta esta cantidad de valores se procesa en el hilo que llama.
+     */
+    public static final int INLINE_THRESHOLD = 4096;
+
+    private BulkDateUtilities() {
+    }
+
+    /**
+     * Valida cada valor con el pattern, el bit i queda en 1 si values[i] es una fecha valida.<br>
+     * <p>
+     * Mismas respuestas que DateUtilities.isValidDate(values[i], pattern).
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return BitSet.
+     */
+    public static BitSet validateDates(String[] values, String pattern) {
+        return validateDates(values, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public static BitSet validateDates(List<String> values, String pattern) {
+        return validateDates(values.toArray(new String[0]), pattern);
+    }
+
+    /**
+     * Igual que validateDates(String[], String) pero con un Locale para los patterns MMM.
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return BitSet.
+     */
+    public static BitSet validateDates(String[] values, String pattern, Locale locale) {
+        Column column = new Column(values, pattern, locale);
+        long[] words = new long[(values.length + 63) >>> 6];
+        // cortes en multiplos de 64 para que cada hoja escriba palabras propias del BitSet
+        ParallelRanges.run(values.length, true, INLINE_THRESHOLD, Long.SIZE, (from, to) -> {
+            DateFields fields = new DateFields();
+            for (int i = from; i < to; i++) {
+                if (column.isValid(values[i], fields))
+                    words[i >>> 6] |= 1L << i;
+            }
+        });
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Parsea cada valor a epoch-day (LocalDate.toEpochDay()) sin crear LocalDate.<br>
+     * <p>
+     * Las fechas invalidas, null o fuera del rango de int quedan en INVALID_EPOCH_DAY.
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return int[].
+     */
+    public static int[] parseEpochDays(String[] values, String pattern) {
+        return parseEpochDays(values, pattern, Locale.getDefault(Locale.Category.FORMAT), INVALID_EPOCH_DAY);
+    }
+
+    public static int[] parseEpochDays(List<String> values, String pattern) {
+        return parseEpochDays(values.toArray(new String[0]), pattern);
+    }
+
+    /**
+     * Igual que parseEpochDays(String[], String) con Locale y valor para las fechas invalidas a eleccion.
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return int[].
+     */
+    public static int[] parseEpochDays(String[] values, String pattern, Locale locale, int invalidValue) {
+        Column column = new Column(values, pattern, locale);
+        int[] epochDays = new int[values.length];
+        ParallelRanges.run(values.length, true, INLINE_THRESHOLD, (from, to) -> {
+            DateFields fields = new DateFields();
+            for (int i = from; i < to; i++)
+                epochDays[i] = column.epochDay(values[i], fields, invalidValue);
+        });
+        return epochDays;
+    }
+
+    /*
+     * Estado de solo lectura compartido por todas las hojas de una misma llamada.
+     */
+    private static final class Column {
+        final String[] values;
+        final Locale locale;
+        final CompiledDatePattern compiled;
+        final DateTimeFormatter formatter;
+
+        Column(String[] values, String pattern, Locale locale) {
+            this.values = values;
+            this.locale = locale;
+            this.compiled = DateValidationEngine.compiled(pattern);
+            this.formatter = compiled == null ? FormatterCache.shared().get(pattern, locale) : null;
+        }
+
+        boolean isValid(String value, DateFields fields) {
+            if (value == null)
+                return true;
+            if (compiled != null)
+                return compiled.parseFully(value, locale, fields);
+            try {
+                LocalDate.parse(value, formatter);
+                return true;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+
+        int epochDay(String value, DateFields fields, int invalidValue) {
+            if (value == null)
+                return invalidValue;
+            long epochDay;
+            if (compiled != null) {
+                if (!compiled.parseFully(value, locale, fields))
+                    return invalidValue;
+                epochDay = fields.epochDay;
+            } else {
+                try {
+                    epochDay = LocalDate.parse(value, formatter).toEpochDay();
+                } catch (DateTimeParseException e) {
+                    return invalidValue;
+                }
+            }
+            return epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE ? invalidValue : (int) epochDay;
+        }
+    }
+}
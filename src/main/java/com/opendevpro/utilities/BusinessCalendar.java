@@ -0,0 +1,373 @@
+package com.opendevpro.utilities;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Calendario de dias habiles precalculado (fin de semana mas feriados) para vencimientos de SLA y planificadores.<br>
+ * <p>
+ * En lugar de recorrer los dias uno por uno, el rango de años se guarda como un bitset de dias habiles (un bit por dia,
+ * desde el 1 de enero de fromYear) con la suma acumulada de dias habiles al inicio de cada palabra de 64 bits:<br>
+ * - isBusinessDay y businessDaysBetween: O(1), una resta de sumas acumuladas y un bitCount.<br>
+ * - plusBusinessDays, nextBusinessDay y previousBusinessDay: busqueda binaria sobre las sumas acumuladas, O(log dias).<br>
+ * Fuera del rango no hay feriados y se calcula con aritmetica de semanas, tambien sin recorrer dias. El rango se extiende
+ * solo para cubrir todos los feriados.<br>
+ * <p>
+ * Es inmutable, se puede compartir entre hilos y guardar en un campo estatico.<br>
+ * <p>
+ * Los conteos son del dia inicial incluido al final excluido, como ChronoUnit.DAYS.between: negativos si end es anterior a start.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * BusinessCalendar calendario = new BusinessCalendar(feriados);<br>
+ * LocalDate vencimiento = calendario.plusBusinessDays(alta, 5);<br>
+ * long[] demoras = calendario.businessDaysBetween(altas, cierres, true);
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class BusinessCalendar {
+
+    public static final int DEFAULT_FROM_YEAR = 1970;
+    public static final int DEFAULT_TO_YEAR = 2100;
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Valor de los conteos en bloque cuando falta una de las dos fechas.
+     */
+    public static final long NULL_COUNT = Long.MIN_VALUE;
+
+    private static final int MAX_YEARS = 10_000;
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final EnumSet<DayOfWeek> weekend;
+    private final int fromYear;
+    private final int toYear;
+    private final long firstDay;
+    private final long endDay;
+    private final long[] words;
+    // prefix[w] = dias habiles en las palabras [0, w)
+    private final int[] prefix;
+    private final int total;
+    private final int holidayCount;
+    // weekPrefix[k] = dias habiles en los primeros k dias contando desde un lunes (k hasta 14)
+    private final int[] weekPrefix = new int[2 * DAYS_PER_WEEK + 1];
+    private final int perWeek;
+
+    /**
+     * Calendario con fin de semana sabado y domingo y el rango por defecto (1970-2100).
+     */
+    public BusinessCalendar(Collection<LocalDate> holidays) {
+        this(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays, DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR);
+    }
+
+    public BusinessCalendar(Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        this(weekend, holidays, DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR);
+    }
+
+    /**
+     * @param weekend => dias no habiles de cada semana.
+     * @param holidays => feriados, los null y los que caen en fin de semana se ignoran.
+     * @param fromYear => primer año precalculado, se extiende si hay feriados anteriores.
+     * @param toYear => ultimo año precalculado, se extiende si hay feriados posteriores.
+     * @exception IllegalArgumentException => si todos los dias son fin de semana, fromYear es mayor a toYear o el rango supera 10000 años.
+     */
+    public BusinessCalendar(Set<DayOfWeek> weekend, Collection<LocalDate> holidays, int fromYear, int toYear) {
+        this.weekend = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+        for (int k = 0; k < 2 * DAYS_PER_WEEK; k++)
+            weekPrefix[k + 1] = weekPrefix[k] + (this.weekend.contains(DayOfWeek.of(k % DAYS_PER_WEEK + 1)) ? 0 : 1);
+        this.perWeek = weekPrefix[DAYS_PER_WEEK];
+        if (perWeek == 0)
+            throw new IllegalArgumentException("El calendario no tiene dias habiles");
+        for (LocalDate holiday : holidays) {
+            if (holiday != null) {
+                fromYear = Math.min(fromYear, holiday.getYear());
+                toYear = Math.max(toYear, holiday.getYear());
+            }
+        }
+        if (fromYear > toYear || (long) toYear - fromYear >= MAX_YEARS)
+            throw new IllegalArgumentException("Rango de años invalido: " + fromYear + " a " + toYear);
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.firstDay = DateFields.toEpochDay(fromYear, 1, 1);
+        this.endDay = DateFields.toEpochDay(toYear + 1L, 1, 1);
+        int span = (int) (endDay - firstDay);
+        this.words = new long[(span + 63) >>> 6];
+        for (int i = 0; i < span; i++) {
+            if (isBusinessWeekday(firstDay + i))
+                words[i >>> 6] |= 1L << i;
+        }
+        int removed = 0;
+        for (LocalDate holiday : holidays) {
+            if (holiday == null)
+                continue;
+            int i = (int) (holiday.toEpochDay() - firstDay);
+            long bit = 1L << i;
+            if ((words[i >>> 6] & bit) != 0) {
+                words[i >>> 6] &= ~bit;
+                removed++;
+            }
+        }
+        this.holidayCount = removed;
+        this.prefix = new int[words.length + 1];
+        for (int w = 0; w < words.length; w++)
+            prefix[w + 1] = prefix[w] + Long.bitCount(words[w]);
+        this.total = prefix[words.length];
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(date.toEpochDay());
+    }
+
+    public boolean isBusinessDay(long epochDay) {
+        if (epochDay < firstDay || epochDay >= endDay)
+            return isBusinessWeekday(epochDay);
+        int i = (int) (epochDay - firstDay);
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Retorna => dias habiles desde start (incluido) hasta end (excluido), negativo si end es anterior a start.
+     * @return long.
+     */
+    public long businessDaysBetween(LocalDate start, LocalDate end) {
+        return rank(end.toEpochDay()) - rank(start.toEpochDay());
+    }
+
+    public long businessDaysBetween(long startEpochDay, long endEpochDay) {
+        return rank(endEpochDay) - rank(startEpochDay);
+    }
+
+    /**
+     * Retorna => el dia habil numero days despues de date (days positivo) o antes (days negativo), date si days es 0.<br>
+     * <p>
+     * date no se cuenta: plusBusinessDays(viernes, 1) es el lunes siguiente si no es feriado.
+     * @exception java.time.DateTimeException => si el resultado queda fuera del rango de LocalDate.
+     * @return LocalDate.
+     */
+    public LocalDate plusBusinessDays(LocalDate date, long days) {
+        return days == 0 ? date : date(plusBusinessDays(date.toEpochDay(), days));
+    }
+
+    public long plusBusinessDays(long epochDay, long days) {
+        if (days == 0)
+            return epochDay;
+        return days > 0 ? select(rank(epochDay + 1) + days - 1) : select(rank(epochDay) + days);
+    }
+
+    /**
+     * Retorna => el primer dia habil posterior a date.
+     * @return LocalDate.
+     */
+    public LocalDate nextBusinessDay(LocalDate date) {
+        return date(select(rank(date.toEpochDay() + 1)));
+    }
+
+    /**
+     * Retorna => el ultimo dia habil anterior a date.
+     * @return LocalDate.
+     */
+    public LocalDate previousBusinessDay(LocalDate date) {
+        return date(select(rank(date.toEpochDay()) - 1));
+    }
+
+    /**
+     * Retorna => date si es habil, si no el siguiente dia habil.
+     * @return LocalDate.
+     */
+    public LocalDate nextOrSameBusinessDay(LocalDate date) {
+        return isBusinessDay(date) ? date : nextBusinessDay(date);
+    }
+
+    public long businessDaysInYear(int year) {
+        return rank(DateFields.toEpochDay(year + 1L, 1, 1)) - rank(DateFields.toEpochDay(year, 1, 1));
+    }
+
+    /**
+     * Igual que businessDaysBetween(starts[i], ends[i]) para cada par, NULL_COUNT si falta alguna de las dos fechas.
+     * @exception IllegalArgumentException => si los arreglos no tienen el mismo largo.
+     * @return long[].
+     */
+    public long[] businessDaysBetween(final LocalDate[] starts, final LocalDate[] ends, boolean parallel) {
+        checkLength(starts.length, ends.length);
+        final long[] result = new long[starts.length];
+        ParallelRanges.run(starts.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                LocalDate start = starts[i];
+                LocalDate end = ends[i];
+                result[i] = start == null || end == null ? NULL_COUNT : rank(end.toEpochDay()) - rank(start.toEpochDay());
+            }
+        });
+        return result;
+    }
+
+    public long[] businessDaysBetween(LocalDate[] starts, LocalDate[] ends) {
+        return businessDaysBetween(starts, ends, false);
+    }
+
+    /**
+     * Igual que businessDaysBetween(LocalDate[], LocalDate[]) con epoch-days (BulkDateUtilities.parseEpochDays,
+     * SqlDateColumns.toEpochDays), los BulkDateUtilities.INVALID_EPOCH_DAY dan NULL_COUNT.
+     * @exception IllegalArgumentException => si los arreglos no tienen el mismo largo.
+     * @return long[].
+     */
+    public long[] businessDaysBetween(final int[] startDays, final int[] endDays, boolean parallel) {
+        checkLength(startDays.length, endDays.length);
+        final long[] result = new long[startDays.length];
+        ParallelRanges.run(startDays.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int start = startDays[i];
+                int end = endDays[i];
+                boolean invalid = start == BulkDateUtilities.INVALID_EPOCH_DAY || end == BulkDateUtilities.INVALID_EPOCH_DAY;
+                result[i] = invalid ? NULL_COUNT : rank(end) - rank(start);
+            }
+        });
+        return result;
+    }
+
+    public long[] businessDaysBetween(int[] startDays, int[] endDays) {
+        return businessDaysBetween(startDays, endDays, false);
+    }
+
+    /**
+     * Igual que plusBusinessDays(dates[i], days) para cada fecha, los null quedan null.
+     * @return LocalDate[].
+     */
+    public LocalDate[] plusBusinessDays(final LocalDate[] dates, final long days, boolean parallel) {
+        final LocalDate[] result = new LocalDate[dates.length];
+        ParallelRanges.run(dates.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (dates[i] != null)
+                    result[i] = plusBusinessDays(dates[i], days);
+            }
+        });
+        return result;
+    }
+
+    public LocalDate[] plusBusinessDays(LocalDate[] dates, long days) {
+        return plusBusinessDays(dates, days, false);
+    }
+
+    public Set<DayOfWeek> getWeekend() {
+        return EnumSet.copyOf(weekend);
+    }
+
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    public int getToYear() {
+        return toYear;
+    }
+
+    /**
+     * Retorna => feriados que caen en dias de semana habiles (los que cambian algun conteo).
+     * @return int.
+     */
+    public int holidayCount() {
+        return holidayCount;
+    }
+
+    /**
+     * Retorna => bytes estimados del bitset y las sumas acumuladas.
+     * @return long.
+     */
+    public long footprintBytes() {
+        return (long) words.length * Long.BYTES + (long) prefix.length * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return "BusinessCalendar[weekend=" + weekend + ", years=" + fromYear + "-" + toYear + ", holidays=" + holidayCount
+            + ", businessDays=" + total + "]";
+    }
+
+    /*
+     * Dias habiles antes de epochDay, contando desde firstDay (negativo antes del rango).
+     * businessDaysBetween(a, b) = rank(b) - rank(a).
+     */
+    private long rank(long epochDay) {
+        if (epochDay < firstDay)
+            return -weekdayCount(epochDay, firstDay);
+        if (epochDay >= endDay)
+            return total + weekdayCount(endDay, epochDay);
+        int i = (int) (epochDay - firstDay);
+        return prefix[i >>> 6] + Long.bitCount(words[i >>> 6] & ((1L << i) - 1));
+    }
+
+    /*
+     * El dia habil con rank k.
+     */
+    private long select(long k) {
+        if (k < 0)
+            return selectBackward(firstDay, -k - 1);
+        if (k >= total)
+            return selectForward(endDay, k - total);
+        // ultima palabra con prefix[w] <= k
+        int low = 0;
+        int high = words.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (prefix[middle] <= k)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        long word = words[low];
+        for (long skip = k - prefix[low]; skip > 0; skip--)
+            word &= word - 1;
+        return firstDay + ((long) low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    // dias habiles de semana (sin feriados) en [start, end), start <= end
+    private long weekdayCount(long start, long end) {
+        long days = end - start;
+        int dayOfWeek = dayOfWeekIndex(start);
+        int rest = (int) (days % DAYS_PER_WEEK);
+        return days / DAYS_PER_WEEK * perWeek + weekPrefix[dayOfWeek + rest] - weekPrefix[dayOfWeek];
+    }
+
+    // el dia habil de semana numero m (desde 0) a partir de start inclusive
+    private long selectForward(long start, long m) {
+        long day = start + m / perWeek * DAYS_PER_WEEK;
+        long rest = m % perWeek;
+        while (true) {
+            if (isBusinessWeekday(day) && rest-- == 0)
+                return day;
+            day++;
+        }
+    }
+
+    // el dia habil de semana numero m (desde 0) hacia atras desde end exclusive
+    private long selectBackward(long end, long m) {
+        long day = end - m / perWeek * DAYS_PER_WEEK - 1;
+        long rest = m % perWeek;
+        while (true) {
+            if (isBusinessWeekday(day) && rest-- == 0)
+                return day;
+            day--;
+        }
+    }
+
+    private boolean isBusinessWeekday(long epochDay) {
+        int dayOfWeek = dayOfWeekIndex(epochDay);
+        return weekPrefix[dayOfWeek + 1] != weekPrefix[dayOfWeek];
+    }
+
+    // 0 = lunes, el 01/01/1970 fue jueves
+    private static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, (long) DAYS_PER_WEEK);
+    }
+
+    private static void checkLength(int starts, int ends) {
+        if (starts != ends)
+            throw new IllegalArgumentException("Los arreglos no tienen el mismo largo: " + starts + " y " + ends);
+    }
+
+    private static LocalDate date(long epochDay) {
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        return pool != null ? pool.date(epochDay) : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,69 @@
+package com.opendevpro.utilities;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Vista reutilizable de una porcion de un ByteBuffer como CharSequence ASCII (cada byte es un char).<br>
+ * <p>
+ * Permite pasar las celdas de un archivo mapeado a CompiledDatePattern sin crear un String por celda.<br>
+ * Solo es correcta para texto ASCII, los bytes >= 0x80 (UTF-8 multi-byte) se tienen que decodificar aparte.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class ByteCharSequence implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    ByteCharSequence wrap(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    boolean isAscii() {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Decodifica la porcion como UTF-8, solo para las celdas que no son ASCII.
+     */
+    String decodeUtf8() {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+            bytes[i] = buffer.get(offset + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+        return new String(chars);
+    }
+}
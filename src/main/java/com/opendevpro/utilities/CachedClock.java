@@ -0,0 +1,308 @@
+package com.opendevpro.utilities;
+
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reloj con la hora actual ya formateada para los patterns registrados.<br>
+ * <p>
+ * convertDateToIsoDateToSpecificPattern(new Date(), ISO_DATE_TIME_FORMAT_MINUTES) cambia una vez por minuto, pero cada
+ * llamada crea un Date y formatea. CachedClock guarda el texto de cada pattern con el intervalo en que es valido
+ * (segun el campo mas fino del pattern: milisegundo, segundo, minuto, hora o dia, y cortado en los cambios de horario)
+ * y solo lo vuelve a formatear cuando el intervalo termina.<br>
+ * <p>
+ * Dos modos:<br>
+ * - lazy (por defecto): cada lectura consulta el Clock y reformatea si el intervalo vencio.<br>
+ * - ticker: startTicker() refresca todo en un hilo de fondo y las lecturas no consultan el Clock
+ * (el texto puede atrasar hasta un periodo del ticker).<br>
+ * <p>
+ * Las lecturas no usan locks: cada pattern publica un valor inmutable en un campo volatile.<br>
+ * <p>
+ * El TimeZone y el Locale se fijan al crear el reloj, el texto es el mismo que da SimpleDateFormat con esos valores.
+ * El Clock es configurable para tests deterministicos.<br>
+ * <p>
+ * Ejemplo => CachedClock.shared().now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES)
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class CachedClock implements AutoCloseable {
+
+    /**
+     * Maximo de patterns por reloj: al registrar uno mas se descarta otro (se vuelve a registrar si se lo pide de nuevo).
+     */
+    public static final int MAXIMUM_PATTERNS = 64;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final Clock clock;
+    private final TimeZone zone;
+    private final ZoneRules rules;
+    private final Locale locale;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder refreshes = new LongAdder();
+    private volatile long tickMillis;
+    private volatile boolean ticking;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Reloj del sistema con el TimeZone y el Locale por defecto actuales.
+     */
+    public CachedClock() {
+        this(Clock.systemUTC(), TimeZone.getDefault(), Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * @param clock => fuente de la hora (Clock.fixed / offset en tests).
+     * @param zone => TimeZone con el que se formatea.
+     * @param locale => Locale con el que se formatea (nombres de zona y de mes).
+     */
+    public CachedClock(Clock clock, TimeZone zone, Locale locale) {
+        if (clock == null || zone == null || locale == null)
+            throw new NullPointerException("clock, zone y locale son obligatorios");
+        this.clock = clock;
+        this.zone = (TimeZone) zone.clone();
+        this.rules = zone.toZoneId().getRules();
+        this.locale = locale;
+        this.tickMillis = clock.millis();
+    }
+
+    private static final class Holder {
+        static final CachedClock INSTANCE = new CachedClock();
+    }
+
+    /**
+     * Retorna => reloj compartido en modo lazy, con el TimeZone y Locale por defecto del primer uso.
+     * @return CachedClock.
+     */
+    public static CachedClock shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Registra el pattern y formatea la hora actual, las siguientes lecturas ya no lo compilan.<br>
+     * @exception IllegalArgumentException => si el pattern no es valido para SimpleDateFormat.
+     * @return CachedClock => this.
+     */
+    public CachedClock register(String pattern) {
+        entry(pattern);
+        return this;
+    }
+
+    /**
+     * Retorna => la hora actual formateada con el pattern (se registra si no estaba).
+     * @return String.
+     */
+    public String now(String pattern) {
+        Entry entry = entry(pattern);
+        Stamp stamp = entry.stamp;
+        if (ticking)
+            return stamp.text;
+        long now = clock.millis();
+        if (now >= stamp.validFrom && now < stamp.validUntil)
+            return stamp.text;
+        return entry.refresh(now).text;
+    }
+
+    /**
+     * Retorna => milisegundos actuales: el Clock en modo lazy, el ultimo tick en modo ticker.
+     * @return long.
+     */
+    public long millis() {
+        return ticking ? tickMillis : clock.millis();
+    }
+
+    /**
+     * Inicia el hilo de fondo (daemon) que refresca los patterns registrados cada period.<br>
+     * <p>
+     * Si ya estaba iniciado no hace nada.
+     * @return CachedClock => this.
+     */
+    public synchronized CachedClock startTicker(long period, TimeUnit unit) {
+        if (ticker != null)
+            return this;
+        if (period <= 0)
+            throw new IllegalArgumentException("period debe ser mayor a cero: " + period);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opendevpro-cached-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tick();
+        ticking = true;
+        ticker.scheduleAtFixedRate(this::tick, period, period, unit);
+        return this;
+    }
+
+    /**
+     * Detiene el ticker y vuelve al modo lazy.
+     */
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticking = false;
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Refresca ahora todos los patterns vencidos (lo que hace el ticker en cada periodo).
+     */
+    public void tick() {
+        long now = clock.millis();
+        tickMillis = now;
+        for (Entry entry : entries.values()) {
+            Stamp stamp = entry.stamp;
+            if (now < stamp.validFrom || now >= stamp.validUntil)
+                entry.refresh(now);
+        }
+    }
+
+    /**
+     * Retorna => cantidad de veces que se formateo un pattern.
+     * @return long.
+     */
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    public boolean isTicking() {
+        return ticking;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedClock[zone=" + zone.getID() + ", locale=" + locale + ", patterns=" + entries.size()
+            + ", refreshes=" + refreshCount() + ", ticking=" + ticking + "]";
+    }
+
+    private Entry entry(String pattern) {
+        Entry entry = entries.get(pattern);
+        if (entry == null) {
+            Entry created = new Entry(pattern);
+            if (entries.size() >= MAXIMUM_PATTERNS)
+                evictOne();
+            entry = entries.putIfAbsent(pattern, created);
+            if (entry == null)
+                entry = created;
+        }
+        return entry;
+    }
+
+    /*
+     * Descarta cualquier pattern: con patterns armados en tiempo de ejecucion el mapa no crece sin limite.
+     */
+    private void evictOne() {
+        Iterator<String> patterns = entries.keySet().iterator();
+        if (patterns.hasNext()) {
+            patterns.next();
+            patterns.remove();
+        }
+    }
+
+    int patternCount() {
+        return entries.size();
+    }
+
+    /*
+     * Milisegundos del campo mas fino del pattern de SimpleDateFormat (fuera de los textos entre comillas).
+     */
+    static long resolutionMillis(String pattern) {
+        long resolution = MILLIS_PER_DAY;
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+                continue;
+            }
+            if (quoted)
+                continue;
+            switch (c) {
+                case 'S':
+                    return 1L;
+                case 's':
+                    resolution = Math.min(resolution, 1_000L);
+                    break;
+                case 'm':
+                    resolution = Math.min(resolution, 60_000L);
+                    break;
+                case 'H':
+                case 'h':
+                case 'k':
+                case 'K':
+                case 'a':
+                    resolution = Math.min(resolution, 3_600_000L);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return resolution;
+    }
+
+    private final class Entry {
+        final SimpleDateFormat format;
+        final long resolution;
+        volatile Stamp stamp;
+
+        Entry(String pattern) {
+            this.format = new SimpleDateFormat(pattern, locale);
+            this.format.setTimeZone(zone);
+            this.resolution = resolutionMillis(pattern);
+            this.stamp = create(clock.millis());
+        }
+
+        synchronized Stamp refresh(long now) {
+            Stamp current = stamp;
+            if (now >= current.validFrom && now < current.validUntil)
+                return current;
+            Stamp created = create(now);
+            stamp = created;
+            return created;
+        }
+
+        // llamado desde el constructor o con el lock de la entrada
+        private Stamp create(long now) {
+            refreshes.increment();
+            long localMillis = now + zone.getOffset(now);
+            long from = now - Math.floorMod(localMillis, resolution);
+            long until = from + resolution;
+            if (resolution > 1) {
+                // un cambio de horario dentro del intervalo cambia el texto (hora, offset o nombre de zona)
+                ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochMilli(now + 1));
+                ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochMilli(now));
+                if (previous != null)
+                    from = Math.max(from, previous.toEpochSecond() * 1_000L);
+                if (next != null)
+                    until = Math.min(until, next.toEpochSecond() * 1_000L);
+            }
+            return new Stamp(from, until, format.format(new Date(now)));
+        }
+    }
+
+    private static final class Stamp {
+        final long validFrom;
+        final long validUntil;
+        final String text;
+
+        Stamp(long validFrom, long validUntil, String text) {
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de instancias canonicas de LocalDate y LocalDateTime (resolucion de minuto) para cargas grandes.<br>
+ * <p>
+ * Al parsear o convertir millones de fechas quedan en el heap millones de LocalDate iguales, aunque los datos reales
+ * tengan unos pocos miles de dias distintos. Con el pool activado las conversiones devuelven siempre la misma instancia
+ * para el mismo dia (o minuto), y las copias repetidas no se retienen.<br>
+ * <p>
+ * - LocalDate: arreglo precargado indexado por epoch-day para el rango [from, to]. Fuera del rango se crea una instancia nueva.<br>
+ * - LocalDateTime: tabla acotada de dateTimeSlots entradas indexada por epoch-minuto local (mapeo directo, una entrada pisa
+ * a otra si caen en el mismo lugar). Solo se comparten los valores sin segundos ni nanos, comparten tambien el LocalDate
+ * del dia y el LocalTime del minuto.<br>
+ * <p>
+ * Las lecturas no usan locks: LocalDate y LocalDateTime son inmutables (campos final), una lectura que compite con una
+ * escritura ve la instancia anterior o la nueva, las dos correctas.<br>
+ * <p>
+ * Las instancias son iguales (equals) a las que se crearian, solo cambia la identidad: no usar == ni synchronized sobre ellas.<br>
+ * <p>
+ * fromStringToLocalDate y los fromDateToLocalDate* / fromDateToLocalDateTime* lo usan si se activa con CanonicalDatePool.enable().
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class CanonicalDatePool {
+
+    public static final LocalDate DEFAULT_FROM = LocalDate.of(1900, 1, 1);
+    public static final LocalDate DEFAULT_TO = LocalDate.of(2099, 12, 31);
+    public static final int DEFAULT_DATE_TIME_SLOTS = 1 << 16;
+
+    /**
+     * Tamaño estimado en bytes de un LocalDate (header de 12 + int + short + short, alineado a 8) con compressed oops.
+     */
+    public static final int LOCAL_DATE_BYTES = 24;
+
+    /**
+     * Tamaño estimado en bytes de un LocalDateTime con su LocalDate y su LocalTime.
+     */
+    public static final int LOCAL_DATE_TIME_BYTES = 3 * 24;
+
+    private static final int MAX_DAYS = 1_000_000;
+    private static final int MINUTES_PER_DAY = 1_440;
+    private static final int REFERENCE_BYTES = 4;
+    private static final LocalTime[] MINUTES = new LocalTime[MINUTES_PER_DAY];
+
+    static {
+        for (int i = 0; i < MINUTES_PER_DAY; i++)
+            MINUTES[i] = LocalTime.of(i / 60, i % 60);
+    }
+
+    private static volatile CanonicalDatePool shared;
+
+    private final long firstDay;
+    private final LocalDate[] dates;
+    private final LocalDateTime[] dateTimes;
+    private final int slotMask;
+    private final LongAdder dateHits = new LongAdder();
+    private final LongAdder dateMisses = new LongAdder();
+    private final LongAdder dateTimeHits = new LongAdder();
+    private final LongAdder dateTimeMisses = new LongAdder();
+    // LocalDateTime creados con un dia fuera del rango (solo comparten el LocalTime)
+    private final LongAdder dateTimeOutside = new LongAdder();
+
+    /**
+     * @param from => primer dia precargado.
+     * @param to => ultimo dia precargado.
+     * @param dateTimeSlots => entradas de la tabla de LocalDateTime, se redondea a potencia de 2 (con 0 no se guardan, solo se comparten su LocalDate y su LocalTime).
+     * @exception IllegalArgumentException => si from es posterior a to, el rango supera 1000000 dias o dateTimeSlots es negativo.
+     */
+    public CanonicalDatePool(LocalDate from, LocalDate to, int dateTimeSlots) {
+        long days = to.toEpochDay() - from.toEpochDay() + 1;
+        if (days <= 0 || days > MAX_DAYS)
+            throw new IllegalArgumentException("Rango invalido: " + from + " a " + to);
+        if (dateTimeSlots < 0 || dateTimeSlots > 1 << 30)
+            throw new IllegalArgumentException("dateTimeSlots invalido: " + dateTimeSlots);
+        this.firstDay = from.toEpochDay();
+        this.dates = new LocalDate[(int) days];
+        for (int i = 0; i < dates.length; i++)
+            dates[i] = LocalDate.ofEpochDay(firstDay + i);
+        int slots = dateTimeSlots <= 1 ? dateTimeSlots : Integer.highestOneBit(dateTimeSlots - 1) << 1;
+        this.dateTimes = new LocalDateTime[slots];
+        this.slotMask = slots - 1;
+    }
+
+    /**
+     * Activa el pool compartido con el rango y la tabla por defecto (1900-2099, DEFAULT_DATE_TIME_SLOTS).
+     */
+    public static void enable() {
+        enable(DEFAULT_FROM, DEFAULT_TO, DEFAULT_DATE_TIME_SLOTS);
+    }
+
+    public static void enable(LocalDate from, LocalDate to, int dateTimeSlots) {
+        shared = new CanonicalDatePool(from, to, dateTimeSlots);
+    }
+
+    public static void disable() {
+        shared = null;
+    }
+
+    /**
+     * Retorna => el pool compartido, null si no esta activado o si el hilo actual corre DateWarmUp.
+     * @return CanonicalDatePool.
+     */
+    public static CanonicalDatePool shared() {
+        CanonicalDatePool pool = shared;
+        // el calentamiento no debe llenar el pool con sus fechas sinteticas
+        return pool != null && DateWarmUp.isActive() ? null : pool;
+    }
+
+    /**
+     * Retorna => la instancia canonica de LocalDate.ofEpochDay(epochDay), o una nueva fuera del rango.
+     * @exception java.time.DateTimeException => si el epoch-day esta fuera del rango de LocalDate.
+     * @return LocalDate.
+     */
+    public LocalDate date(long epochDay) {
+        long index = epochDay - firstDay;
+        if (index >= 0 && index < dates.length) {
+            dateHits.increment();
+            return dates[(int) index];
+        }
+        dateMisses.increment();
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Retorna => la instancia canonica igual a date, o date si esta fuera del rango.
+     * @return LocalDate.
+     */
+    public LocalDate canonical(LocalDate date) {
+        long index = date.toEpochDay() - firstDay;
+        if (index >= 0 && index < dates.length) {
+            dateHits.increment();
+            return dates[(int) index];
+        }
+        dateMisses.increment();
+        return date;
+    }
+
+    /**
+     * Retorna => la instancia canonica del minuto local (minutos desde 1970-01-01T00:00 sin zona).
+     * @exception java.time.DateTimeException => si el minuto esta fuera del rango de LocalDateTime.
+     * @return LocalDateTime.
+     */
+    public LocalDateTime dateTime(long localEpochMinute) {
+        long epochDay = Math.floorDiv(localEpochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(localEpochMinute, MINUTES_PER_DAY);
+        if (dateTimes.length == 0) {
+            dateTimeMisses.increment();
+            return LocalDateTime.of(sharedDate(epochDay), MINUTES[minuteOfDay]);
+        }
+        int slot = slot(localEpochMinute);
+        LocalDateTime cached = dateTimes[slot];
+        if (cached != null && cached.toLocalDate().toEpochDay() == epochDay
+                && cached.getHour() * 60 + cached.getMinute() == minuteOfDay) {
+            dateTimeHits.increment();
+            return cached;
+        }
+        dateTimeMisses.increment();
+        LocalDateTime created = LocalDateTime.of(sharedDate(epochDay), MINUTES[minuteOfDay]);
+        dateTimes[slot] = created;
+        return created;
+    }
+
+    /**
+     * Retorna => la instancia canonica igual a dateTime, o dateTime si tiene segundos o nanos.
+     * @return LocalDateTime.
+     */
+    public LocalDateTime canonical(LocalDateTime dateTime) {
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0)
+            return dateTime;
+        return dateTime(dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY + dateTime.getHour() * 60 + dateTime.getMinute());
+    }
+
+    /**
+     * Retorna => LocalDate devueltos del arreglo precargado.
+     * @return long.
+     */
+    public long dateHitCount() {
+        return dateHits.sum();
+    }
+
+    /**
+     * Retorna => LocalDate fuera del rango (instancia nueva).
+     * @return long.
+     */
+    public long dateMissCount() {
+        return dateMisses.sum();
+    }
+
+    /**
+     * Retorna => LocalDateTime encontrados en la tabla.
+     * @return long.
+     */
+    public long dateTimeHitCount() {
+        return dateTimeHits.sum();
+    }
+
+    /**
+     * Retorna => LocalDateTime creados (no estaban o se pisaron en la tabla).
+     * @return long.
+     */
+    public long dateTimeMissCount() {
+        return dateTimeMisses.sum();
+    }
+
+    /**
+     * Retorna => bytes estimados que no se retienen porque se devolvio una instancia compartida en lugar de una nueva,
+     * suponiendo que el llamador guarda todos los valores (ej. una lista cargada de un archivo).<br>
+     * <p>
+     * Un LocalDateTime creado en la tabla igual comparte su LocalTime y, dentro del rango, su LocalDate.
+     * @return long.
+     */
+    public long savedBytesEstimate() {
+        long created = dateTimeMisses.sum();
+        long outside = dateTimeOutside.sum();
+        return dateHits.sum() * LOCAL_DATE_BYTES + dateTimeHits.sum() * LOCAL_DATE_TIME_BYTES
+            + (created - outside) * 2 * LOCAL_DATE_BYTES + outside * LOCAL_DATE_BYTES;
+    }
+
+    /**
+     * Retorna => bytes estimados que ocupa el pool (arreglo de LocalDate precargado y tabla de LocalDateTime llena).
+     * @return long.
+     */
+    public long footprintBytes() {
+        return (long) dates.length * (REFERENCE_BYTES + LOCAL_DATE_BYTES)
+            + (long) dateTimes.length * (REFERENCE_BYTES + LOCAL_DATE_TIME_BYTES);
+    }
+
+    public int dayCount() {
+        return dates.length;
+    }
+
+    public int dateTimeSlotCount() {
+        return dateTimes.length;
+    }
+
+    /**
+     * Descarta los LocalDateTime de la tabla y los contadores, los LocalDate precargados quedan.
+     */
+    public void clear() {
+        Arrays.fill(dateTimes, null);
+        dateHits.reset();
+        dateMisses.reset();
+        dateTimeHits.reset();
+        dateTimeMisses.reset();
+        dateTimeOutside.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalDatePool[days=" + dates.length + ", dateTimeSlots=" + dateTimes.length + ", dateHits=" + dateHitCount()
+            + ", dateMisses=" + dateMissCount() + ", dateTimeHits=" + dateTimeHitCount() + ", dateTimeMisses=" + dateTimeMissCount()
+            + ", savedBytes=" + savedBytesEstimate() + ", footprintBytes=" + footprintBytes() + "]";
+    }
+
+    // el LocalDate del dia sin contarlo como hit (lo usa la tabla de LocalDateTime)
+    private LocalDate sharedDate(long epochDay) {
+        long index = epochDay - firstDay;
+        if (index >= 0 && index < dates.length)
+            return dates[(int) index];
+        dateTimeOutside.increment();
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    private int slot(long localEpochMinute) {
+        long mixed = localEpochMinute * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & slotMask;
+    }
+}
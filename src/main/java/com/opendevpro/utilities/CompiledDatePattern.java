@@ -0,0 +1,380 @@
+package com.opendevpro.utilities;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+
+/**
+ * Pattern de fecha compilado a una secuencia de segmentos de ancho fijo que se validan directo sobre el CharSequence.<br>
+ * <p>
+ * Soporta el subconjunto de letras que usan las constantes de DateUtilities:<br>
+ * dd, MM, MMM, yyyy, HH, mm, ss, SSS, XXX, z y literales (separadores o texto entre comillas simples).<br>
+ * <p>
+ * Para cualquier otro pattern compile() devuelve null y el llamador tiene que usar DateTimeFormatter.<br>
+ * <p>
+ * El parseo no dispara excepciones ni crea objetos. MMM se resuelve con la tabla de MonthNames del Locale y z con
+ * DateTimeFormatter.parseUnresolved(), que tampoco dispara excepciones.<br>
+ * <p>
+ * Reproduce DateTimeFormatter.ofPattern(pattern) con ResolverStyle.SMART:<br>
+ * yyyy acepta 4 digitos sin signo o '+' seguido de mas de 4 digitos, el resto de los campos numericos tienen ancho fijo
+ * y solo se aceptan digitos ASCII.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class CompiledDatePattern {
+
+    static final byte LITERAL = 0;
+    static final byte DAY = 1;
+    static final byte MONTH = 2;
+    static final byte MONTH_TEXT = 3;
+    static final byte YEAR = 4;
+    static final byte HOUR = 5;
+    static final byte MINUTE = 6;
+    static final byte SECOND = 7;
+    static final byte FRACTION = 8;
+    static final byte OFFSET = 9;
+    static final byte ZONE_TEXT = 10;
+
+    private static final int YEAR_MAX_DIGITS = 19;
+
+    private final String pattern;
+    private final byte[] kinds;
+    private final char[] literals;
+    private final boolean hasTime;
+    private final boolean localeSensitive;
+
+    private CompiledDatePattern(String pattern, byte[] kinds, char[] literals) {
+        this.pattern = pattern;
+        this.kinds = kinds;
+        this.literals = literals;
+        boolean time = false;
+        boolean text = false;
+        for (byte kind : kinds) {
+            time |= kind == HOUR;
+            text |= kind == MONTH_TEXT || kind == ZONE_TEXT;
+        }
+        this.hasTime = time;
+        this.localeSensitive = text;
+    }
+
+    /**
+     * Compila el pattern.<br>
+     * @return CompiledDatePattern => null si el pattern usa algo fuera del subconjunto soportado.
+     */
+    static CompiledDatePattern compile(String pattern) {
+        int length = pattern.length();
+        byte[] kinds = new byte[length];
+        char[] literals = new char[length];
+        int count = 0;
+        int seen = 0;
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                int run = 1;
+                while (i + run < length && pattern.charAt(i + run) == c)
+                    run++;
+                byte kind = letterKind(c, run);
+                if (kind == LITERAL || (seen & (1 << kind)) != 0)
+                    return null;
+                seen |= 1 << kind;
+                kinds[count++] = kind;
+                i += run;
+            } else if (c == '\'') {
+                int end = i + 1;
+                if (end < length && pattern.charAt(end) == '\'') {
+                    kinds[count] = LITERAL;
+                    literals[count++] = '\'';
+                    i += 2;
+                    continue;
+                }
+                while (true) {
+                    if (end >= length)
+                        return null;
+                    char q = pattern.charAt(end);
+                    if (q == '\'') {
+                        if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+                            kinds[count] = LITERAL;
+                            literals[count++] = '\'';
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    kinds[count] = LITERAL;
+                    literals[count++] = q;
+                    end++;
+                }
+                i = end + 1;
+            } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            } else {
+                kinds[count] = LITERAL;
+                literals[count++] = c;
+                i++;
+            }
+        }
+        if (!isSupportedLayout(seen, kinds, count))
+            return null;
+        byte[] compactKinds = new byte[count];
+        char[] compactLiterals = new char[count];
+        System.arraycopy(kinds, 0, compactKinds, 0, count);
+        System.arraycopy(literals, 0, compactLiterals, 0, count);
+        return new CompiledDatePattern(pattern, compactKinds, compactLiterals);
+    }
+
+    private static byte letterKind(char letter, int run) {
+        switch (letter) {
+            case 'd':
+                return run == 2 ? DAY : LITERAL;
+            case 'M':
+                return run == 2 ? MONTH : run == 3 ? MONTH_TEXT : LITERAL;
+            case 'y':
+                return run == 4 ? YEAR : LITERAL;
+            case 'H':
+                return run == 2 ? HOUR : LITERAL;
+            case 'm':
+                return run == 2 ? MINUTE : LITERAL;
+            case 's':
+                return run == 2 ? SECOND : LITERAL;
+            case 'S':
+                return run == 3 ? FRACTION : LITERAL;
+            case 'X':
+                return run == 3 ? OFFSET : LITERAL;
+            case 'z':
+                return run == 1 ? ZONE_TEXT : LITERAL;
+            default:
+                return LITERAL;
+        }
+    }
+
+    private static boolean isSupportedLayout(int seen, byte[] kinds, int count) {
+        boolean month = (seen & (1 << MONTH)) != 0;
+        boolean monthText = (seen & (1 << MONTH_TEXT)) != 0;
+        if ((seen & (1 << DAY)) == 0 || (seen & (1 << YEAR)) == 0 || month == monthText)
+            return false;
+        boolean hour = (seen & (1 << HOUR)) != 0;
+        boolean minute = (seen & (1 << MINUTE)) != 0;
+        boolean second = (seen & (1 << SECOND)) != 0;
+        boolean fraction = (seen & (1 << FRACTION)) != 0;
+        if (hour != minute || (second && !minute) || (fraction && !second))
+            return false;
+        // yyyy seguido de un campo numerico activa el "adjacent value parsing" de DateTimeFormatter
+        for (int i = 0; i + 1 < count; i++) {
+            if (kinds[i] == YEAR && isNumeric(kinds[i + 1]))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isNumeric(byte kind) {
+        return kind == DAY || kind == MONTH || kind == YEAR || kind == HOUR
+            || kind == MINUTE || kind == SECOND || kind == FRACTION;
+    }
+
+    String pattern() {
+        return pattern;
+    }
+
+    boolean hasTime() {
+        return hasTime;
+    }
+
+    boolean isLocaleSensitive() {
+        return localeSensitive;
+    }
+
+    int segmentCount() {
+        return kinds.length;
+    }
+
+    byte kind(int segment) {
+        return kinds[segment];
+    }
+
+    char literal(int segment) {
+        return literals[segment];
+    }
+
+    /**
+     * Parsea text desde position y deja los campos en fields (sin resolver).<br>
+     * @return int => posicion siguiente al ultimo caracter consumido, o ~posicion del error si no coincide.
+     */
+    int parse(CharSequence text, int position, Locale locale, DateFields fields) {
+        fields.reset();
+        fields.hasTime = hasTime;
+        int length = text.length();
+        int pos = position;
+        for (int i = 0; i < kinds.length; i++) {
+            int value;
+            switch (kinds[i]) {
+                case LITERAL:
+                    if (pos >= length || text.charAt(pos) != literals[i])
+                        return ~pos;
+                    pos++;
+                    break;
+                case DAY:
+                    if ((value = twoDigits(text, pos, length)) < 0)
+                        return ~pos;
+                    fields.day = value;
+                    pos += 2;
+                    break;
+                case MONTH:
+                    if ((value = twoDigits(text, pos, length)) < 0)
+                        return ~pos;
+                    fields.month = value;
+                    pos += 2;
+                    break;
+                case HOUR:
+                    if ((value = twoDigits(text, pos, length)) < 0)
+                        return ~pos;
+                    fields.hour = value;
+                    pos += 2;
+                    break;
+                case MINUTE:
+                    if ((value = twoDigits(text, pos, length)) < 0)
+                        return ~pos;
+                    fields.minute = value;
+                    pos += 2;
+                    break;
+                case SECOND:
+                    if ((value = twoDigits(text, pos, length)) < 0)
+                        return ~pos;
+                    fields.second = value;
+                    pos += 2;
+                    break;
+                case FRACTION:
+                    if (pos + 3 > length)
+                        return ~pos;
+                    int hundreds = digit(text.charAt(pos));
+                    int tens = digit(text.charAt(pos + 1));
+                    int units = digit(text.charAt(pos + 2));
+                    if ((hundreds | tens | units) < 0)
+                        return ~pos;
+                    fields.nano = (hundreds * 100 + tens * 10 + units) * 1_000_000;
+                    pos += 3;
+                    break;
+                case YEAR:
+                    pos = parseYear(text, pos, length, fields);
+                    if (pos < 0)
+                        return pos;
+                    break;
+                case OFFSET:
+                    pos = parseOffset(text, pos, length, fields);
+                    if (pos < 0)
+                        return pos;
+                    break;
+                case MONTH_TEXT:
+                    long found = MonthNames.of(locale).match(text, pos, false);
+                    if (found < 0)
+                        return ~pos;
+                    fields.month = (int) (found & 0xF);
+                    pos = (int) (found >>> 4);
+                    break;
+                default:
+                    pos = parseZoneText(text, pos, locale);
+                    if (pos < 0)
+                        return pos;
+                    break;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Parsea y resuelve el texto completo.
+     * @return boolean => true si todo el texto coincide con el pattern y es una fecha real.
+     */
+    boolean parseFully(CharSequence text, Locale locale, DateFields fields) {
+        return parse(text, 0, locale, fields) == text.length() && fields.resolve();
+    }
+
+    private static int parseYear(CharSequence text, int position, int length, DateFields fields) {
+        if (position >= length)
+            return ~position;
+        char first = text.charAt(position);
+        boolean signed = first == '+' || first == '-';
+        int start = signed ? position + 1 : position;
+        int pos = start;
+        long value = 0;
+        while (pos < length && pos - start < YEAR_MAX_DIGITS) {
+            int d = digit(text.charAt(pos));
+            if (d < 0)
+                break;
+            if (value <= DateFields.MAX_YEAR)
+                value = value * 10 + d;
+            pos++;
+        }
+        int digits = pos - start;
+        if (digits < 4)
+            return ~position;
+        if (first == '-') {
+            if (value == 0)
+                return ~position;
+            fields.year = -1;
+        } else if (first == '+') {
+            if (digits <= 4)
+                return ~position;
+            fields.year = value > DateFields.MAX_YEAR ? -1 : (int) value;
+        } else {
+            if (digits > 4)
+                return ~position;
+            fields.year = (int) value;
+        }
+        return pos;
+    }
+
+    private static int parseOffset(CharSequence text, int position, int length, DateFields fields) {
+        if (position >= length)
+            return ~position;
+        char sign = text.charAt(position);
+        if (sign == 'Z') {
+            fields.hasOffset = true;
+            fields.offsetSeconds = 0;
+            return position + 1;
+        }
+        if (sign != '+' && sign != '-')
+            return ~position;
+        int hours = twoDigits(text, position + 1, length);
+        if (hours < 0 || hours > 59 || position + 3 >= length || text.charAt(position + 3) != ':')
+            return ~position;
+        int minutes = twoDigits(text, position + 4, length);
+        if (minutes < 0 || minutes > 59)
+            return ~position;
+        fields.hasOffset = true;
+        int total = hours * 3600 + minutes * 60;
+        fields.offsetSeconds = sign == '-' ? -total : total;
+        return position + 6;
+    }
+
+    private static int parseZoneText(CharSequence text, int position, Locale locale) {
+        DateTimeFormatter formatter = FormatterCache.shared().get("z", locale);
+        ParsePosition parsePosition = new ParsePosition(position);
+        TemporalAccessor parsed;
+        try {
+            parsed = formatter.parseUnresolved(text, parsePosition);
+        } catch (DateTimeException e) {
+            // las zonas con offset ("GMT+25:00") pueden disparar la excepcion dentro del parseo
+            return ~position;
+        }
+        if (parsed == null || parsePosition.getErrorIndex() >= 0)
+            return ~position;
+        return parsePosition.getIndex();
+    }
+
+    static int twoDigits(CharSequence text, int position, int length) {
+        if (position + 2 > length)
+            return -1;
+        int tens = digit(text.charAt(position));
+        int units = digit(text.charAt(position + 1));
+        if ((tens | units) < 0)
+            return -1;
+        return tens * 10 + units;
+    }
+
+    static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
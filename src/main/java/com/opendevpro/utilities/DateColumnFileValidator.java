@@ -0,0 +1,303 @@
+package com.opendevpro.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validador de una columna de fechas en archivos delimitados grandes (CSV/TSV de varios GB).<br>
+ * <p>
+ * Equivale a correr firewallIsRealDate / isValidDate sobre cada celda de la columna, pero:<br>
+ * - el archivo se mapea en memoria con FileChannel.map, sin decodificar las lineas a String.<br>
+ * - la columna se busca por delimitador y la fecha se valida directo sobre los bytes (CompiledDatePattern).<br>
+ * - el archivo se divide en bloques cortados en fin de linea que se procesan en paralelo.<br>
+ * <p>
+ * Soporta celdas entre comillas dobles (RFC 4180) siempre que no tengan saltos de linea adentro.<br>
+ * Las celdas que no son ASCII se decodifican como UTF-8 (solo esas crean un String).<br>
+ * <p>
+ * Es inmutable, los metodos with*() devuelven una copia con el cambio.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * DateColumnReport report = new DateColumnFileValidator(';', 3, DateUtilities.DD_MM_YYYY_SLASH).withHeader(true).validate(path);<br>
+ * System.out.println(report.getInvalidRows());
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateColumnFileValidator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+    public static final int DEFAULT_MAX_REPORTED_ROWS = 10_000;
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final char delimiter;
+    private final int column;
+    private final String pattern;
+    private final Locale locale;
+    private final boolean header;
+    private final boolean allowEmpty;
+    private final int chunkSize;
+    private final int maxReportedRows;
+
+    /**
+     * @param delimiter => separador de columnas, ej. ',' ';' '\t'.
+     * @param column => indice de la columna de fechas, empezando en 0.
+     * @param pattern => pattern de la fecha, ej. DateUtilities.DD_MM_YYYY_SLASH.
+     * @exception IllegalArgumentException => si el pattern no es valido o column es negativo.
+     */
+    public DateColumnFileValidator(char delimiter, int column, String pattern) {
+        this(delimiter, column, pattern, Locale.getDefault(Locale.Category.FORMAT), false, false,
+            DEFAULT_CHUNK_SIZE, DEFAULT_MAX_REPORTED_ROWS);
+    }
+
+    private DateColumnFileValidator(char delimiter, int column, String pattern, Locale locale, boolean header,
+            boolean allowEmpty, int chunkSize, int maxReportedRows) {
+        if (column < 0)
+            throw new IllegalArgumentException("La columna no puede ser negativa: " + column);
+        if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r')
+            throw new IllegalArgumentException("Delimitador no soportado: " + delimiter);
+        if (chunkSize < 1 || maxReportedRows < 0)
+            throw new IllegalArgumentException("chunkSize debe ser mayor a cero y maxReportedRows no negativo");
+        if (!DateValidationEngine.isSupported(pattern))
+            FormatterCache.shared().get(pattern, locale);
+        this.delimiter = delimiter;
+        this.column = column;
+        this.pattern = pattern;
+        this.locale = locale;
+        this.header = header;
+        this.allowEmpty = allowEmpty;
+        this.chunkSize = chunkSize;
+        this.maxReportedRows = maxReportedRows;
+    }
+
+    /**
+     * La primera linea del archivo es encabezado y no se valida.
+     */
+    public DateColumnFileValidator withHeader(boolean header) {
+        return new DateColumnFileValidator(delimiter, column, pattern, locale, header, allowEmpty, chunkSize, maxReportedRows);
+    }
+
+    /**
+     * Locale para los patterns con MMM.
+     */
+    public DateColumnFileValidator withLocale(Locale locale) {
+        return new DateColumnFileValidator(delimiter, column, pattern, locale, header, allowEmpty, chunkSize, maxReportedRows);
+    }
+
+    /**
+     * Las celdas vacias se consideran validas, como allowNulls en firewallIsRealDate.
+     */
+    public DateColumnFileValidator withAllowEmpty(boolean allowEmpty) {
+        return new DateColumnFileValidator(delimiter, column, pattern, locale, header, allowEmpty, chunkSize, maxReportedRows);
+    }
+
+    /**
+     * Tamaño aproximado en bytes de cada bloque que se procesa en paralelo (se extiende hasta el fin de linea).
+     */
+    public DateColumnFileValidator withChunkSize(int chunkSize) {
+        return new DateColumnFileValidator(delimiter, column, pattern, locale, header, allowEmpty, chunkSize, maxReportedRows);
+    }
+
+    /**
+     * Cantidad maxima de offsets de filas invalidas que se guardan en el reporte.
+     */
+    public DateColumnFileValidator withMaxReportedRows(int maxReportedRows) {
+        return new DateColumnFileValidator(delimiter, column, pattern, locale, header, allowEmpty, chunkSize, maxReportedRows);
+    }
+
+    /**
+     * Valida la columna de todo el archivo.<br>
+     * @exception IOException => si el archivo no se puede leer o una linea supera los 2GB.
+     * @return DateColumnReport.
+     */
+    public DateColumnReport validate(Path file) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long[] bounds = chunkBounds(channel);
+            List<ChunkResult> results;
+            try {
+                results = IntStream.range(0, bounds.length - 1)
+                    .parallel()
+                    .mapToObj(i -> processChunk(channel, bounds[i], bounds[i + 1], i == 0 && header))
+                    .collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            long rows = 0;
+            long invalid = 0;
+            long[] offsets = new long[0];
+            int reported = 0;
+            for (ChunkResult result : results) {
+                rows += result.rows;
+                invalid += result.invalid;
+                int take = Math.min(result.reported, maxReportedRows - reported);
+                if (take > 0) {
+                    offsets = Arrays.copyOf(offsets, reported + take);
+                    System.arraycopy(result.offsets, 0, offsets, reported, take);
+                    reported += take;
+                }
+            }
+            return new DateColumnReport(rows, invalid, offsets, System.nanoTime() - start);
+        }
+    }
+
+    /*
+     * Limites de los bloques: cada bloque termina justo despues de un '\n' (o en el fin del archivo).
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = 0;
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        while (position < size) {
+            long end = Math.min(size, position + chunkSize);
+            if (end < size)
+                end = nextLineStart(channel, end, size, scan);
+            if (end - position > Integer.MAX_VALUE)
+                throw new IOException("Linea demasiado larga a partir del offset " + position);
+            bounds.add(end);
+            position = end;
+        }
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = bounds.get(i);
+        return result;
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer scan) throws IOException {
+        long position = from - 1;
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0)
+                break;
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n')
+                    return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private ChunkResult processChunk(FileChannel channel, long start, long end, boolean skipFirstLine) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        DateFields fields = new DateFields();
+        ByteCharSequence cell = new ByteCharSequence();
+        ChunkResult result = new ChunkResult();
+        int limit = buffer.limit();
+        int lineStart = 0;
+        boolean skip = skipFirstLine;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n')
+                lineEnd++;
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r')
+                lineEnd--;
+            if (skip) {
+                skip = false;
+            } else if (lineEnd > lineStart) {
+                result.rows++;
+                if (!isValidRow(buffer, lineStart, lineEnd, compiled, fields, cell))
+                    result.invalid(start + lineStart, maxReportedRows);
+            }
+            lineStart = next;
+        }
+        return result;
+    }
+
+    private boolean isValidRow(ByteBuffer buffer, int lineStart, int lineEnd, CompiledDatePattern compiled,
+            DateFields fields, ByteCharSequence cell) {
+        int position = lineStart;
+        for (int field = 0; field < column; field++) {
+            if (position < lineEnd && buffer.get(position) == '"')
+                position = skipQuoted(buffer, position, lineEnd);
+            while (position < lineEnd && buffer.get(position) != delimiter)
+                position++;
+            if (position >= lineEnd)
+                return false;
+            position++;
+        }
+        int cellStart = position;
+        int cellEnd;
+        boolean escapedQuotes = false;
+        if (position < lineEnd && buffer.get(position) == '"') {
+            cellStart = position + 1;
+            cellEnd = cellStart;
+            while (cellEnd < lineEnd) {
+                if (buffer.get(cellEnd) == '"') {
+                    if (cellEnd + 1 < lineEnd && buffer.get(cellEnd + 1) == '"') {
+                        escapedQuotes = true;
+                        cellEnd += 2;
+                        continue;
+                    }
+                    break;
+                }
+                cellEnd++;
+            }
+        } else {
+            cellEnd = position;
+            while (cellEnd < lineEnd && buffer.get(cellEnd) != delimiter)
+                cellEnd++;
+        }
+        if (cellEnd == cellStart)
+            return allowEmpty;
+        cell.wrap(buffer, cellStart, cellEnd - cellStart);
+        if (compiled != null && !escapedQuotes && cell.isAscii())
+            return compiled.parseFully(cell, locale, fields);
+        String text = cell.decodeUtf8();
+        if (escapedQuotes)
+            text = text.replace("\"\"", "\"");
+        return DateValidationEngine.isValidDate(text, pattern, locale);
+    }
+
+    private static int skipQuoted(ByteBuffer buffer, int position, int lineEnd) {
+        int p = position + 1;
+        while (p < lineEnd) {
+            if (buffer.get(p) == '"') {
+                if (p + 1 < lineEnd && buffer.get(p + 1) == '"') {
+                    p += 2;
+                    continue;
+                }
+                return p + 1;
+            }
+            p++;
+        }
+        return lineEnd;
+    }
+
+    private static final class ChunkResult {
+        long rows;
+        long invalid;
+        long[] offsets = new long[16];
+        int reported;
+
+        void invalid(long offset, int maxReportedRows) {
+            invalid++;
+            if (reported < maxReportedRows) {
+                if (reported == offsets.length)
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                offsets[reported++] = offset;
+            }
+        }
+    }
+}
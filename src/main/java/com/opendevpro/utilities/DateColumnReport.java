@@ -0,0 +1,71 @@
+package com.opendevpro.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de DateColumnFileValidator: cantidad de filas, filas invalidas y offsets (en bytes) de las filas invalidas.<br>
+ * <p>
+ * Una fila es invalida si la celda no es una fecha real para el pattern, si esta vacia (y no se permiten vacias)
+ * o si la fila no tiene la columna pedida.<br>
+ * <p>
+ * Solo se guardan los primeros maxReportedRows offsets, isTruncated() indica si hubo mas.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateColumnReport {
+
+    private final long rows;
+    private final long invalidRows;
+    private final long[] invalidRowOffsets;
+    private final long elapsedNanos;
+
+    DateColumnReport(long rows, long invalidRows, long[] invalidRowOffsets, long elapsedNanos) {
+        this.rows = rows;
+        this.invalidRows = invalidRows;
+        this.invalidRowOffsets = invalidRowOffsets;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retorna => cantidad de filas de datos procesadas (sin encabezado ni lineas vacias).
+     * @return long.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    public long getValidRows() {
+        return rows - invalidRows;
+    }
+
+    public long getInvalidRows() {
+        return invalidRows;
+    }
+
+    /**
+     * Retorna => offsets en bytes, desde el inicio del archivo, del primer byte de cada fila invalida, en orden.
+     * @return long[].
+     */
+    public long[] getInvalidRowOffsets() {
+        return invalidRowOffsets.clone();
+    }
+
+    public boolean isTruncated() {
+        return invalidRowOffsets.length < invalidRows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean isValid() {
+        return invalidRows == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "DateColumnReport[rows=" + rows + ", invalidRows=" + invalidRows
+            + ", invalidRowOffsets=" + Arrays.toString(invalidRowOffsets)
+            + (isTruncated() ? " (truncado)" : "") + ", elapsedMillis=" + elapsedNanos / 1_000_000 + "]";
+    }
+}
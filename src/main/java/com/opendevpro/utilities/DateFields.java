@@ -0,0 +1,132 @@
+package com.opendevpro.utilities;
+
+/**
+ * Contenedor mutable y reutilizable de los campos que deja el parseo de un CompiledDatePattern.<br>
+ * <p>
+ * Se reutiliza entre llamadas (uno por hilo o por tarea) para no crear objetos en el camino caliente.<br>
+ * <p>
+ * resolve() aplica las mismas reglas que ResolverStyle.SMART de java.time:<br>
+ * - el dia 29/30/31 que no existe en el mes se ajusta al ultimo dia del mes (31/02/2021 => 28/02/2021).<br>
+ * - 24:00 (con segundos y fraccion en cero) es la medianoche del dia siguiente.<br>
+ * - el año (yyyy = year-of-era) va de 1 a 999999999.<br>
+ * - el offset no puede superar +-18:00.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class DateFields {
+
+    static final int MAX_YEAR = 999_999_999;
+    static final long MAX_EPOCH_DAY = 365_241_780_471L;
+    static final long NANOS_PER_DAY = 86_400_000_000_000L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    int year;
+    int month;
+    int day;
+    int hour;
+    int minute;
+    int second;
+    int nano;
+    int offsetSeconds;
+    boolean hasTime;
+    boolean hasOffset;
+
+    long epochDay;
+    long nanoOfDay;
+
+    void reset() {
+        year = 0;
+        month = 0;
+        day = 0;
+        hour = 0;
+        minute = 0;
+        second = 0;
+        nano = 0;
+        offsetSeconds = 0;
+        hasTime = false;
+        hasOffset = false;
+        epochDay = 0;
+        nanoOfDay = 0;
+    }
+
+    /**
+     * Valida los campos parseados y calcula epochDay / nanoOfDay.
+     * @return boolean => false si la fecha no es real segun ResolverStyle.SMART.
+     */
+    boolean resolve() {
+        if (year < 1 || year > MAX_YEAR || month < 1 || month > 12 || day < 1 || day > 31)
+            return false;
+        epochDay = toEpochDay(year, month, Math.min(day, lengthOfMonth(year, month)));
+        nanoOfDay = 0;
+        if (hasTime) {
+            if (minute > 59)
+                return false;
+            if (hour == 24 && minute == 0 && second == 0 && nano == 0) {
+                if (epochDay == MAX_EPOCH_DAY)
+                    return false;
+                epochDay++;
+            } else {
+                if (hour > 23 || second > 59)
+                    return false;
+                nanoOfDay = ((hour * 60L + minute) * 60L + second) * 1_000_000_000L + nano;
+            }
+        }
+        return !hasOffset || (offsetSeconds >= -MAX_OFFSET_SECONDS && offsetSeconds <= MAX_OFFSET_SECONDS);
+    }
+
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Mismo calculo que LocalDate.toEpochDay() pero sin crear el LocalDate.
+     */
+    static long toEpochDay(long year, int month, int day) {
+        long total = 365 * year;
+        if (year >= 0)
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        else
+            total -= year / -4 - year / -100 + year / -400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year))
+                total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Inverso de toEpochDay: año, mes y dia del epoch-day (calendario gregoriano proleptico) empaquetados como
+     * year * 10000 + month * 100 + day. Para años negativos se desempaqueta con Math.floorDiv / Math.floorMod.
+     */
+    static long civilFromEpochDay(long epochDay) {
+        long z = epochDay + 719_468L;
+        long era = Math.floorDiv(z, 146_097L);
+        long dayOfEra = z - era * 146_097L;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        // año que empieza en marzo
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10_000 + month * 100 + day;
+    }
+}
@@ -0,0 +1,179 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Detecta en una sola pasada cual de los formatos de DateUtilities tiene una fecha y la parsea.<br>
+ * <p>
+ * En lugar de probar isValidDate con cada constante, mira la forma del texto (largo, posicion de los separadores,
+ * tramos de digitos y de letras) y elige el layout. Despues parsea solo con ese pattern (DateValidationEngine), asi que
+ * el costo no depende de cuantos formatos se aceptan.<br>
+ * <p>
+ * Formatos reconocidos:<br>
+ * DD_MM_YYYY_SLASH / MM_DD_YYYY_SLASH => 05/06/2021<br>
+ * YYYY_MM_DD_SLASH => 2021/06/05<br>
+ * DD_MM_YYYY_DASH => 05-06-2021<br>
+ * ISO_DATE => 2021-06-05<br>
+ * DD_MMM_YYYY_DASH / DD_MMM_YYYY_SLASH => 05-jun.-2021 (mes segun el Locale)<br>
+ * ISO_DATE_TIME_FORMAT_MICRO_SECONDS / ISO_DATE_TIME_FORMAT_MILLI_SECONDS => 2021-06-05T10:15:30.000-03:00 / ...000ART<br>
+ * ISO_DATE_TIME_ZONE_FORMAT_MINUTES / ISO_DATE_TIME_FORMAT_MINUTES => 2021-06-05T10:15Z / 2021-06-05T10:15ART<br>
+ * <p>
+ * Si una fecha con '/' es valida como dd/MM y como MM/dd (05/06/2021) decide la regla Ambiguity. Si solo una de
+ * las dos lecturas es valida (13/06/2021, 06/13/2021) se usa esa.<br>
+ * <p>
+ * Es inmutable y thread-safe.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateFormatDetector {
+
+    /**
+     * Que hacer con dd/MM/yyyy vs MM/dd/yyyy cuando las dos lecturas son fechas validas.
+     */
+    public enum Ambiguity {
+        /** Se lee como dd/MM/yyyy. */
+        DAY_FIRST,
+        /** Se lee como MM/dd/yyyy. */
+        MONTH_FIRST,
+        /** No se detecta ningun formato. */
+        REJECT
+    }
+
+    private static final DateFormatDetector DAY_FIRST = new DateFormatDetector(Ambiguity.DAY_FIRST, null);
+
+    private final Ambiguity ambiguity;
+    private final Locale locale;
+
+    /**
+     * @param ambiguity => regla para fechas dd/MM vs MM/dd ambiguas.
+     * @param locale => Locale de los nombres de mes (MMM), null para el Locale por defecto de cada llamada.
+     */
+    public DateFormatDetector(Ambiguity ambiguity, Locale locale) {
+        if (ambiguity == null)
+            throw new NullPointerException("ambiguity");
+        this.ambiguity = ambiguity;
+        this.locale = locale;
+    }
+
+    /**
+     * Retorna => detector que lee las fechas ambiguas como dd/MM/yyyy, con el Locale por defecto.
+     * @return DateFormatDetector.
+     */
+    public static DateFormatDetector dayFirst() {
+        return DAY_FIRST;
+    }
+
+    /**
+     * Detecta el formato y parsea la fecha.<br>
+     * @return Optional => vacio si el texto es null, no tiene ninguno de los formatos, la fecha no es real o es ambigua con REJECT.
+     */
+    public Optional<DetectedDate> detect(String text) {
+        if (text == null || text.length() < 10)
+            return Optional.empty();
+        Locale parseLocale = locale != null ? locale : Locale.getDefault(Locale.Category.FORMAT);
+        int length = text.length();
+        if (digits(text, 0, 4)) {
+            char separator = text.charAt(4);
+            if ((separator != '/' && separator != '-') || !digits(text, 5, 7) || text.charAt(7) != separator || !digits(text, 8, 10))
+                return Optional.empty();
+            if (length == 10)
+                return parse(text, separator == '/' ? DateUtilities.YYYY_MM_DD_SLASH : DateUtilities.ISO_DATE, parseLocale);
+            if (separator == '-' && text.charAt(10) == 'T')
+                return parse(text, isoDateTimePattern(text), parseLocale);
+            return Optional.empty();
+        }
+        char separator = text.charAt(2);
+        if (!digits(text, 0, 2) || (separator != '/' && separator != '-'))
+            return Optional.empty();
+        if (length == 10 && digits(text, 3, 5) && text.charAt(5) == separator && digits(text, 6, 10)) {
+            if (separator == '-')
+                return parse(text, DateUtilities.DD_MM_YYYY_DASH, parseLocale);
+            return parseDayOrMonthFirst(text, parseLocale);
+        }
+        int monthEnd = 3;
+        while (monthEnd < length && isMonthChar(text.charAt(monthEnd)))
+            monthEnd++;
+        if (monthEnd > 3 && monthEnd == length - 5 && text.charAt(monthEnd) == separator && digits(text, monthEnd + 1, length))
+            return parse(text, separator == '/' ? DateUtilities.DD_MMM_YYYY_SLASH : DateUtilities.DD_MMM_YYYY_DASH, parseLocale);
+        return Optional.empty();
+    }
+
+    private Optional<DetectedDate> parseDayOrMonthFirst(String text, Locale parseLocale) {
+        Optional<DetectedDate> dayFirst = parse(text, DateUtilities.DD_MM_YYYY_SLASH, parseLocale);
+        Optional<DetectedDate> monthFirst = parse(text, DateUtilities.MM_DD_YYYY_SLASH, parseLocale);
+        if (!dayFirst.isPresent() || !monthFirst.isPresent())
+            return dayFirst.isPresent() ? dayFirst : monthFirst;
+        // mismo dia y mes (05/05/2021): no es ambigua
+        if (dayFirst.get().getDate().equals(monthFirst.get().getDate()))
+            return ambiguity == Ambiguity.MONTH_FIRST ? monthFirst : dayFirst;
+        switch (ambiguity) {
+            case DAY_FIRST:
+                return dayFirst;
+            case MONTH_FIRST:
+                return monthFirst;
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /*
+     * yyyy-MM-ddTHH:mm seguido de 'Z', de :ss.SSS con offset (XXX) o zona (z), o directamente de una zona (z).
+     */
+    private static String isoDateTimePattern(String text) {
+        int length = text.length();
+        if (length < 17 || !digits(text, 11, 13) || text.charAt(13) != ':' || !digits(text, 14, 16))
+            return null;
+        if (text.charAt(16) != ':')
+            return length == 17 && text.charAt(16) == 'Z' ? DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES
+                : DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES;
+        if (length < 24 || !digits(text, 17, 19) || text.charAt(19) != '.' || !digits(text, 20, 23))
+            return null;
+        char zone = text.charAt(23);
+        boolean offset = (length == 24 && zone == 'Z')
+            || (length == 29 && (zone == '+' || zone == '-') && digits(text, 24, 26) && text.charAt(26) == ':' && digits(text, 27, 29));
+        return offset ? DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS : DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS;
+    }
+
+    private static Optional<DetectedDate> parse(String text, String pattern, Locale locale) {
+        if (pattern == null)
+            return Optional.empty();
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        if (compiled != null) {
+            DateFields fields = DateValidationEngine.threadFields();
+            if (!compiled.parseFully(text, locale, fields))
+                return Optional.empty();
+            LocalDate date = LocalDate.ofEpochDay(fields.epochDay);
+            LocalDateTime dateTime = compiled.hasTime() ? LocalDateTime.of(date, LocalTime.ofNanoOfDay(fields.nanoOfDay)) : null;
+            return Optional.of(new DetectedDate(pattern, date, dateTime));
+        }
+        try {
+            if (pattern.indexOf('H') >= 0) {
+                LocalDateTime dateTime = LocalDateTime.parse(text, FormatterCache.shared().get(pattern, locale));
+                return Optional.of(new DetectedDate(pattern, dateTime.toLocalDate(), dateTime));
+            }
+            return Optional.of(new DetectedDate(pattern, LocalDate.parse(text, FormatterCache.shared().get(pattern, locale)), null));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isMonthChar(char c) {
+        return Character.isLetter(c) || c == '.';
+    }
+
+    private static boolean digits(String text, int from, int to) {
+        if (to > text.length())
+            return false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9')
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,352 @@
+package com.opendevpro.utilities;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formato de fechas escribiendo directo en el destino del llamador (StringBuilder, Appendable, char[], ByteBuffer).<br>
+ * <p>
+ * Para los patterns de DateUtilities (CompiledDatePattern) arma el texto con tablas de digitos en un char[] por hilo
+ * y lo copia al destino, sin crear Strings. Lo que el camino rapido no cubre se formatea con el metodo original y se copia:<br>
+ * - LocalDate (DateTimeFormatter): años fuera de 1-9999 y patterns con hora o zona (el original dispara la excepcion).<br>
+ * - Date (SimpleDateFormat): años fuera de 1900-9999, MMM, Locales con otro calendario o sin digitos ASCII.<br>
+ * <p>
+ * El resultado es identico al de formatLocaldateTimeToAnyPattern / convertDateToIsoDateToSpecificPattern.<br>
+ * Si el destino no tiene lugar no se escribe nada.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class DateFormatWriter {
+
+    private static final int SCRATCH_SIZE = 128;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long MIN_SDF_EPOCH_DAY = DateFields.toEpochDay(1900, 1, 1);
+    private static final long MAX_SDF_EPOCH_DAY = DateFields.toEpochDay(9999, 12, 31);
+
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    private static final ThreadLocal<char[]> SCRATCH = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[SCRATCH_SIZE];
+        }
+    };
+
+    // Locale => SimpleDateFormat usa GregorianCalendar y digitos ASCII
+    private static final Map<Locale, Boolean> SDF_COMPATIBLE = new ConcurrentHashMap<>();
+    // Locale => id de TimeZone => {nombre corto estandar, nombre corto de verano}
+    private static final Map<Locale, Map<String, String[]>> ZONE_NAMES = new ConcurrentHashMap<>();
+
+    private DateFormatWriter() {
+    }
+
+    /*
+     * Camino del formatter sin pasar por el metodo publico: la llamada ya se registra en DateMetrics una vez.
+     */
+    private static String format(LocalDate date, String pattern) {
+        return FormatterCache.shared().get(pattern).format(date);
+    }
+
+    static void formatTo(LocalDate date, String pattern, StringBuilder out) {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            out.append(format(date, pattern));
+        else
+            out.append(scratch, 0, length);
+    }
+
+    static void formatTo(LocalDate date, String pattern, Appendable out) throws IOException {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            out.append(format(date, pattern));
+        else
+            append(scratch, length, out);
+    }
+
+    static int formatTo(LocalDate date, String pattern, char[] buffer, int offset) {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            return copy(format(date, pattern), buffer, offset);
+        return copy(scratch, length, buffer, offset);
+    }
+
+    static int formatTo(LocalDate date, String pattern, ByteBuffer buffer) {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            return putAscii(format(date, pattern), buffer);
+        return putAscii(scratch, length, buffer);
+    }
+
+    static void formatTo(Date date, String pattern, StringBuilder out) {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            out.append(SimpleDateFormatPool.get(pattern).format(date));
+        else
+            out.append(scratch, 0, length);
+    }
+
+    static void formatTo(Date date, String pattern, Appendable out) throws IOException {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            out.append(SimpleDateFormatPool.get(pattern).format(date));
+        else
+            append(scratch, length, out);
+    }
+
+    static int formatTo(Date date, String pattern, char[] buffer, int offset) {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            return copy(SimpleDateFormatPool.get(pattern).format(date), buffer, offset);
+        return copy(scratch, length, buffer, offset);
+    }
+
+    static int formatTo(Date date, String pattern, ByteBuffer buffer) {
+        char[] scratch = SCRATCH.get();
+        int length = render(date, pattern, scratch);
+        if (length < 0)
+            return putAscii(SimpleDateFormatPool.get(pattern).format(date), buffer);
+        return putAscii(scratch, length, buffer);
+    }
+
+    /*
+     * Semantica de DateTimeFormatter.ofPattern(pattern) con el Locale por defecto.
+     * Retorna la cantidad de caracteres escritos en scratch, o -1 si hay que usar el formatter.
+     */
+    private static int render(LocalDate date, String pattern, char[] scratch) {
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        if (compiled == null || compiled.hasTime())
+            return -1;
+        int year = date.getYear();
+        if (year < 1 || year > 9999)
+            return -1;
+        int pos = 0;
+        for (int i = 0; i < compiled.segmentCount(); i++) {
+            switch (compiled.kind(i)) {
+                case CompiledDatePattern.LITERAL:
+                    if (pos >= scratch.length)
+                        return -1;
+                    scratch[pos++] = compiled.literal(i);
+                    break;
+                case CompiledDatePattern.DAY:
+                    pos = twoDigits(date.getDayOfMonth(), scratch, pos);
+                    break;
+                case CompiledDatePattern.MONTH:
+                    pos = twoDigits(date.getMonthValue(), scratch, pos);
+                    break;
+                case CompiledDatePattern.YEAR:
+                    pos = fourDigits(year, scratch, pos);
+                    break;
+                case CompiledDatePattern.MONTH_TEXT:
+                    pos = text(MonthNames.of(Locale.getDefault(Locale.Category.FORMAT)).shortName(date.getMonthValue()), scratch, pos);
+                    break;
+                default:
+                    // OFFSET / ZONE_TEXT: LocalDate no tiene zona, el formatter dispara la excepcion
+                    return -1;
+            }
+            if (pos < 0)
+                return -1;
+        }
+        return pos;
+    }
+
+    /*
+     * Semantica de new SimpleDateFormat(pattern) con el TimeZone y el Locale por defecto.
+     */
+    private static int render(Date date, String pattern, char[] scratch) {
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        if (compiled == null)
+            return -1;
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        if (!isSdfCompatible(locale))
+            return -1;
+        TimeZone zone = TimeZone.getDefault();
+        long millis = date.getTime();
+        int offsetMillis = zone.getOffset(millis);
+        long localMillis = millis + offsetMillis;
+        long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+        if (epochDay < MIN_SDF_EPOCH_DAY || epochDay > MAX_SDF_EPOCH_DAY)
+            return -1;
+        int millisOfDay = (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+        // el rango de SimpleDateFormat tiene años de 1 a 4 digitos, entra en un int
+        int yearMonthDay = (int) DateFields.civilFromEpochDay(epochDay);
+        int pos = 0;
+        for (int i = 0; i < compiled.segmentCount(); i++) {
+            switch (compiled.kind(i)) {
+                case CompiledDatePattern.LITERAL:
+                    if (pos >= scratch.length)
+                        return -1;
+                    scratch[pos++] = compiled.literal(i);
+                    break;
+                case CompiledDatePattern.DAY:
+                    pos = twoDigits(yearMonthDay % 100, scratch, pos);
+                    break;
+                case CompiledDatePattern.MONTH:
+                    pos = twoDigits(yearMonthDay / 100 % 100, scratch, pos);
+                    break;
+                case CompiledDatePattern.YEAR:
+                    pos = fourDigits(yearMonthDay / 10_000, scratch, pos);
+                    break;
+                case CompiledDatePattern.HOUR:
+                    pos = twoDigits(millisOfDay / 3_600_000, scratch, pos);
+                    break;
+                case CompiledDatePattern.MINUTE:
+                    pos = twoDigits(millisOfDay / 60_000 % 60, scratch, pos);
+                    break;
+                case CompiledDatePattern.SECOND:
+                    pos = twoDigits(millisOfDay / 1_000 % 60, scratch, pos);
+                    break;
+                case CompiledDatePattern.FRACTION:
+                    int fraction = millisOfDay % 1_000;
+                    if (pos + 3 > scratch.length)
+                        return -1;
+                    scratch[pos++] = (char) ('0' + fraction / 100);
+                    pos = twoDigits(fraction % 100, scratch, pos);
+                    break;
+                case CompiledDatePattern.OFFSET:
+                    pos = isoOffset(offsetMillis, scratch, pos);
+                    break;
+                case CompiledDatePattern.ZONE_TEXT:
+                    pos = text(zoneNames(zone, locale)[zone.inDaylightTime(date) ? 1 : 0], scratch, pos);
+                    break;
+                default:
+                    // MMM: SimpleDateFormat usa DateFormatSymbols, se deja al original
+                    return -1;
+            }
+            if (pos < 0)
+                return -1;
+        }
+        return pos;
+    }
+
+    /*
+     * Igual que SimpleDateFormat 'XXX': Z o +-HH:MM con los minutos truncados.
+     */
+    private static int isoOffset(int offsetMillis, char[] scratch, int pos) {
+        if (offsetMillis == 0) {
+            if (pos >= scratch.length)
+                return -1;
+            scratch[pos] = 'Z';
+            return pos + 1;
+        }
+        if (pos + 6 > scratch.length)
+            return -1;
+        int minutes = offsetMillis / 60_000;
+        scratch[pos++] = minutes >= 0 ? '+' : '-';
+        minutes = Math.abs(minutes);
+        pos = twoDigits(minutes / 60, scratch, pos);
+        scratch[pos++] = ':';
+        return twoDigits(minutes % 60, scratch, pos);
+    }
+
+    private static int twoDigits(int value, char[] scratch, int pos) {
+        if (pos + 2 > scratch.length)
+            return -1;
+        scratch[pos] = DIGIT_TENS[value];
+        scratch[pos + 1] = DIGIT_ONES[value];
+        return pos + 2;
+    }
+
+    private static int fourDigits(int value, char[] scratch, int pos) {
+        if (pos + 4 > scratch.length)
+            return -1;
+        twoDigits(value / 100, scratch, pos);
+        return twoDigits(value % 100, scratch, pos + 2);
+    }
+
+    private static int text(String value, char[] scratch, int pos) {
+        int length = value.length();
+        if (pos + length > scratch.length)
+            return -1;
+        value.getChars(0, length, scratch, pos);
+        return pos + length;
+    }
+
+    private static boolean isSdfCompatible(Locale locale) {
+        Boolean compatible = SDF_COMPATIBLE.get(locale);
+        if (compatible == null) {
+            // th_TH usa BuddhistCalendar, que extiende GregorianCalendar: se compara la clase exacta
+            compatible = Calendar.getInstance(locale).getClass() == GregorianCalendar.class
+                && DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+            SDF_COMPATIBLE.put(locale, compatible);
+        }
+        return compatible;
+    }
+
+    private static String[] zoneNames(TimeZone zone, Locale locale) {
+        Map<String, String[]> byZone = ZONE_NAMES.get(locale);
+        if (byZone == null)
+            byZone = ZONE_NAMES.computeIfAbsent(locale, k -> new ConcurrentHashMap<String, String[]>());
+        String[] names = byZone.get(zone.getID());
+        if (names == null) {
+            names = new String[] { zone.getDisplayName(false, TimeZone.SHORT, locale), zone.getDisplayName(true, TimeZone.SHORT, locale) };
+            byZone.put(zone.getID(), names);
+        }
+        return names;
+    }
+
+    private static void append(char[] scratch, int length, Appendable out) throws IOException {
+        for (int i = 0; i < length; i++)
+            out.append(scratch[i]);
+    }
+
+    private static int copy(char[] scratch, int length, char[] buffer, int offset) {
+        if (offset < 0 || offset + length > buffer.length)
+            throw new IndexOutOfBoundsException("No entran " + length + " caracteres en la posicion " + offset + " de " + buffer.length);
+        System.arraycopy(scratch, 0, buffer, offset, length);
+        return length;
+    }
+
+    private static int copy(String value, char[] buffer, int offset) {
+        int length = value.length();
+        if (offset < 0 || offset + length > buffer.length)
+            throw new IndexOutOfBoundsException("No entran " + length + " caracteres en la posicion " + offset + " de " + buffer.length);
+        value.getChars(0, length, buffer, offset);
+        return length;
+    }
+
+    private static int putAscii(char[] scratch, int length, ByteBuffer buffer) {
+        checkAscii(scratch, length, buffer);
+        for (int i = 0; i < length; i++)
+            buffer.put((byte) scratch[i]);
+        return length;
+    }
+
+    private static int putAscii(String value, ByteBuffer buffer) {
+        char[] chars = value.toCharArray();
+        return putAscii(chars, chars.length, buffer);
+    }
+
+    private static void checkAscii(char[] chars, int length, ByteBuffer buffer) {
+        for (int i = 0; i < length; i++) {
+            if (chars[i] > 0x7F)
+                throw new IllegalArgumentException("La fecha formateada no es ASCII: " + new String(chars, 0, length));
+        }
+        if (buffer.remaining() < length)
+            throw new BufferOverflowException();
+    }
+}
@@ -0,0 +1,232 @@
+package com.opendevpro.utilities;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metricas opcionales de los metodos de validacion, parseo, formato y conversion de DateUtilities.<br>
+ * <p>
+ * Por metodo y por pattern cuenta llamadas, fallos (fecha rechazada o excepcion) y entradas null, y guarda un histograma
+ * de latencia en potencias de 2 de nanosegundos. Todo con LongAdder, sin locks.<br>
+ * <p>
+ * Estan apagadas por defecto: el costo en DateUtilities es una lectura volatile. Se prenden con enable() o con la
+ * propiedad de sistema "opendevpro.metrics.enabled=true".<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * DateMetrics.enable();<br>
+ * DateMetrics.registerMBean(); // com.opendevpro.utilities:type=DateMetrics<br>
+ * for (MethodMetrics metrics : DateMetrics.snapshot()) System.out.println(metrics);
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateMetrics {
+
+    /**
+     * Nombre JMX del MXBean que registra registerMBean().
+     */
+    public static final String OBJECT_NAME = "com.opendevpro.utilities:type=DateMetrics";
+
+    /**
+     * Cantidad de buckets del histograma: el bucket i cuenta latencias en [2^(i-1), 2^i) nanosegundos, el ultimo el resto.
+     */
+    public static final int HISTOGRAM_BUCKETS = 40;
+
+    static final long DISABLED = Long.MIN_VALUE;
+
+    // patterns distintos por metodo antes de agruparlos en OTHER_PATTERNS, para no crecer sin limite con patterns dinamicos
+    private static final int MAX_PATTERNS_PER_METHOD = 256;
+    private static final String NO_PATTERN = "";
+    private static final String OTHER_PATTERNS = "(otros)";
+
+    private static volatile boolean enabled = Boolean.getBoolean("opendevpro.metrics.enabled");
+    private static final Map<String, Map<String, Stats>> METHODS = new ConcurrentHashMap<>();
+
+    private DateMetrics() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Descarta todo lo medido hasta ahora.
+     */
+    public static void reset() {
+        METHODS.clear();
+    }
+
+    /**
+     * Retorna => copia inmutable de las metricas por metodo y pattern, ordenada por metodo y pattern.<br>
+     * <p>
+     * Los metodos sin pattern (conversiones) tienen pattern "".
+     * @return List.
+     */
+    public static List<MethodMetrics> snapshot() {
+        List<MethodMetrics> result = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Stats>> method : METHODS.entrySet()) {
+            for (Map.Entry<String, Stats> pattern : method.getValue().entrySet())
+                result.add(pattern.getValue().snapshot(method.getKey(), pattern.getKey()));
+        }
+        Collections.sort(result, Comparator.comparing(MethodMetrics::getMethod).thenComparing(MethodMetrics::getPattern));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Registra el MXBean en el MBeanServer de la plataforma, si ya estaba registrado no hace nada.
+     * @exception IllegalStateException => si JMX rechaza el registro.
+     * @return ObjectName.
+     */
+    public static ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                try {
+                    server.registerMBean(new MXBean(), name);
+                } catch (InstanceAlreadyExistsException e) {
+                    // lo registro otro hilo
+                }
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo registrar " + OBJECT_NAME, e);
+        }
+    }
+
+    public static void unregisterMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException e) {
+            // no estaba registrado
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo desregistrar " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Retorna => System.nanoTime() si las metricas estan prendidas, si no DISABLED (tambien en el hilo de DateWarmUp).
+     */
+    static long start() {
+        return enabled && !DateWarmUp.isActive() ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Registra una llamada que empezo en start (valor de start(), distinto de DISABLED).
+     */
+    static void record(String method, String pattern, long start, boolean nullInput, boolean failed) {
+        long elapsed = System.nanoTime() - start;
+        stats(method, pattern).record(elapsed, nullInput, failed);
+    }
+
+    private static Stats stats(String method, String pattern) {
+        Map<String, Stats> patterns = METHODS.get(method);
+        if (patterns == null)
+            patterns = METHODS.computeIfAbsent(method, k -> new ConcurrentHashMap<String, Stats>());
+        String key = pattern != null ? pattern : NO_PATTERN;
+        Stats stats = patterns.get(key);
+        if (stats == null) {
+            if (patterns.size() >= MAX_PATTERNS_PER_METHOD)
+                key = OTHER_PATTERNS;
+            stats = patterns.computeIfAbsent(key, k -> new Stats());
+        }
+        return stats;
+    }
+
+    private static final class Stats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder nulls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+        Stats() {
+            for (int i = 0; i < histogram.length; i++)
+                histogram[i] = new LongAdder();
+        }
+
+        void record(long elapsed, boolean nullInput, boolean failed) {
+            long nanos = Math.max(0L, elapsed);
+            calls.increment();
+            if (failed)
+                failures.increment();
+            if (nullInput)
+                nulls.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram[Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+        }
+
+        MethodMetrics snapshot(String method, String pattern) {
+            long[] buckets = new long[HISTOGRAM_BUCKETS];
+            for (int i = 0; i < buckets.length; i++)
+                buckets[i] = histogram[i].sum();
+            return new MethodMetrics(method, pattern, calls.sum(), failures.sum(), nulls.sum(), totalNanos.sum(),
+                maxNanos.get(), buckets);
+        }
+    }
+
+    private static final class MXBean implements DateMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return DateMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean value) {
+            if (value)
+                enable();
+            else
+                disable();
+        }
+
+        @Override
+        public List<MethodMetrics> getMetrics() {
+            return snapshot();
+        }
+
+        @Override
+        public long getTotalCalls() {
+            long total = 0;
+            for (MethodMetrics metrics : snapshot())
+                total += metrics.getCalls();
+            return total;
+        }
+
+        @Override
+        public long getTotalFailures() {
+            long total = 0;
+            for (MethodMetrics metrics : snapshot())
+                total += metrics.getFailures();
+            return total;
+        }
+
+        @Override
+        public void reset() {
+            DateMetrics.reset();
+        }
+    }
+}
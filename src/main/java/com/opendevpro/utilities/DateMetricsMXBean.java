@@ -0,0 +1,25 @@
+package com.opendevpro.utilities;
+
+import java.util.List;
+
+/**
+ * Vista JMX de DateMetrics, registrada con DateMetrics.registerMBean() como com.opendevpro.utilities:type=DateMetrics.<br>
+ * <p>
+ * Metrics se expone como CompositeData[] (una entrada por metodo y pattern), legible desde jconsole o un exporter JMX.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public interface DateMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    List<MethodMetrics> getMetrics();
+
+    long getTotalCalls();
+
+    long getTotalFailures();
+
+    void reset();
+}
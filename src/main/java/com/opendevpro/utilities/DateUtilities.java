@@ -1,23 +1,23 @@
 package com.opendevpro.utilities;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
+import java.time.zone.ZoneRulesException;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Formatter;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /* 
  * utils.Date, sql.Date, Calendar NO permiten hacer esta logica en NINGUN CASO.
@@ -26,6 +26,12 @@ import java.util.stream.Collectors;
  * no lo reconoce como fecha porque es un Objeto mas complejo que Date, en ese caso seguir usando Date para persistencias.
  *
  * Para validaciones temporales usar LocalDate / LocalDateTime / Instant => jodatime
+ *
+ * Metricas de uso y latencia por metodo/pattern: DateMetrics.enable() (apagadas por defecto).
+ *
+ * Instancias compartidas de LocalDate/LocalDateTime para cargas grandes: CanonicalDatePool.enable() (apagado por defecto).
+ *
+ * Cache de parseo para textos de fecha repetidos en feeds: ParsedDateCache.enable() (apagado por defecto).
  * */
 
 public class DateUtilities {
@@ -40,6 +46,8 @@ public class DateUtilities {
     public static final String ISO_DATE_TIME_FORMAT_MICRO_SECONDS = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     public static final String ISO_DATE_TIME_FORMAT_MINUTES = "yyyy-MM-dd'T'HH:mmz";
     public static final String ISO_DATE_TIME_ZONE_FORMAT_MINUTES = "yyyy-MM-dd'T'HH:mm'Z'";
+    public static final String MM_DD_YYYY_SLASH = "MM/dd/yyyy";
+    public static final String ISO_DATE = "yyyy-MM-dd";
     
     /**
      * Metodo que maneja una Exception si la fecha pasada como parametro existe o no en el calendario real.<br>
@@ -59,19 +67,32 @@ public class DateUtilities {
      * DD_MM_YYYY_DASH<br>
      * YYYY_MM_DD_DASH<br>
      * <p> 
-     * @exception java.time.format.DateTimeParseException => Dispara la excepcion pero es manejada como boolean.
+     * No dispara excepciones para fechas invalidas, los patterns de esta Clase se validan con DateValidationEngine.<br>
+     * Con ParsedDateCache.enable() el veredicto de cada texto repetido sale del cache.
+     * @exception IllegalArgumentException => si el pattern no es valido.
      * @author Axel A. Berlot
      * @return boolean.
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      */
     public static boolean isValidDate(String date, String pattern) {
+        long start = DateMetrics.start();
+        boolean failed = true;
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-            LocalDate d = date != null ? LocalDate.parse(date, formatter) : null;
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+            boolean valid;
+            if (date == null) {
+                if (!DateValidationEngine.isSupported(pattern))
+                    FormatterCache.shared().get(pattern);
+                valid = true;
+            } else {
+                ParsedDateCache cache = ParsedDateCache.shared();
+                valid = cache != null ? cache.localDate(date, pattern) != null : DateValidationEngine.isValidDate(date, pattern);
+            }
+            failed = !valid;
+            return valid;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("isValidDate", pattern, start, date == null, failed);
         }
     }
 
@@ -95,6 +116,7 @@ public class DateUtilities {
      * DD_MM_YYYY_DASH<br>
      * YYYY_MM_DD_DASH<br>
      * <p>
+     * Los patterns de esta Clase se validan con DateValidationEngine, DateTimeFormatter solo se usa para armar la excepcion.
      * @exception java.time.format.DateTimeParseException => Dispara la excepcion si no cumple con una fecha real por calendario
      * @author Axel A. Berlot
      * @return void.
@@ -102,12 +124,24 @@ public class DateUtilities {
      * @version 1.0
      */
     public static void firewallIsRealDate (String date, String pattern, boolean allowNulls) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-        LocalDate pivotDate = null;
-        if (allowNulls == true)
-            pivotDate = date != null ? LocalDate.parse(date, formatter) : null;
-        else
-            pivotDate = LocalDate.parse(date, formatter);
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            if (date != null && DateValidationEngine.isValidDate(date, pattern)) {
+                failed = false;
+                return;
+            }
+            DateTimeFormatter formatter = FormatterCache.shared().get(pattern);
+            LocalDate pivotDate = null;
+            if (allowNulls == true)
+                pivotDate = date != null ? LocalDate.parse(date, formatter) : null;
+            else
+                pivotDate = LocalDate.parse(date, formatter);
+            failed = false;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("firewallIsRealDate", pattern, start, date == null, failed);
+        }
     }
     
 
@@ -133,6 +167,7 @@ public class DateUtilities {
      * DD_MM_YYYY_DASH<br>
      * YYYY_MM_DD_DASH<br>
      * <p>
+     * Los nombres de mes de DD_MMM_YYYY_DASH / DD_MMM_YYYY_SLASH se buscan en la tabla de MonthNames del Locale.
      * @exception java.time.format.DateTimeParseException => Dispara la excepcion si no cumple con una fecha real por calendario
      * @author Axel A. Berlot
      * @return void.
@@ -140,26 +175,60 @@ public class DateUtilities {
      * @version 1.0
      */
     public static void firewallIsRealDate (String date, String pattern, boolean allowNulls, Locale country) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, country);
-        LocalDate pivotDate = null;
-        if (allowNulls == true)
-            pivotDate = date != null ? LocalDate.parse(date, formatter) : null;
-        else
-            pivotDate = LocalDate.parse(date, formatter);
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            if (date != null && DateValidationEngine.isValidDate(date, pattern, country)) {
+                failed = false;
+                return;
+            }
+            DateTimeFormatter formatter = FormatterCache.shared().get(pattern, country);
+            LocalDate pivotDate = null;
+            if (allowNulls == true)
+                pivotDate = date != null ? LocalDate.parse(date, formatter) : null;
+            else
+                pivotDate = LocalDate.parse(date, formatter);
+            failed = false;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("firewallIsRealDate", pattern, start, date == null, failed);
+        }
     }
 
+    /**
+     * Parsea la fecha con SimpleDateFormat (lenient) y la devuelve como java.sql.Date, null si la fecha es null.<br>
+     * <p>
+     * Es thread-safe: cada hilo reutiliza su propio SimpleDateFormat por pattern (SimpleDateFormatPool).<br>
+     * Con ParsedDateCache.enable() los textos repetidos (validos o no) no se vuelven a parsear.
+     * @exception IOException => si la fecha no se puede parsear con el pattern.
+     * @return java.sql.Date.
+     */
     public static java.sql.Date parsearFecha(String fecha, String dateFormat) throws IOException {
-        java.sql.Date fechaAltaSql = null;
-        if (fecha != null) {
-            SimpleDateFormat format = new SimpleDateFormat(dateFormat);
-            try {
-                Date parsedDateFechaAlta = format.parse(fecha);
-                fechaAltaSql = new java.sql.Date(parsedDateFechaAlta.getTime());
-            } catch (Exception exc) {
-                throw new IOException("Error al parsear la fecha");
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            java.sql.Date fechaAltaSql = null;
+            ParsedDateCache cache = ParsedDateCache.shared();
+            if (fecha != null && cache != null) {
+                long millis = cache.sqlDateMillis(fecha, dateFormat);
+                if (millis == ParsedDateCache.INVALID_MILLIS)
+                    throw new IOException("Error al parsear la fecha");
+                fechaAltaSql = new java.sql.Date(millis);
+            } else if (fecha != null) {
+                SimpleDateFormat format = SimpleDateFormatPool.get(dateFormat);
+                try {
+                    Date parsedDateFechaAlta = format.parse(fecha);
+                    fechaAltaSql = new java.sql.Date(parsedDateFechaAlta.getTime());
+                } catch (Exception exc) {
+                    throw new IOException("Error al parsear la fecha");
+                }
             }
+            failed = false;
+            return fechaAltaSql;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("parsearFecha", dateFormat, start, fecha == null, failed);
         }
-        return fechaAltaSql;
     }
     
     /**
@@ -185,19 +254,30 @@ public class DateUtilities {
      * String dateTime = convertDateToIsoDateToSpecificPattern(new Date(), ISO_DATE_TIME_ZONE_FORMAT_MINUTES);<br>
      * System.out.println(dateTime);<br>
      * System.out.println(isValidDateTime(dateTime, ISO_DATE_TIME_ZONE_FORMAT_MINUTES));<br>
-     * @exception java.time.format.DateTimeParseException => Dispara la excepcion pero es manejada como boolean.
+     * No dispara excepciones para fechas invalidas, los patterns de esta Clase se validan con DateValidationEngine.
+     * @exception IllegalArgumentException => si el pattern no es valido.
      * @author Axel A. Berlot
      * @return boolean.
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      */
     public static boolean isValidDateTime(String dateTime, String pattern) {
+        long start = DateMetrics.start();
+        boolean failed = true;
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-            LocalDateTime d = dateTime != null ? LocalDateTime.parse(dateTime, formatter) : null;
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+            boolean valid;
+            if (dateTime == null) {
+                if (!DateValidationEngine.isSupported(pattern))
+                    FormatterCache.shared().get(pattern);
+                valid = true;
+            } else {
+                valid = DateValidationEngine.isValidDateTime(dateTime, pattern);
+            }
+            failed = !valid;
+            return valid;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("isValidDateTime", pattern, start, dateTime == null, failed);
         }
     }
 
@@ -228,12 +308,20 @@ public class DateUtilities {
      * @version 1.0
      */
     public static void firewallIsRealDateTime (String date, String pattern, boolean allowNulls) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-        LocalDateTime pivotDate = null;
-        if (allowNulls == true)
-            pivotDate = date != null ? LocalDateTime.parse(date, formatter) : null;
-        else
-            pivotDate = LocalDateTime.parse(date, formatter);
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            DateTimeFormatter formatter = FormatterCache.shared().get(pattern);
+            LocalDateTime pivotDate = null;
+            if (allowNulls == true)
+                pivotDate = date != null ? LocalDateTime.parse(date, formatter) : null;
+            else
+                pivotDate = LocalDateTime.parse(date, formatter);
+            failed = false;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("firewallIsRealDateTime", pattern, start, date == null, failed);
+        }
     }
 
     /**
@@ -250,14 +338,102 @@ public class DateUtilities {
      * String dateTime = convertDateToIsoDateToSpecificPattern(new Date(), ISO_DATE_TIME_ZONE_FORMAT_MINUTES);<br>
      * System.out.println(dateTime);
      * <p>
+     * Es thread-safe: cada hilo reutiliza su propio SimpleDateFormat por pattern (SimpleDateFormatPool).
      * @author Axel A. Berlot
      * @return String.
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      */
     public static String convertDateToIsoDateToSpecificPattern(Date date, String pattern) {
-    	DateFormat df = new SimpleDateFormat(pattern); // Quoted "Z" to indicate UTC, no timezone offset
-    	return df.format(date);
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    DateFormat df = SimpleDateFormatPool.get(pattern); // Quoted "Z" to indicate UTC, no timezone offset
+    	    String formatted = df.format(date);
+    	    failed = false;
+    	    return formatted;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("convertDateToIsoDateToSpecificPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que convertDateToIsoDateToSpecificPattern pero agrega el texto al StringBuilder, sin crear un String.<br>
+     * <p>
+     * Con los patterns de esta Clase (sin MMM, años 1900-9999) arma el texto con tablas de digitos; lo demas se formatea
+     * con SimpleDateFormat y se copia, el resultado es el mismo.
+     * @since 18-10-2026
+     * @version 1.0
+     */
+    public static void convertDateToIsoDateToSpecificPattern(Date date, String pattern, StringBuilder out) {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    DateFormatWriter.formatTo(date, pattern, out);
+    	    failed = false;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("convertDateToIsoDateToSpecificPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que convertDateToIsoDateToSpecificPattern pero escribe en el Appendable (Writer, CharBuffer...).
+     * @since 18-10-2026
+     * @version 1.0
+     */
+    public static void convertDateToIsoDateToSpecificPattern(Date date, String pattern, Appendable out) throws IOException {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    DateFormatWriter.formatTo(date, pattern, out);
+    	    failed = false;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("convertDateToIsoDateToSpecificPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que convertDateToIsoDateToSpecificPattern pero escribe en buffer a partir de offset.<br>
+     * @exception IndexOutOfBoundsException => si el texto no entra, en ese caso no se escribe nada.
+     * @since 18-10-2026
+     * @version 1.0
+     * @return int => cantidad de caracteres escritos.
+     */
+    public static int convertDateToIsoDateToSpecificPattern(Date date, String pattern, char[] buffer, int offset) {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    int written = DateFormatWriter.formatTo(date, pattern, buffer, offset);
+    	    failed = false;
+    	    return written;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("convertDateToIsoDateToSpecificPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que convertDateToIsoDateToSpecificPattern pero escribe el texto como ASCII en la posicion actual del ByteBuffer.<br>
+     * @exception java.nio.BufferOverflowException => si el texto no entra, en ese caso no se escribe nada.
+     * @exception IllegalArgumentException => si el texto tiene caracteres no ASCII.
+     * @since 18-10-2026
+     * @version 1.0
+     * @return int => cantidad de bytes escritos.
+     */
+    public static int convertDateToIsoDateToSpecificPattern(Date date, String pattern, ByteBuffer buffer) {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    int written = DateFormatWriter.formatTo(date, pattern, buffer);
+    	    failed = false;
+    	    return written;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("convertDateToIsoDateToSpecificPattern", pattern, start, date == null, failed);
+    	}
     }
     
 	/**
@@ -269,9 +445,7 @@ public class DateUtilities {
 	 * @version 1.0
 	 */
     public static LocalDate fromDateToLocalDateByInstant(Date date) {
-    	return date.toInstant()
-        	      .atZone(ZoneId.systemDefault())
-        	      .toLocalDate();
+    	return fromDateToLocalDateByInstant(date, ZoneId.systemDefault());
     }
     
     /**
@@ -301,9 +475,22 @@ public class DateUtilities {
      * @return
      */
     public static LocalDate fromDateToLocalDateByInstant(Date date, ZoneId zoneId) {
-    	return date.toInstant()
-        	      .atZone(zoneId)
-        	      .toLocalDate();
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    LocalDate localDate;
+    	    if (date.getClass() != Date.class)
+    	        localDate = canonical(date.toInstant()
+    	              .atZone(zoneId)
+    	              .toLocalDate());
+    	    else
+    	        localDate = toLocalDate(date.getTime(), zoneId);
+    	    failed = false;
+    	    return localDate;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("fromDateToLocalDateByInstant", null, start, date == null, failed);
+    	}
     }
     
     /**
@@ -315,9 +502,7 @@ public class DateUtilities {
      * @version 1.0
      */
     public static LocalDate fromDateToLocalDateByMilliSeconds(Date date) {
-        return Instant.ofEpochMilli(date.getTime())
-          .atZone(ZoneId.systemDefault())
-          .toLocalDate();
+        return fromDateToLocalDateByMilliSeconds(date, ZoneId.systemDefault());
     }
     
     /**
@@ -348,9 +533,16 @@ public class DateUtilities {
      * @version 1.0
      */    
     public static LocalDate fromDateToLocalDateByMilliSeconds(Date date, ZoneId zoneId) {
-        return Instant.ofEpochMilli(date.getTime())
-          .atZone(zoneId)
-          .toLocalDate();
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            LocalDate localDate = toLocalDate(date.getTime(), zoneId);
+            failed = false;
+            return localDate;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("fromDateToLocalDateByMilliSeconds", null, start, date == null, failed);
+        }
     }
     
     /**
@@ -362,9 +554,7 @@ public class DateUtilities {
      * @version 1.0
      */
     public static LocalDateTime fromDateToLocalDateTimeByInstant(Date date) {
-        return date.toInstant()
-          .atZone(ZoneId.systemDefault())
-          .toLocalDateTime();
+        return fromDateToLocalDateTimeByInstant(date, ZoneId.systemDefault());
     }
 
     /**
@@ -395,9 +585,23 @@ public class DateUtilities {
      * @version 1.0
      */
     public static LocalDateTime fromDateToLocalDateTimeByInstant(Date date, ZoneId zoneId) {
-        return date.toInstant()
-          .atZone(zoneId)
-          .toLocalDateTime();
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            LocalDateTime localDateTime;
+            // java.sql.Date/Time no soportan toInstant() y Timestamp tiene nanos: esos siguen por el camino original
+            if (date.getClass() != Date.class)
+                localDateTime = canonical(date.toInstant()
+                  .atZone(zoneId)
+                  .toLocalDateTime());
+            else
+                localDateTime = toLocalDateTime(date.getTime(), zoneId);
+            failed = false;
+            return localDateTime;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("fromDateToLocalDateTimeByInstant", null, start, date == null, failed);
+        }
     }
 
     /**
@@ -409,9 +613,7 @@ public class DateUtilities {
      * @version 1.0
      */
     public static LocalDateTime fromDateToLocalDateTimeByMilisecond(Date date) {
-        return Instant.ofEpochMilli(date.getTime())
-          .atZone(ZoneId.systemDefault())
-          .toLocalDateTime();
+        return fromDateToLocalDateTimeByMilisecond(date, ZoneId.systemDefault());
     }
     
     /**
@@ -442,13 +644,59 @@ public class DateUtilities {
      * @version 1.0
      */
     public static LocalDateTime fromDateToLocalDateTimeByMilisecond(Date date, ZoneId zoneId) {
-        return Instant.ofEpochMilli(date.getTime())
-          .atZone(zoneId)
-          .toLocalDateTime();
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            LocalDateTime localDateTime = toLocalDateTime(date.getTime(), zoneId);
+            failed = false;
+            return localDateTime;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("fromDateToLocalDateTimeByMilisecond", null, start, date == null, failed);
+        }
+    }
+
+    /*
+     * Igual que Instant.ofEpochMilli(epochMillis).atZone(zoneId).toLocalDate() / toLocalDateTime(),
+     * con el offset de ZoneOffsetCache y sin crear Instant ni ZonedDateTime.
+     * Con CanonicalDatePool activado devuelven la instancia compartida.
+     */
+    private static LocalDate toLocalDate(long epochMillis, ZoneId zoneId) {
+        long epochSecond = Math.floorDiv(epochMillis, 1_000L);
+        long epochDay = Math.floorDiv(epochSecond + ZoneOffsets.offsetSecondsAt(zoneId, epochSecond), 86_400L);
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        return pool != null ? pool.date(epochDay) : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis, ZoneId zoneId) {
+        long epochSecond = Math.floorDiv(epochMillis, 1_000L);
+        int nano = (int) Math.floorMod(epochMillis, 1_000L) * 1_000_000;
+        long localSecond = epochSecond + ZoneOffsets.offsetSecondsAt(zoneId, epochSecond);
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        if (pool != null && nano == 0 && Math.floorMod(localSecond, 60L) == 0)
+            return pool.dateTime(Math.floorDiv(localSecond, 60L));
+        return LocalDateTime.ofEpochSecond(localSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static LocalDate toLocalDate(long epochDay) {
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        return pool != null ? pool.date(epochDay) : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static LocalDate canonical(LocalDate date) {
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        return pool != null ? pool.canonical(date) : date;
+    }
+
+    private static LocalDateTime canonical(LocalDateTime dateTime) {
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        return pool != null ? pool.canonical(dateTime) : dateTime;
     }
     
     /**
      * Convierte de LocalDate a java.sql.Date<br>
+     * <p>
+     * Para convertir columnas enteras usar SqlDateColumns.toSqlDates.
      * @param date
      * @author Axel A. Berlot
      * @since 01-12-2020
@@ -506,6 +754,8 @@ public class DateUtilities {
 
     /**
      * Convierte de LocalDate a java.sql.Date / Timestamp<br>
+     * <p>
+     * Para convertir columnas enteras usar SqlDateColumns.toLocalDateTimes.
      * @param date
      * @author Axel A. Berlot
      * @since 01-12-2020
@@ -537,7 +787,16 @@ public class DateUtilities {
      * @return LocalDate
      */
     public static LocalDate fromStringToLocalDate(String dateDashSeparator) {
-        return LocalDate.parse(dateDashSeparator);
+        long start = DateMetrics.start();
+        boolean failed = true;
+        try {
+            LocalDate localDate = canonical(LocalDate.parse(dateDashSeparator));
+            failed = false;
+            return localDate;
+        } finally {
+            if (start != DateMetrics.DISABLED)
+                DateMetrics.record("fromStringToLocalDate", "yyyy-MM-dd", start, dateDashSeparator == null, failed);
+        }
     }
     
     /**
@@ -549,22 +808,178 @@ public class DateUtilities {
      * YYYY_MM_DD_DASH<br>
      * <p>
      * Las mismas nombradas estan disponibles como variables finales para su uso en esta clase.
+     * <p>
+     * Los patterns de esta Clase se parsean con DateValidationEngine (MMM con MonthNames), el LocalDate se crea solo al final.<br>
+     * Con ParsedDateCache.enable() los textos repetidos no se vuelven a parsear.
      * @author Axel A. Berlot
      * @since 01-12-2020
      * @param dateDashSeparator
      * @return LocalDate
      */
     public static LocalDate fromStringToLocalDate(String date, String formatter) {
-    	  return LocalDate.parse(date, DateTimeFormatter.ofPattern(formatter));
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    LocalDate localDate = null;
+    	    ParsedDateCache cache = ParsedDateCache.shared();
+    	    if (cache != null && date != null) {
+    	        localDate = cache.localDate(date, formatter);
+    	    } else {
+    	        CompiledDatePattern compiled = DateValidationEngine.compiled(formatter);
+    	        DateFields fields = DateValidationEngine.threadFields();
+    	        if (compiled != null && date != null && compiled.parseFully(date, Locale.getDefault(Locale.Category.FORMAT), fields))
+    	            localDate = toLocalDate(fields.epochDay);
+    	    }
+    	    // fecha invalida (o pattern no compilado): LocalDate.parse dispara la excepcion de siempre
+    	    if (localDate == null)
+    	        localDate = canonical(LocalDate.parse(date, FormatterCache.shared().get(formatter)));
+    	    failed = false;
+    	    return localDate;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("fromStringToLocalDate", formatter, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que fromStringToLocalDate(date, pattern).toEpochDay() pero sin crear el LocalDate.<br>
+     * <p>
+     * Los patterns de esta Clase se parsean con DateValidationEngine, solo si la fecha es invalida se usa LocalDate.parse
+     * para disparar la misma excepcion que fromStringToLocalDate.
+     * @exception java.time.format.DateTimeParseException => si la fecha no es valida para el pattern.
+     * @exception ArithmeticException => si el epoch-day no entra en un int.
+     * @since 18-10-2026
+     * @param date
+     * @param pattern
+     * @return int => dias desde 1970-01-01.
+     */
+    public static int fromStringToEpochDay(String date, String pattern) {
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        if (compiled != null && date != null) {
+            DateFields fields = DateValidationEngine.threadFields();
+            if (compiled.parseFully(date, Locale.getDefault(Locale.Category.FORMAT), fields))
+                return Math.toIntExact(fields.epochDay);
+        }
+        return Math.toIntExact(fromStringToLocalDate(date, pattern).toEpochDay());
+    }
+
+    /**
+     * Igual que fromLocalDateTimeToUtilDateByInstant(LocalDateTime.parse(dateTime, pattern)).getTime() sin crear objetos.<br>
+     * <p>
+     * La fecha-hora se interpreta en la zona por defecto del sistema, un offset parseado (XXX) se ignora igual que en LocalDateTime.parse.
+     * @exception java.time.format.DateTimeParseException => si la fecha-hora no es valida para el pattern.
+     * @since 18-10-2026
+     * @return long => milisegundos desde 1970-01-01T00:00Z.
+     */
+    public static long fromStringToEpochMillis(String dateTime, String pattern) {
+        return fromStringToEpochMillis(dateTime, pattern, ZoneId.systemDefault());
+    }
+
+    /**
+     * Igual que LocalDateTime.parse(dateTime, pattern).atZone(zoneId).toInstant().toEpochMilli() sin crear objetos.<br>
+     * <p>
+     * Ejemplo<br>
+     * <p>
+     * long millis = fromStringToEpochMillis("2020-12-01T10:30Z", ISO_DATE_TIME_ZONE_FORMAT_MINUTES, getZoneIdByShortcut("AGT"));
+     * @exception java.time.format.DateTimeParseException => si la fecha-hora no es valida para el pattern.
+     * @exception ArithmeticException => si el resultado no entra en un long.
+     * @since 18-10-2026
+     * @return long => milisegundos desde 1970-01-01T00:00Z.
+     */
+    public static long fromStringToEpochMillis(String dateTime, String pattern, ZoneId zoneId) {
+        DateFields fields = parseDateTimeFields(dateTime, pattern);
+        long epochSecond = ZoneOffsets.localToEpochSecond(zoneId, localEpochSecond(fields));
+        return Math.addExact(Math.multiplyExact(epochSecond, 1_000L), (fields.nanoOfDay % 1_000_000_000L) / 1_000_000L);
+    }
+
+    /**
+     * Igual que fromStringToEpochMillis pero con precision de microsegundos.
+     * @exception java.time.format.DateTimeParseException => si la fecha-hora no es valida para el pattern.
+     * @exception ArithmeticException => si el resultado no entra en un long.
+     * @since 18-10-2026
+     * @return long => microsegundos desde 1970-01-01T00:00Z.
+     */
+    public static long fromStringToEpochMicros(String dateTime, String pattern, ZoneId zoneId) {
+        DateFields fields = parseDateTimeFields(dateTime, pattern);
+        long epochSecond = ZoneOffsets.localToEpochSecond(zoneId, localEpochSecond(fields));
+        return Math.addExact(Math.multiplyExact(epochSecond, 1_000_000L), (fields.nanoOfDay % 1_000_000_000L) / 1_000L);
+    }
+
+    /**
+     * Igual que ZonedDateTime.parse(new String(bytes, offset, length, UTF_8), pattern).toInstant().toEpochMilli()
+     * sin crear el String: lee los bytes de a 8 con IsoTimestampParser.<br>
+     * <p>
+     * Solo para ISO_DATE_TIME_FORMAT_MILLI_SECONDS e ISO_DATE_TIME_FORMAT_MICRO_SECONDS, el offset (Z o +-HH:MM) se aplica.<br>
+     * <p>
+     * Ejemplo => fromBytesToEpochMillis("2020-12-01T10:30:00.250-03:00".getBytes(UTF_8), 0, 29, ISO_DATE_TIME_FORMAT_MICRO_SECONDS) => 1606829400250
+     * @exception java.time.format.DateTimeParseException => si la fecha-hora no es valida para el pattern.
+     * @exception IllegalArgumentException => si el pattern no es uno de los dos soportados.
+     * @since 18-10-2026
+     * @return long => milisegundos desde 1970-01-01T00:00Z.
+     */
+    public static long fromBytesToEpochMillis(byte[] bytes, int offset, int length, String pattern) {
+        return IsoTimestampParser.toEpochMillis(bytes, offset, length, pattern);
+    }
+
+    /**
+     * Igual que fromBytesToEpochMillis pero con precision de microsegundos.
+     * @exception java.time.format.DateTimeParseException => si la fecha-hora no es valida para el pattern.
+     * @exception IllegalArgumentException => si el pattern no es uno de los dos soportados.
+     * @since 18-10-2026
+     * @return long => microsegundos desde 1970-01-01T00:00Z.
+     */
+    public static long fromBytesToEpochMicros(byte[] bytes, int offset, int length, String pattern) {
+        return IsoTimestampParser.toEpochMicros(bytes, offset, length, pattern);
+    }
+
+    /**
+     * Igual que fromDateToLocalDateByMilliSeconds(new Date(epochMillis), zoneId).toEpochDay() sin crear objetos.
+     * @since 18-10-2026
+     * @return int => dias desde 1970-01-01 en la zona indicada.
+     */
+    public static int fromEpochMillisToEpochDay(long epochMillis, ZoneId zoneId) {
+        long epochSecond = Math.floorDiv(epochMillis, 1_000L);
+        long localSecond = epochSecond + ZoneOffsets.offsetSecondsAt(zoneId, epochSecond);
+        return Math.toIntExact(Math.floorDiv(localSecond, 86_400L));
+    }
+
+    /**
+     * Igual que fromLocalDateToUtilDate(LocalDate.ofEpochDay(epochDay), zoneId).getTime() sin crear objetos.<br>
+     * <p>
+     * Si la medianoche no existe en la zona (cambio de horario) devuelve el primer instante valido del dia, igual que atStartOfDay.
+     * @since 18-10-2026
+     * @return long => milisegundos desde 1970-01-01T00:00Z del inicio del dia.
+     */
+    public static long fromEpochDayToEpochMillis(int epochDay, ZoneId zoneId) {
+        return ZoneOffsets.localToEpochSecond(zoneId, epochDay * 86_400L) * 1_000L;
+    }
+
+    private static DateFields parseDateTimeFields(String dateTime, String pattern) {
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        if (compiled != null && compiled.hasTime() && dateTime != null) {
+            DateFields fields = DateValidationEngine.threadFields();
+            if (compiled.parseFully(dateTime, Locale.getDefault(Locale.Category.FORMAT), fields))
+                return fields;
+        }
+        LocalDateTime parsed = LocalDateTime.parse(dateTime, FormatterCache.shared().get(pattern));
+        DateFields fields = DateValidationEngine.threadFields();
+        fields.reset();
+        fields.epochDay = parsed.toLocalDate().toEpochDay();
+        fields.nanoOfDay = parsed.toLocalTime().toNanoOfDay();
+        return fields;
+    }
+
+    private static long localEpochSecond(DateFields fields) {
+        return Math.addExact(Math.multiplyExact(fields.epochDay, 86_400L), fields.nanoOfDay / 1_000_000_000L);
     }
     
     /**
      * Retorna un ZoneId en particular que sirve para configurar horas en paises externos.<br>
      * <p>
-     * Recorre un Map.<br>
-     * idCountry corresponde al String de las key (3 letras MAYUSCULAS) - value (id as String)<br>
+     * Busca en el ZoneRegistry precargado, no parsea ni resuelve la zona en cada llamada.<br>
+     * idCountry corresponde al String de las key (3 letras, sin distinguir mayusculas) - value (id as String)<br>
      * <p>
-     *  @exception NullPointerException => si lo pasado por parametro no lo encuentra en las key que tiene el Map.<br>
+     *  @exception java.time.zone.ZoneRulesException => si lo pasado por parametro no lo encuentra en las key que tiene el Map.<br>
      * <p> 
      * Ejemplos de codigos:<br>
      * CAT => Africa/Harare<br>
@@ -576,11 +991,26 @@ public class DateUtilities {
      * Ver todos => getZoneIdAsMap();
      * @author Axel A. Berlot
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      * @return
      */
     public static ZoneId getZoneIdByShortcut(String idCountry) {
-    	return ZoneId.of(ZoneId.SHORT_IDS.get(idCountry));
+    	Optional<ZoneId> zoneId = ZoneRegistry.shared().findByShortcut(idCountry);
+    	if (!zoneId.isPresent())
+    	    throw new ZoneRulesException("Shortcut de ZoneId desconocido: " + idCountry + ", ver getZoneIdAsMap()");
+    	return zoneId.get();
+    }
+
+    /**
+     * Igual que getZoneIdByShortcut pero devuelve un Optional vacio si el shortcut no existe, sin excepciones.<br>
+     * <p>
+     * Ejemplo => findZoneIdByShortcut("agt").orElse(ZoneId.systemDefault());
+     * @since 18-10-2026
+     * @version 1.0
+     * @return Optional.
+     */
+    public static Optional<ZoneId> findZoneIdByShortcut(String idCountry) {
+    	return ZoneRegistry.shared().findByShortcut(idCountry);
     }
     
     /**
@@ -588,13 +1018,14 @@ public class DateUtilities {
      * <p>
      * Sirven para configurar un pais diferente al que usa el defaultSystem().<br>
      * <p>
+     * Es una vista no modificable y cacheada (ZoneIdIndex), no se copia en cada llamada.
      * @author Axel A. Berlot
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      * @return Set.
      */    
     public static Set<String> getZoneIdAsSet() {
-    	return ZoneId.getAvailableZoneIds();
+    	return ZoneIdIndex.current().asSet();
     }
     
     /**
@@ -602,14 +1033,14 @@ public class DateUtilities {
      * <p>
      * Sirven para configurar un pais diferente al que usa el defaultSystem().<br>
      * <p>
+     * Es una vista no modificable y cacheada (ZoneIdIndex), no se copia en cada llamada.
      * @author Axel A. Berlot
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      * @return List.
      */    
     public static List<String> getZoneIdAsList() {
-    	List<String> list = new ArrayList<>(ZoneId.getAvailableZoneIds());
-    	return list;
+    	return ZoneIdIndex.current().asList();
     }
 
     
@@ -633,13 +1064,101 @@ public class DateUtilities {
     /**
      * Retorna => Retorna un String con el formato de la fecha pasado por parametro<br>
      * <p>
+     * Si esta activado FormattedDateCache (FormattedDateCache.enable()) las fechas cercanas a hoy salen del cache.
      * @author Axel A. Berlot
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      * @return String.
      */
     public static String formatLocaldateTimeToAnyPattern(LocalDate date, String pattern) {
-    	return DateTimeFormatter.ofPattern(pattern).format(date);
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    FormattedDateCache cache = FormattedDateCache.shared();
+    	    String formatted = cache != null ? cache.format(date, pattern) : FormatterCache.shared().get(pattern).format(date);
+    	    failed = false;
+    	    return formatted;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("formatLocaldateTimeToAnyPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que formatLocaldateTimeToAnyPattern pero agrega el texto al StringBuilder, sin crear un String.<br>
+     * <p>
+     * Con los patterns de esta Clase (y años 1-9999) no crea objetos, ej. para armar logs o JSON en un buffer grande.
+     * @since 18-10-2026
+     * @version 1.0
+     */
+    public static void formatLocaldateTimeToAnyPattern(LocalDate date, String pattern, StringBuilder out) {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    DateFormatWriter.formatTo(date, pattern, out);
+    	    failed = false;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("formatLocaldateTimeToAnyPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que formatLocaldateTimeToAnyPattern pero escribe en el Appendable (Writer, CharBuffer...).
+     * @since 18-10-2026
+     * @version 1.0
+     */
+    public static void formatLocaldateTimeToAnyPattern(LocalDate date, String pattern, Appendable out) throws IOException {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    DateFormatWriter.formatTo(date, pattern, out);
+    	    failed = false;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("formatLocaldateTimeToAnyPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que formatLocaldateTimeToAnyPattern pero escribe en buffer a partir de offset.<br>
+     * @exception IndexOutOfBoundsException => si el texto no entra, en ese caso no se escribe nada.
+     * @since 18-10-2026
+     * @version 1.0
+     * @return int => cantidad de caracteres escritos.
+     */
+    public static int formatLocaldateTimeToAnyPattern(LocalDate date, String pattern, char[] buffer, int offset) {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    int written = DateFormatWriter.formatTo(date, pattern, buffer, offset);
+    	    failed = false;
+    	    return written;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("formatLocaldateTimeToAnyPattern", pattern, start, date == null, failed);
+    	}
+    }
+
+    /**
+     * Igual que formatLocaldateTimeToAnyPattern pero escribe el texto como ASCII en la posicion actual del ByteBuffer.<br>
+     * @exception java.nio.BufferOverflowException => si el texto no entra, en ese caso no se escribe nada.
+     * @exception IllegalArgumentException => si el texto tiene caracteres no ASCII (nombres de mes de algunos Locale).
+     * @since 18-10-2026
+     * @version 1.0
+     * @return int => cantidad de bytes escritos.
+     */
+    public static int formatLocaldateTimeToAnyPattern(LocalDate date, String pattern, ByteBuffer buffer) {
+    	long start = DateMetrics.start();
+    	boolean failed = true;
+    	try {
+    	    int written = DateFormatWriter.formatTo(date, pattern, buffer);
+    	    failed = false;
+    	    return written;
+    	} finally {
+    	    if (start != DateMetrics.DISABLED)
+    	        DateMetrics.record("formatLocaldateTimeToAnyPattern", pattern, start, date == null, failed);
+    	}
     }
     
     /**
@@ -647,15 +1166,100 @@ public class DateUtilities {
      * <p>
      * Puede pasarse por ejemplo => "America" como parametro y deberia devolver todos los ZoneId's que tengan America en sus ZoneId 's, o pasar "Mendoza" y devolveria los matches.<br>
      * <p>
+     * Busca en un indice de n-gramas precalculado (ZoneIdIndex) en lugar de recorrer todas las zonas.
      * @author Axel A. Berlot
      * @since 01-12-2020
-     * @version 1.0
+     * @version 1.1
      * @return List.
      */
     public static List<String> getZoneIdsByFilterString(String continentOrRegion) {
-    	return getZoneIdAsList().stream().filter( x -> x.contains(continentOrRegion) ).collect(Collectors.toList());
+    	return ZoneIdIndex.current().findContaining(continentOrRegion, false, ZoneIdIndex.NO_LIMIT);
+    }
+
+    /**
+     * Retorna => igual que getZoneIdsByFilterString, opcionalmente sin distinguir mayusculas y con un maximo de resultados.<br>
+     * <p>
+     * Pensado para un selector de zonas type-ahead, ejemplo => getZoneIdsByFilterString("buenos", true, 10).
+     * @since 18-10-2026
+     * @version 1.0
+     * @return List.
+     */
+    public static List<String> getZoneIdsByFilterString(String continentOrRegion, boolean ignoreCase, int limit) {
+    	return ZoneIdIndex.current().findContaining(continentOrRegion, ignoreCase, limit);
+    }
+
+    /**
+     * Retorna => lista de idString ZoneId's que empiezan con el texto, en orden alfabetico.<br>
+     * <p>
+     * Ejemplo => getZoneIdsByPrefix("america/argentina", true, 5).
+     * @since 18-10-2026
+     * @version 1.0
+     * @return List.
+     */
+    public static List<String> getZoneIdsByPrefix(String prefix, boolean ignoreCase, int limit) {
+    	return ZoneIdIndex.current().findByPrefix(prefix, ignoreCase, limit);
     }
     
+    /**
+     * Detecta el formato de la fecha entre los patterns de esta Clase mirando el texto una sola vez, y la parsea.<br>
+     * <p>
+     * Reemplaza probar isValidDate con cada constante hasta que una pase. Las fechas ambiguas (05/06/2021) se leen dd/MM.<br>
+     * Para MM/dd o rechazar las ambiguas usar new DateFormatDetector(Ambiguity.MONTH_FIRST / REJECT, locale).<br>
+     * <p>
+     * Ejemplo => detectDateFormat("2021-06-05").get().getPattern() => ISO_DATE
+     * @since 18-10-2026
+     * @version 1.0
+     * @return Optional => vacio si no coincide con ningun formato o la fecha no es real.
+     */
+    public static Optional<DetectedDate> detectDateFormat(String date) {
+    	return DateFormatDetector.dayFirst().detect(date);
+    }
+
+    /**
+     * Retorna => la hora actual formateada, igual que convertDateToIsoDateToSpecificPattern(new Date(), pattern),
+     * pero el texto se reutiliza mientras no cambie el campo mas fino del pattern (ej. un minuto para ISO_DATE_TIME_FORMAT_MINUTES).<br>
+     * <p>
+     * Usa CachedClock.shared(): el TimeZone y Locale por defecto se toman en el primer uso.
+     * Para otra zona o un Clock de test crear un CachedClock propio.<br>
+     * <p>
+     * Ejemplo => convertNowToSpecificPattern(ISO_DATE_TIME_ZONE_FORMAT_MINUTES) => "2026-10-18T10:30Z"
+     * @since 18-10-2026
+     * @version 1.0
+     * @return String.
+     */
+    public static String convertNowToSpecificPattern(String pattern) {
+    	return CachedClock.shared().now(pattern);
+    }
+
+    /**
+     * Precarga las constantes de pattern de esta Clase, el Locale de formato por defecto, la zona del sistema y UTC,
+     * para que las primeras llamadas despues del arranque no paguen la inicializacion de java.time.<br>
+     * <p>
+     * Igual que DateWarmUp.create().run(): LAZY y sin workload. Para elegir Locales, zonas o correr el workload
+     * sintetico usar DateWarmUp directamente.<br>
+     * <p>
+     * Ejemplo => warmUp() => DateWarmUp.Report[LAZY, PATTERNS=3.2 ms, LOCALES=8.4 ms, ZONES=2.1 ms, WORKLOAD=0.0 ms]
+     * @since 18-10-2026
+     * @version 1.0
+     * @return DateWarmUp.Report => tiempo de cada fase.
+     */
+    public static DateWarmUp.Report warmUp() {
+    	return DateWarmUp.create().run();
+    }
+
+    /**
+     * Igual que warmUp() con el modo de inicializacion y las vueltas de workload sintetico indicadas (0 lo desactiva).<br>
+     * <p>
+     * Ejemplo => warmUp(DateWarmUp.Initialization.EAGER, DateWarmUp.DEFAULT_WORKLOAD_ITERATIONS)
+     * @exception IllegalArgumentException => si workloadIterations es negativo.
+     * @since 18-10-2026
+     * @version 1.0
+     * @return DateWarmUp.Report => tiempo de cada fase.
+     */
+    public static DateWarmUp.Report warmUp(DateWarmUp.Initialization initialization, int workloadIterations) {
+    	return DateWarmUp.create().initialization(initialization).workload(workloadIterations).run();
+    }
+
     public static void main(String[] args) {
     }
 
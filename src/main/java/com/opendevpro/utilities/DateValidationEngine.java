@@ -0,0 +1,133 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Motor de validacion de fechas sin excepciones ni objetos intermedios.<br>
+ * <p>
+ * Los patterns de DateUtilities (DD_MM_YYYY_*, YYYY_MM_DD_*, DD_MMM_YYYY_* e ISO_*) se compilan una sola vez a validadores
+ * especializados que revisan digitos, separadores, rangos de campos, largo de los meses y años bisiestos directo sobre el CharSequence.<br>
+ * <p>
+ * Da las mismas respuestas que LocalDate.parse / LocalDateTime.parse con DateTimeFormatter.ofPattern(pattern), incluido el
+ * ajuste de ResolverStyle.SMART (30/02/2020 es valido porque se ajusta a 29/02/2020, 32/02/2020 no).<br>
+ * <p>
+ * Los patterns que no se pueden compilar se validan con DateTimeFormatter capturando la excepcion, igual que antes.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * DateValidationEngine.isValidDate("29/02/2021", DateUtilities.DD_MM_YYYY_SLASH);
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateValidationEngine {
+
+    private static final int MAX_COMPILED_PATTERNS = 256;
+    private static final Object UNSUPPORTED = new Object();
+    private static final Map<String, Object> COMPILED = new ConcurrentHashMap<>();
+    private static final ThreadLocal<DateFields> FIELDS = new ThreadLocal<DateFields>() {
+        @Override
+        protected DateFields initialValue() {
+            return new DateFields();
+        }
+    };
+
+    static {
+        for (String pattern : FormatterCache.CLASS_PATTERNS)
+            compiled(pattern);
+    }
+
+    private DateValidationEngine() {
+    }
+
+    /**
+     * Retorna => true si el pattern se valida con el motor compilado, false si se valida con DateTimeFormatter.
+     * @return boolean.
+     */
+    public static boolean isSupported(String pattern) {
+        return compiled(pattern) != null;
+    }
+
+    /**
+     * Equivalente a LocalDate.parse(date, DateTimeFormatter.ofPattern(pattern)) sin disparar excepciones.<br>
+     * <p>
+     * Usa el Locale por defecto de formato (solo importa para MMM).
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return boolean.
+     */
+    public static boolean isValidDate(CharSequence date, String pattern) {
+        return isValidDate(date, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Equivalente a LocalDate.parse(date, DateTimeFormatter.ofPattern(pattern, locale)) sin disparar excepciones.<br>
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return boolean.
+     */
+    public static boolean isValidDate(CharSequence date, String pattern, Locale locale) {
+        CompiledDatePattern compiled = compiled(pattern);
+        if (compiled != null)
+            return compiled.parseFully(date, locale, FIELDS.get());
+        DateTimeFormatter formatter = FormatterCache.shared().get(pattern, locale);
+        try {
+            LocalDate.parse(date, formatter);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Equivalente a LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern(pattern)) sin disparar excepciones.<br>
+     * <p>
+     * Un pattern sin hora (ej. DD_MM_YYYY_SLASH) nunca es valido como LocalDateTime.
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return boolean.
+     */
+    public static boolean isValidDateTime(CharSequence dateTime, String pattern) {
+        return isValidDateTime(dateTime, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Equivalente a LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern(pattern, locale)) sin disparar excepciones.<br>
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return boolean.
+     */
+    public static boolean isValidDateTime(CharSequence dateTime, String pattern, Locale locale) {
+        CompiledDatePattern compiled = compiled(pattern);
+        if (compiled != null)
+            return compiled.hasTime() && compiled.parseFully(dateTime, locale, FIELDS.get());
+        DateTimeFormatter formatter = FormatterCache.shared().get(pattern, locale);
+        try {
+            LocalDateTime.parse(dateTime, formatter);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Retorna el pattern compilado o null si no esta soportado por el motor.<br>
+     * <p>
+     * Se guardan como maximo MAX_COMPILED_PATTERNS, el resto se compila en cada llamada.
+     */
+    static CompiledDatePattern compiled(String pattern) {
+        Object cached = COMPILED.get(pattern);
+        if (cached == null) {
+            CompiledDatePattern compiled = CompiledDatePattern.compile(pattern);
+            cached = compiled != null ? compiled : UNSUPPORTED;
+            if (COMPILED.size() < MAX_COMPILED_PATTERNS)
+                COMPILED.putIfAbsent(pattern, cached);
+        }
+        return cached == UNSUPPORTED ? null : (CompiledDatePattern) cached;
+    }
+
+    static DateFields threadFields() {
+        return FIELDS.get();
+    }
+}
@@ -0,0 +1,658 @@
+package com.opendevpro.utilities;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validacion asincronica de fechas en lotes, para no frenar los hilos de request con firewallIsRealDate.<br>
+ * <p>
+ * Los productores encolan valores con su pattern y reciben un CompletableFuture (true si la fecha es real).
+ * Un hilo despachador agrupa los valores por pattern y tipo (fecha o fecha/hora) y entrega cada lote a los workers cuando
+ * llega a batchSize o cuando el primer valor del lote espero lingerMillis. El pattern se resuelve una vez por lote.<br>
+ * <p>
+ * Backpressure: la cola es acotada (queueCapacity). submit() bloquea al productor si esta llena y offer() espera como
+ * maximo el timeout. Los lotes en proceso tambien estan acotados (workers), si todos estan ocupados el despachador espera
+ * y la cola se llena.<br>
+ * <p>
+ * Los workers son hilos virtuales si la JVM los soporta (Java 21+), si no un pool fijo de hilos daemon.<br>
+ * <p>
+ * Ademas de los futures se puede pasar un Listener que recibe cada resultado (flujo de callbacks). send() encola sin crear future.<br>
+ * <p>
+ * Las respuestas son las de firewallIsRealDate / firewallIsRealDateTime sin excepcion: false si la fecha no existe,
+ * null es valido solo con allowNulls. Un pattern invalido completa los futures con IllegalArgumentException.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * try (DateValidationPipeline pipeline = new DateValidationPipeline()) {<br>
+ * &nbsp;&nbsp;pipeline.submit("20/12/2020", DD_MM_YYYY_SLASH, false).thenAccept(valid -> ...);<br>
+ * }
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateValidationPipeline implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final long DEFAULT_LINGER_MILLIS = 2L;
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Item SHUTDOWN = new Item(null, null, false, false, null, 0L);
+
+    /**
+     * Recibe el resultado de cada valor procesado, se llama desde los workers.
+     */
+    public interface Listener {
+
+        void onResult(String value, String pattern, boolean valid);
+
+        /**
+         * Se llama cuando el pattern no es valido. Por defecto no hace nada.
+         */
+        default void onError(String value, String pattern, RuntimeException error) {
+        }
+    }
+
+    private final BlockingQueue<Item> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int workers;
+    private final Listener listener;
+    private final Locale locale;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore running;
+    private final Thread dispatcher;
+    private final long createdNanos = System.nanoTime();
+    private volatile boolean closed;
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder valid = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Pipeline con los valores por defecto: DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_LINGER_MILLIS,
+     * un worker por procesador y sin Listener.
+     */
+    public DateValidationPipeline() {
+        this(DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_LINGER_MILLIS, Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    /**
+     * @param queueCapacity => valores encolados como maximo antes de frenar a los productores.
+     * @param batchSize => valores por lote.
+     * @param lingerMillis => espera maxima de un lote incompleto (0 despacha lo que haya en cada vuelta).
+     * @param workers => lotes procesandose a la vez como maximo.
+     * @param listener => recibe cada resultado, puede ser null.
+     * @exception IllegalArgumentException => si algun tamaño no es positivo o lingerMillis es negativo.
+     */
+    public DateValidationPipeline(int queueCapacity, int batchSize, long lingerMillis, int workers, Listener listener) {
+        if (queueCapacity <= 0 || batchSize <= 0 || workers <= 0 || lingerMillis < 0)
+            throw new IllegalArgumentException("queueCapacity, batchSize y workers deben ser positivos y lingerMillis no negativo");
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.workers = workers;
+        this.listener = listener;
+        this.locale = Locale.getDefault(Locale.Category.FORMAT);
+        this.running = new Semaphore(workers);
+        ExecutorService virtual = virtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "opendevpro-date-validation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatch, "opendevpro-date-validation-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Retorna => true si la JVM tiene hilos virtuales (Executors.newVirtualThreadPerTaskExecutor).
+     * @return boolean.
+     */
+    public static boolean virtualThreadsAvailable() {
+        return virtualThreadFactoryMethod() != null;
+    }
+
+    /**
+     * Encola una fecha (LocalDate), bloquea si la cola esta llena.<br>
+     * @return CompletableFuture => true si la fecha existe, fallido con RejectedExecutionException si el pipeline esta cerrado
+     * o el hilo fue interrumpido esperando lugar.
+     */
+    public CompletableFuture<Boolean> submit(String date, String pattern, boolean allowNulls) {
+        return enqueue(date, pattern, allowNulls, false, -1L);
+    }
+
+    /**
+     * Igual que submit() para fecha/hora (LocalDateTime).
+     * @return CompletableFuture.
+     */
+    public CompletableFuture<Boolean> submitDateTime(String dateTime, String pattern, boolean allowNulls) {
+        return enqueue(dateTime, pattern, allowNulls, true, -1L);
+    }
+
+    /**
+     * Igual que submit() pero espera lugar en la cola como maximo el timeout.<br>
+     * @return CompletableFuture => fallido con RejectedExecutionException si no hubo lugar a tiempo.
+     */
+    public CompletableFuture<Boolean> offer(String date, String pattern, boolean allowNulls, long timeout, TimeUnit unit) {
+        return enqueue(date, pattern, allowNulls, false, Math.max(0L, unit.toNanos(timeout)));
+    }
+
+    /**
+     * Igual que offer() para fecha/hora (LocalDateTime).
+     * @return CompletableFuture.
+     */
+    public CompletableFuture<Boolean> offerDateTime(String dateTime, String pattern, boolean allowNulls, long timeout, TimeUnit unit) {
+        return enqueue(dateTime, pattern, allowNulls, true, Math.max(0L, unit.toNanos(timeout)));
+    }
+
+    /**
+     * Encola una fecha sin future, el resultado solo llega al Listener. Bloquea si la cola esta llena.<br>
+     * @exception IllegalStateException => si el pipeline no tiene Listener.
+     * @exception RejectedExecutionException => si el pipeline esta cerrado o el hilo fue interrumpido.
+     */
+    public void send(String date, String pattern, boolean allowNulls) {
+        if (listener == null)
+            throw new IllegalStateException("send() necesita un Listener");
+        rethrowRejection(put(new Item(date, pattern, allowNulls, false, null, System.nanoTime()), -1L));
+    }
+
+    /**
+     * Igual que send() para fecha/hora (LocalDateTime).
+     */
+    public void sendDateTime(String dateTime, String pattern, boolean allowNulls) {
+        if (listener == null)
+            throw new IllegalStateException("sendDateTime() necesita un Listener");
+        rethrowRejection(put(new Item(dateTime, pattern, allowNulls, true, null, System.nanoTime()), -1L));
+    }
+
+    /**
+     * Deja de aceptar valores, procesa los que ya estaban encolados y espera a que terminen los workers.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(SHUTDOWN);
+                dispatcher.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        // valores que entraron despues de SHUTDOWN
+        while (producers.get() > 0 || !queue.isEmpty()) {
+            Item late = queue.poll();
+            if (late != null)
+                rejectLate(late);
+            else
+                Thread.yield();
+        }
+        executor.shutdown();
+        while (true) {
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Retorna => foto de las estadisticas acumuladas desde la creacion.
+     * @return Stats.
+     */
+    public Stats stats() {
+        long completed = valid.sum() + invalid.sum() + failed.sum();
+        long elapsed = System.nanoTime() - createdNanos;
+        return new Stats(submitted.sum(), rejected.sum(), valid.sum(), invalid.sum(), failed.sum(), batches.sum(),
+            queue.size(), completed == 0 ? 0L : latencyNanos.sum() / completed, maxLatencyNanos.get(),
+            elapsed <= 0 ? 0.0 : completed * 1_000_000_000.0 / elapsed);
+    }
+
+    @Override
+    public String toString() {
+        return "DateValidationPipeline[batchSize=" + batchSize + ", lingerNanos=" + lingerNanos + ", workers=" + workers
+            + ", virtualThreads=" + virtualThreads + ", " + stats() + "]";
+    }
+
+    private CompletableFuture<Boolean> enqueue(String value, String pattern, boolean allowNulls, boolean dateTime, long timeoutNanos) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        RejectedExecutionException rejection = put(new Item(value, pattern, allowNulls, dateTime, future, System.nanoTime()), timeoutNanos);
+        if (rejection != null)
+            future.completeExceptionally(rejection);
+        return future;
+    }
+
+    /*
+     * Retorna null si el valor quedo encolado.
+     * Espera en tramos de POLL_NANOS para ver closed: un productor bloqueado con la cola llena no queda colgado al cerrar.
+     * producers cuenta los productores dentro de put(), close() espera a que salgan antes de rechazar lo que quedo en la cola.
+     */
+    private RejectedExecutionException put(Item item, long timeoutNanos) {
+        if (item.pattern == null)
+            throw new NullPointerException("pattern");
+        producers.incrementAndGet();
+        try {
+            long deadline = System.nanoTime() + timeoutNanos;
+            while (true) {
+                if (closed) {
+                    rejected.increment();
+                    return new RejectedExecutionException("el pipeline esta cerrado");
+                }
+                long wait = timeoutNanos < 0 ? POLL_NANOS : Math.min(POLL_NANOS, deadline - System.nanoTime());
+                if (queue.offer(item, Math.max(0L, wait), TimeUnit.NANOSECONDS))
+                    break;
+                if (timeoutNanos >= 0 && deadline - System.nanoTime() <= 0) {
+                    rejected.increment();
+                    return new RejectedExecutionException("cola llena (" + queue.size() + " valores)");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            return new RejectedExecutionException("interrumpido esperando lugar en la cola");
+        } finally {
+            producers.decrementAndGet();
+        }
+        submitted.increment();
+        return null;
+    }
+
+    private static void rethrowRejection(RejectedExecutionException rejection) {
+        if (rejection != null)
+            throw rejection;
+    }
+
+    /*
+     * Hilo despachador: arma los lotes por pattern y tipo y los entrega a los workers.
+     * Despues de SHUTDOWN despacha los lotes pendientes y termina (close() ya no deja encolar).
+     */
+    private void dispatch() {
+        Map<BatchKey, Batch> pending = new HashMap<>();
+        while (true) {
+            Item item;
+            try {
+                if (pending.isEmpty()) {
+                    item = queue.take();
+                } else {
+                    long wait = oldestFirstNanos(pending) + lingerNanos - System.nanoTime();
+                    item = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : queue.poll();
+                }
+            } catch (InterruptedException e) {
+                // solo close() termina el despachador
+                continue;
+            }
+            if (item == SHUTDOWN) {
+                for (Batch batch : pending.values())
+                    execute(batch);
+                return;
+            }
+            if (item != null)
+                add(pending, item);
+            long now = System.nanoTime();
+            for (Iterator<Batch> it = pending.values().iterator(); it.hasNext(); ) {
+                Batch batch = it.next();
+                if (now - batch.firstNanos >= lingerNanos) {
+                    it.remove();
+                    execute(batch);
+                }
+            }
+        }
+    }
+
+    private void add(Map<BatchKey, Batch> pending, Item item) {
+        BatchKey key = new BatchKey(item.pattern, item.dateTime);
+        Batch batch = pending.get(key);
+        if (batch == null) {
+            batch = new Batch(key, batchSize, item.submitNanos);
+            pending.put(key, batch);
+        }
+        batch.items.add(item);
+        if (batch.items.size() >= batchSize) {
+            pending.remove(key);
+            execute(batch);
+        }
+    }
+
+    private static long oldestFirstNanos(Map<BatchKey, Batch> pending) {
+        long first = Long.MAX_VALUE;
+        boolean any = false;
+        for (Batch batch : pending.values()) {
+            if (!any || batch.firstNanos - first < 0)
+                first = batch.firstNanos;
+            any = true;
+        }
+        return first;
+    }
+
+    private void execute(final Batch batch) {
+        running.acquireUninterruptibly();
+        batches.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    process(batch);
+                } finally {
+                    running.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.release();
+            process(batch);
+        }
+    }
+
+    private void process(Batch batch) {
+        String pattern = batch.key.pattern;
+        boolean dateTime = batch.key.dateTime;
+        CompiledDatePattern compiled;
+        DateTimeFormatter formatter = null;
+        try {
+            compiled = DateValidationEngine.compiled(pattern);
+            if (compiled == null)
+                formatter = FormatterCache.shared().get(pattern, locale);
+        } catch (RuntimeException e) {
+            for (Item item : batch.items)
+                fail(item, e);
+            return;
+        }
+        DateFields fields = DateValidationEngine.threadFields();
+        for (Item item : batch.items) {
+            boolean result;
+            if (item.value == null)
+                result = item.allowNulls;
+            else if (compiled != null)
+                result = (!dateTime || compiled.hasTime()) && compiled.parseFully(item.value, locale, fields);
+            else
+                result = parses(item.value, formatter, dateTime);
+            complete(item, result);
+        }
+    }
+
+    private static boolean parses(String value, DateTimeFormatter formatter, boolean dateTime) {
+        try {
+            if (dateTime)
+                LocalDateTime.parse(value, formatter);
+            else
+                LocalDate.parse(value, formatter);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private void complete(Item item, boolean result) {
+        (result ? valid : invalid).increment();
+        recordLatency(item);
+        // el Listener primero: quien espera el future ya ve el callback hecho
+        if (listener != null) {
+            try {
+                listener.onResult(item.value, item.pattern, result);
+            } catch (RuntimeException e) {
+                // un Listener que falla no deja sin completar el future ni el resto del lote
+            }
+        }
+        if (item.future != null)
+            item.future.complete(result);
+    }
+
+    private void fail(Item item, RuntimeException error) {
+        failed.increment();
+        recordLatency(item);
+        completeExceptionally(item, error);
+    }
+
+    private void rejectLate(Item item) {
+        submitted.decrement();
+        rejected.increment();
+        completeExceptionally(item, new RejectedExecutionException("el pipeline esta cerrado"));
+    }
+
+    private void completeExceptionally(Item item, RuntimeException error) {
+        if (listener != null) {
+            try {
+                listener.onError(item.value, item.pattern, error);
+            } catch (RuntimeException e) {
+                // igual que en complete()
+            }
+        }
+        if (item.future != null)
+            item.future.completeExceptionally(error);
+    }
+
+    private void recordLatency(Item item) {
+        long latency = System.nanoTime() - item.submitNanos;
+        latencyNanos.add(latency);
+        maxLatencyNanos.accumulate(latency);
+    }
+
+    /*
+     * Executors.newVirtualThreadPerTaskExecutor() por reflexion, el proyecto compila para Java 8.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        Method method = virtualThreadFactoryMethod();
+        if (method == null)
+            return null;
+        try {
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method virtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static final class Item {
+        final String value;
+        final String pattern;
+        final boolean allowNulls;
+        final boolean dateTime;
+        final CompletableFuture<Boolean> future;
+        final long submitNanos;
+
+        Item(String value, String pattern, boolean allowNulls, boolean dateTime, CompletableFuture<Boolean> future, long submitNanos) {
+            this.value = value;
+            this.pattern = pattern;
+            this.allowNulls = allowNulls;
+            this.dateTime = dateTime;
+            this.future = future;
+            this.submitNanos = submitNanos;
+        }
+    }
+
+    private static final class BatchKey {
+        final String pattern;
+        final boolean dateTime;
+
+        BatchKey(String pattern, boolean dateTime) {
+            this.pattern = pattern;
+            this.dateTime = dateTime;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof BatchKey))
+                return false;
+            BatchKey key = (BatchKey) other;
+            return dateTime == key.dateTime && pattern.equals(key.pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode() * 31 + (dateTime ? 1 : 0);
+        }
+    }
+
+    private static final class Batch {
+        final BatchKey key;
+        final List<Item> items;
+        final long firstNanos;
+
+        Batch(BatchKey key, int batchSize, long firstNanos) {
+            this.key = key;
+            this.items = new ArrayList<>(Math.min(batchSize, 1024));
+            this.firstNanos = firstNanos;
+        }
+    }
+
+    /**
+     * Estadisticas acumuladas del pipeline (inmutable).
+     */
+    public static final class Stats {
+        private final long submitted;
+        private final long rejected;
+        private final long valid;
+        private final long invalid;
+        private final long failed;
+        private final long batches;
+        private final int queued;
+        private final long meanLatencyNanos;
+        private final long maxLatencyNanos;
+        private final double throughputPerSecond;
+
+        Stats(long submitted, long rejected, long valid, long invalid, long failed, long batches, int queued,
+                long meanLatencyNanos, long maxLatencyNanos, double throughputPerSecond) {
+            this.submitted = submitted;
+            this.rejected = rejected;
+            this.valid = valid;
+            this.invalid = invalid;
+            this.failed = failed;
+            this.batches = batches;
+            this.queued = queued;
+            this.meanLatencyNanos = meanLatencyNanos;
+            this.maxLatencyNanos = maxLatencyNanos;
+            this.throughputPerSecond = throughputPerSecond;
+        }
+
+        /**
+         * Retorna => valores aceptados en la cola.
+         * @return long.
+         */
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        /**
+         * Retorna => valores rechazados (cola llena con offer(), pipeline cerrado o interrupcion).
+         * @return long.
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getValid() {
+            return valid;
+        }
+
+        public long getInvalid() {
+            return invalid;
+        }
+
+        /**
+         * Retorna => valores con pattern invalido.
+         * @return long.
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getCompleted() {
+            return valid + invalid + failed;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * Retorna => valores en la cola en el momento de la foto.
+         * @return int.
+         */
+        public int getQueued() {
+            return queued;
+        }
+
+        public double getMeanBatchSize() {
+            return batches == 0 ? 0.0 : (double) getCompleted() / batches;
+        }
+
+        /**
+         * Retorna => latencia media desde que se encola hasta que se completa, en nanosegundos.
+         * @return long.
+         */
+        public long getMeanLatencyNanos() {
+            return meanLatencyNanos;
+        }
+
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos;
+        }
+
+        /**
+         * Retorna => valores completados por segundo desde la creacion del pipeline.
+         * @return double.
+         */
+        public double getThroughputPerSecond() {
+            return throughputPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[submitted=" + submitted + ", rejected=" + rejected + ", valid=" + valid + ", invalid=" + invalid
+                + ", failed=" + failed + ", batches=" + batches + ", queued=" + queued + ", meanLatencyNanos=" + meanLatencyNanos
+                + ", maxLatencyNanos=" + maxLatencyNanos + ", throughputPerSecond=" + Math.round(throughputPerSecond) + "]";
+        }
+    }
+}
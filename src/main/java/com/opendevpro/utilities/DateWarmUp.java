@@ -0,0 +1,391 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Calentamiento explicito de DateUtilities para que las primeras llamadas despues de un deploy no paguen la inicializacion.<br>
+ * <p>
+ * La primera llamada con cada pattern carga los datos del Locale, ZoneRulesProvider, las clases de java.time y compila
+ * el pattern; hasta que el JIT compila los metodos calientes todo corre interpretado. run() hace ese trabajo por fases
+ * y devuelve el tiempo de cada una:<br>
+ * - PATTERNS: las constantes de pattern de la Clase en FormatterCache y DateValidationEngine, y una llamada a cada
+ * metodo caliente con cada pattern (carga las clases de los caminos de validacion, parseo y formato).<br>
+ * - LOCALES: los patterns y los nombres de mes (MonthNames) de cada Locale elegido.<br>
+ * - ZONES: ZoneRules y tabla de ZoneOffsetCache de cada zona elegida.<br>
+ * - WORKLOAD: opcional, workload(iterations) llamadas sinteticas a los metodos calientes (validar, parsear, formatear
+ * y convertir) con todos los patterns y zonas, para que el JIT los compile antes del trafico real.<br>
+ * <p>
+ * Initialization.LAZY solo carga lo elegido; el resto (ZoneRegistry con todas las zonas, ZoneIdIndex, DateFormatDetector,
+ * CachedClock) se sigue inicializando en su primer uso. Initialization.EAGER los construye tambien durante el calentamiento.<br>
+ * <p>
+ * Por defecto: LAZY, el Locale de formato por defecto, la zona del sistema y UTC, sin workload.
+ * Es idempotente, volver a correrlo solo cuesta las busquedas en los caches.<br>
+ * <p>
+ * Las llamadas del calentamiento no cuentan en DateMetrics ni llenan ParsedDateCache, CanonicalDatePool ni
+ * FormattedDateCache: mientras run() corre, en su hilo DateMetrics no registra y los shared() de esos caches devuelven null.
+ * Los demas hilos siguen usandolos normalmente.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * DateWarmUp.Report report = DateWarmUp.create().initialization(DateWarmUp.Initialization.EAGER)
+ *     .locales(Locale.US, new Locale("es", "AR")).zones(DateUtilities.getZoneIdByShortcut("AGT")).workload(1_000).run();<br>
+ * System.out.println(report); => DateWarmUp.Report[EAGER, PATTERNS=4.1 ms, LOCALES=11.3 ms, ZONES=96.0 ms, WORKLOAD=180.2 ms]
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DateWarmUp {
+
+    /**
+     * Iteraciones sugeridas para workload(): alcanzan para que C2 compile los metodos de validacion y parseo.
+     */
+    public static final int DEFAULT_WORKLOAD_ITERATIONS = 1_000;
+
+    // calentamientos en curso y marca del hilo que corre cada uno
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    static final String[] DATE_PATTERNS = {
+        DateUtilities.DD_MM_YYYY_SLASH,
+        DateUtilities.YYYY_MM_DD_SLASH,
+        DateUtilities.DD_MM_YYYY_DASH,
+        DateUtilities.DD_MMM_YYYY_DASH,
+        DateUtilities.DD_MMM_YYYY_SLASH,
+        DateUtilities.MM_DD_YYYY_SLASH,
+        DateUtilities.ISO_DATE
+    };
+
+    static final String[] DATE_TIME_PATTERNS = {
+        DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES,
+        DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES
+    };
+
+    // fechas del workload: 2000-01-01 mas un paso que recorre todos los dias del mes y los meses del año
+    private static final long WORKLOAD_FIRST_EPOCH_DAY = DateFields.toEpochDay(2000, 1, 1);
+    private static final int WORKLOAD_DAY_STEP = 37;
+    private static final int WORKLOAD_DAYS = 40 * 366;
+
+    /**
+     * LAZY: solo lo elegido. EAGER: ademas las tablas globales que de otro modo se construyen en su primer uso.
+     */
+    public enum Initialization {
+        LAZY,
+        EAGER
+    }
+
+    public enum Phase {
+        PATTERNS,
+        LOCALES,
+        ZONES,
+        WORKLOAD
+    }
+
+    private Initialization initialization = Initialization.LAZY;
+    private final Set<Locale> locales = new LinkedHashSet<>();
+    private final Set<ZoneId> zones = new LinkedHashSet<>();
+    private int workloadIterations;
+
+    private DateWarmUp() {
+    }
+
+    /**
+     * Retorna => un calentamiento con la configuracion por defecto (LAZY, Locale y zona del sistema, UTC, sin workload).
+     * @return DateWarmUp.
+     */
+    public static DateWarmUp create() {
+        return new DateWarmUp();
+    }
+
+    /**
+     * @return DateWarmUp => this.
+     */
+    public DateWarmUp initialization(Initialization initialization) {
+        if (initialization == null)
+            throw new IllegalArgumentException("initialization no puede ser null");
+        this.initialization = initialization;
+        return this;
+    }
+
+    /**
+     * Agrega Locales a precargar, ademas del Locale de formato por defecto.
+     * @return DateWarmUp => this.
+     */
+    public DateWarmUp locales(Locale... locales) {
+        for (Locale locale : locales) {
+            if (locale == null)
+                throw new IllegalArgumentException("locale no puede ser null");
+            this.locales.add(locale);
+        }
+        return this;
+    }
+
+    /**
+     * Agrega zonas a precargar, ademas de la zona del sistema y UTC.
+     * @return DateWarmUp => this.
+     */
+    public DateWarmUp zones(ZoneId... zones) {
+        for (ZoneId zone : zones) {
+            if (zone == null)
+                throw new IllegalArgumentException("zone no puede ser null");
+            this.zones.add(zone);
+        }
+        return this;
+    }
+
+    /**
+     * Cantidad de vueltas del workload sintetico, 0 lo desactiva. Cada vuelta usa todos los patterns y zonas elegidas.
+     * @exception IllegalArgumentException => si iterations es negativo.
+     * @return DateWarmUp => this.
+     */
+    public DateWarmUp workload(int iterations) {
+        if (iterations < 0)
+            throw new IllegalArgumentException("iterations no puede ser negativo: " + iterations);
+        this.workloadIterations = iterations;
+        return this;
+    }
+
+    /**
+     * Corre todas las fases en el hilo actual.
+     * @return Report => tiempo de cada fase.
+     */
+    public Report run() {
+        RUNNING.incrementAndGet();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return runPhases();
+        } finally {
+            ACTIVE.remove();
+            RUNNING.decrementAndGet();
+        }
+    }
+
+    /**
+     * Retorna => true si el hilo actual esta corriendo un calentamiento. Fuera de un calentamiento solo cuesta una lectura volatil.
+     * @return boolean.
+     */
+    static boolean isActive() {
+        return RUNNING.get() != 0 && ACTIVE.get() != null;
+    }
+
+    private Report runPhases() {
+        List<Locale> selectedLocales = selectedLocales();
+        List<ZoneId> selectedZones = selectedZones();
+        Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+        long start = System.nanoTime();
+        loadPatterns();
+        long end = System.nanoTime();
+        nanos.put(Phase.PATTERNS, end - start);
+        start = end;
+        loadLocales(selectedLocales);
+        end = System.nanoTime();
+        nanos.put(Phase.LOCALES, end - start);
+        start = end;
+        loadZones(selectedZones);
+        end = System.nanoTime();
+        nanos.put(Phase.ZONES, end - start);
+        start = end;
+        long checksum = exercise(selectedZones.toArray(new ZoneId[0]), workloadIterations);
+        end = System.nanoTime();
+        nanos.put(Phase.WORKLOAD, end - start);
+        return new Report(initialization, selectedLocales, selectedZones, workloadIterations, nanos, checksum);
+    }
+
+    /**
+     * Corre run() en un hilo de fondo (daemon) para no demorar el arranque.<br>
+     * <p>
+     * El future se puede usar como readiness check antes de recibir trafico.
+     * @return CompletableFuture => se completa con el Report, o con la excepcion si alguna fase falla.
+     */
+    public CompletableFuture<Report> start() {
+        CompletableFuture<Report> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                future.complete(run());
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            }
+        }, "opendevpro-date-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
+    private List<Locale> selectedLocales() {
+        Set<Locale> selected = new LinkedHashSet<>();
+        selected.add(Locale.getDefault(Locale.Category.FORMAT));
+        selected.addAll(locales);
+        return Collections.unmodifiableList(new ArrayList<>(selected));
+    }
+
+    private List<ZoneId> selectedZones() {
+        Set<ZoneId> selected = new LinkedHashSet<>();
+        selected.add(ZoneId.systemDefault());
+        selected.add(ZoneOffset.UTC);
+        selected.addAll(zones);
+        return Collections.unmodifiableList(new ArrayList<>(selected));
+    }
+
+    private void loadPatterns() {
+        // la inicializacion de cada clase ya precarga los CLASS_PATTERNS para el Locale por defecto
+        FormatterCache cache = FormatterCache.shared();
+        for (String pattern : FormatterCache.CLASS_PATTERNS) {
+            cache.get(pattern);
+            DateValidationEngine.isSupported(pattern);
+        }
+        for (String pattern : DATE_PATTERNS) {
+            cache.get(pattern);
+            DateValidationEngine.isSupported(pattern);
+        }
+        if (initialization == Initialization.EAGER) {
+            DateFormatDetector.dayFirst();
+            CachedClock.shared();
+        }
+        // una vuelta por los metodos calientes con cada pattern: carga las clases de cada camino
+        exercise(new ZoneId[] { ZoneOffset.UTC }, 1);
+    }
+
+    private static void loadLocales(List<Locale> selected) {
+        FormatterCache cache = FormatterCache.shared();
+        for (Locale locale : selected) {
+            cache.preload(locale);
+            MonthNames.of(locale);
+        }
+    }
+
+    private void loadZones(List<ZoneId> selected) {
+        if (initialization == Initialization.EAGER) {
+            ZoneRegistry.shared();
+            ZoneIdIndex.current();
+        }
+        for (ZoneId zone : selected) {
+            zone.getRules();
+            ZoneOffsetCache.forZone(zone);
+        }
+    }
+
+    private static long exercise(ZoneId[] zoneArray, int iterations) {
+        StringBuilder out = new StringBuilder(40);
+        long checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            long epochDay = WORKLOAD_FIRST_EPOCH_DAY + (long) i * WORKLOAD_DAY_STEP % WORKLOAD_DAYS;
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            for (String pattern : DATE_PATTERNS) {
+                String text = DateUtilities.formatLocaldateTimeToAnyPattern(date, pattern);
+                if (DateUtilities.isValidDate(text, pattern))
+                    checksum += DateUtilities.fromStringToLocalDate(text, pattern).getDayOfMonth()
+                        + DateUtilities.fromStringToEpochDay(text, pattern);
+            }
+            ZoneId zone = zoneArray[i % zoneArray.length];
+            long epochMillis = DateUtilities.fromEpochDayToEpochMillis((int) epochDay, zone) + i * 61_001L;
+            Date value = new Date(epochMillis);
+            for (String pattern : DATE_TIME_PATTERNS) {
+                String text = DateUtilities.convertDateToIsoDateToSpecificPattern(value, pattern);
+                out.setLength(0);
+                DateUtilities.convertDateToIsoDateToSpecificPattern(value, pattern, out);
+                if (DateUtilities.isValidDateTime(text, pattern))
+                    checksum += DateUtilities.fromStringToEpochMillis(text, pattern, zone);
+                checksum += out.length();
+            }
+            checksum += DateUtilities.fromEpochMillisToEpochDay(epochMillis, zone);
+            checksum += DateUtilities.fromDateToLocalDateByMilliSeconds(value, zone).getDayOfYear();
+            checksum += DateUtilities.fromDateToLocalDateTimeByInstant(value, zone).getHour();
+        }
+        return checksum;
+    }
+
+    @Override
+    public String toString() {
+        return "DateWarmUp[" + initialization + ", locales=" + selectedLocales() + ", zones=" + selectedZones()
+            + ", workload=" + workloadIterations + "]";
+    }
+
+    /**
+     * Resultado de run(): configuracion usada y nanosegundos de cada fase.
+     */
+    public static final class Report {
+
+        private final Initialization initialization;
+        private final List<Locale> locales;
+        private final List<ZoneId> zones;
+        private final int workloadIterations;
+        private final Map<Phase, Long> nanos;
+        private final long checksum;
+
+        Report(Initialization initialization, List<Locale> locales, List<ZoneId> zones, int workloadIterations,
+                Map<Phase, Long> nanos, long checksum) {
+            this.initialization = initialization;
+            this.locales = locales;
+            this.zones = zones;
+            this.workloadIterations = workloadIterations;
+            this.nanos = Collections.unmodifiableMap(nanos);
+            this.checksum = checksum;
+        }
+
+        public Initialization getInitialization() {
+            return initialization;
+        }
+
+        public List<Locale> getLocales() {
+            return locales;
+        }
+
+        public List<ZoneId> getZones() {
+            return zones;
+        }
+
+        public int getWorkloadIterations() {
+            return workloadIterations;
+        }
+
+        /**
+         * Retorna => nanosegundos de la fase (WORKLOAD es casi 0 si no se pidio).
+         * @return long.
+         */
+        public long getNanos(Phase phase) {
+            return nanos.get(phase);
+        }
+
+        /**
+         * Retorna => nanosegundos por fase, en el orden de Phase.
+         * @return Map.
+         */
+        public Map<Phase, Long> getPhaseNanos() {
+            return nanos;
+        }
+
+        public long getTotalNanos() {
+            long total = 0;
+            for (long value : nanos.values())
+                total += value;
+            return total;
+        }
+
+        // resultado del workload, solo para que el JIT no descarte las llamadas
+        long getChecksum() {
+            return checksum;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder("DateWarmUp.Report[").append(initialization);
+            for (Map.Entry<Phase, Long> entry : nanos.entrySet())
+                text.append(", ").append(entry.getKey()).append('=')
+                    .append(String.format(Locale.ROOT, "%.1f ms", entry.getValue() / 1_000_000.0));
+            return text.append(']').toString();
+        }
+    }
+}
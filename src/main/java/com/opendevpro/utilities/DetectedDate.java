@@ -0,0 +1,68 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Resultado de DateFormatDetector: la fecha parseada y el pattern (constante de DateUtilities) que la reconocio.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class DetectedDate {
+
+    private final String pattern;
+    private final LocalDate date;
+    private final LocalDateTime dateTime;
+
+    DetectedDate(String pattern, LocalDate date, LocalDateTime dateTime) {
+        this.pattern = pattern;
+        this.date = date;
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Retorna => el pattern que reconocio la fecha, ej. DateUtilities.DD_MM_YYYY_SLASH.
+     * @return String.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Retorna => fecha y hora local si el pattern tiene hora, si no null. La zona u offset del texto no se aplica,
+     * igual que LocalDateTime.parse(text, pattern).
+     * @return LocalDateTime.
+     */
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public boolean hasTime() {
+        return dateTime != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof DetectedDate))
+            return false;
+        DetectedDate that = (DetectedDate) other;
+        return pattern.equals(that.pattern) && date.equals(that.date) && Objects.equals(dateTime, that.dateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pattern, date, dateTime);
+    }
+
+    @Override
+    public String toString() {
+        return "DetectedDate[" + (dateTime != null ? dateTime : date) + ", pattern=" + pattern + "]";
+    }
+}
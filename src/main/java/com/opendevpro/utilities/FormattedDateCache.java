@@ -0,0 +1,239 @@
+package com.opendevpro.utilities;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de fechas ya formateadas por dia (epoch-day), para cada pattern y Locale.<br>
+ * <p>
+ * Guarda una ventana de dias alrededor de hoy (pastDays para atras, futureDays para adelante) que se desliza sola cuando
+ * cambia el dia. Cada dia de la ventana se formatea la primera vez que se pide y despues se devuelve el mismo String.<br>
+ * Las fechas fuera de la ventana se formatean normalmente.<br>
+ * <p>
+ * Las lecturas no usan locks: la ventana es un String[] que se publica con una AtomicReference y los String son
+ * inmutables, si dos hilos llenan el mismo dia a la vez los dos guardan el mismo texto.<br>
+ * <p>
+ * La memoria esta acotada: como maximo MAX_FORMATS combinaciones de pattern/Locale de pastDays + futureDays + 1 dias.<br>
+ * <p>
+ * formatLocaldateTimeToAnyPattern lo usa si se activa con FormattedDateCache.enable().
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class FormattedDateCache {
+
+    public static final int DEFAULT_PAST_DAYS = 366;
+    public static final int DEFAULT_FUTURE_DAYS = 366;
+    public static final int MAX_FORMATS = 64;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static volatile FormattedDateCache shared;
+
+    private final int pastDays;
+    private final int windowSize;
+    private final Clock clock;
+    private final Map<String, Map<Locale, AtomicReference<Window>>> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger formats = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fills = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param pastDays => dias antes de hoy que se cachean.
+     * @param futureDays => dias despues de hoy que se cachean.
+     * @param clock => reloj para saber el dia actual (UTC).
+     * @exception IllegalArgumentException => si algun rango es negativo o la ventana supera 100000 dias.
+     */
+    public FormattedDateCache(int pastDays, int futureDays, Clock clock) {
+        if (pastDays < 0 || futureDays < 0 || (long) pastDays + futureDays >= 100_000)
+            throw new IllegalArgumentException("Ventana invalida: pastDays=" + pastDays + ", futureDays=" + futureDays);
+        if (clock == null)
+            throw new NullPointerException("clock");
+        this.pastDays = pastDays;
+        this.windowSize = pastDays + futureDays + 1;
+        this.clock = clock;
+    }
+
+    /**
+     * Activa el cache compartido que usa formatLocaldateTimeToAnyPattern, con la ventana por defecto.
+     */
+    public static void enable() {
+        enable(DEFAULT_PAST_DAYS, DEFAULT_FUTURE_DAYS);
+    }
+
+    public static void enable(int pastDays, int futureDays) {
+        shared = new FormattedDateCache(pastDays, futureDays, Clock.systemUTC());
+    }
+
+    public static void disable() {
+        shared = null;
+    }
+
+    /**
+     * Retorna => el cache compartido, null si no esta activado o si el hilo actual corre DateWarmUp.
+     * @return FormattedDateCache.
+     */
+    public static FormattedDateCache shared() {
+        FormattedDateCache cache = shared;
+        // el calentamiento no debe llenar el cache con sus fechas sinteticas
+        return cache != null && DateWarmUp.isActive() ? null : cache;
+    }
+
+    /**
+     * Igual que FormatterCache.shared().get(pattern).format(date), con el Locale por defecto.
+     * @return String.
+     */
+    public String format(LocalDate date, String pattern) {
+        return format(date, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Igual que FormatterCache.shared().get(pattern, locale).format(date).
+     * @return String.
+     */
+    public String format(LocalDate date, String pattern, Locale locale) {
+        long epochDay = date.toEpochDay();
+        AtomicReference<Window> reference = window(pattern, locale);
+        if (reference == null) {
+            misses.increment();
+            return FormatterCache.shared().get(pattern, locale).format(date);
+        }
+        Window window = reference.get();
+        long index = epochDay - window.firstDay;
+        if (index < 0 || index >= windowSize) {
+            window = slide(reference, window);
+            index = epochDay - window.firstDay;
+            if (index < 0 || index >= windowSize) {
+                misses.increment();
+                return FormatterCache.shared().get(pattern, locale).format(date);
+            }
+        }
+        String formatted = window.values[(int) index];
+        if (formatted != null) {
+            hits.increment();
+            return formatted;
+        }
+        formatted = FormatterCache.shared().get(pattern, locale).format(date);
+        window.values[(int) index] = formatted;
+        fills.increment();
+        return formatted;
+    }
+
+    /**
+     * Retorna => fechas devueltas desde el cache sin formatear.
+     * @return long.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retorna => fechas de la ventana que se formatearon por primera vez.
+     * @return long.
+     */
+    public long fillCount() {
+        return fills.sum();
+    }
+
+    /**
+     * Retorna => fechas fuera de la ventana (o de un pattern que ya no entra) formateadas sin cache.
+     * @return long.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Retorna => hitCount / total de llamadas, 0 si no hubo llamadas.
+     * @return double.
+     */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + fills.sum() + misses.sum();
+        return total == 0 ? 0d : (double) hit / total;
+    }
+
+    /**
+     * Retorna => cantidad de combinaciones pattern/Locale cacheadas.
+     * @return int.
+     */
+    public int formatCount() {
+        return formats.get();
+    }
+
+    /**
+     * Descarta las ventanas y los contadores.
+     */
+    public void clear() {
+        windows.clear();
+        formats.set(0);
+        hits.reset();
+        fills.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "FormattedDateCache[formats=" + formatCount() + ", days=" + windowSize + ", hits=" + hitCount()
+            + ", fills=" + fillCount() + ", misses=" + missCount() + "]";
+    }
+
+    private AtomicReference<Window> window(String pattern, Locale locale) {
+        Map<Locale, AtomicReference<Window>> byLocale = windows.get(pattern);
+        AtomicReference<Window> reference = byLocale != null ? byLocale.get(locale) : null;
+        if (reference != null)
+            return reference;
+        // valida el pattern antes de reservar lugar, dispara IllegalArgumentException como el formatter
+        FormatterCache.shared().get(pattern, locale);
+        if (formats.incrementAndGet() > MAX_FORMATS) {
+            formats.decrementAndGet();
+            return null;
+        }
+        if (byLocale == null)
+            byLocale = windows.computeIfAbsent(pattern, k -> new ConcurrentHashMap<Locale, AtomicReference<Window>>());
+        AtomicReference<Window> created = new AtomicReference<>(new Window(today() - pastDays, windowSize));
+        reference = byLocale.putIfAbsent(locale, created);
+        if (reference != null) {
+            formats.decrementAndGet();
+            return reference;
+        }
+        return created;
+    }
+
+    /*
+     * Si cambio el dia mueve la ventana, copiando los dias que siguen adentro.
+     */
+    private Window slide(AtomicReference<Window> reference, Window current) {
+        long firstDay = today() - pastDays;
+        if (firstDay == current.firstDay)
+            return current;
+        Window moved = new Window(firstDay, windowSize);
+        long shift = firstDay - current.firstDay;
+        if (Math.abs(shift) < windowSize) {
+            int from = (int) Math.max(0, shift);
+            int to = (int) Math.max(0, -shift);
+            System.arraycopy(current.values, from, moved.values, to, windowSize - (int) Math.abs(shift));
+        }
+        return reference.compareAndSet(current, moved) ? moved : reference.get();
+    }
+
+    private long today() {
+        return Math.floorDiv(clock.millis(), MILLIS_PER_DAY);
+    }
+
+    private static final class Window {
+        final long firstDay;
+        final String[] values;
+
+        Window(long firstDay, int size) {
+            this.firstDay = firstDay;
+            this.values = new String[size];
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.opendevpro.utilities;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Cache acotado de DateTimeFormatter compilados.
+ *
+ * DateTimeFormatter es inmutable y thread-safe, por ende una misma instancia puede compartirse entre todos los hilos.
+ * Lo costoso es DateTimeFormatter.ofPattern(), que vuelve a compilar el pattern en cada llamada.
+ * */
+
+/**
+ * Cache thread-safe y acotado de DateTimeFormatter, indexado por (pattern, Locale, ResolverStyle).<br>
+ * <p>
+ * Cuando se supera el tamaño maximo se desaloja con CLOCK (segunda oportunidad), una aproximacion de LRU: cada entrada
+ * tiene un bit de uso que un acierto prende (solo si estaba apagado, asi las lecturas calientes no escriben). El desalojo
+ * recorre las claves en orden de insercion, apaga el bit de las usadas y las pasa al final, y saca la primera sin uso.
+ * Costo amortizado constante por insercion, sin recorrer todo el mapa ni leer el reloj en cada acierto.<br>
+ * <p>
+ * Las lecturas no toman locks, solo la compilacion de un pattern nuevo bloquea a otros hilos que piden ese mismo pattern.<br>
+ * <p>
+ * La instancia compartida (shared()) es la que usan todos los metodos de DateUtilities que reciben un pattern y
+ * ya viene precargada con las constantes de DateUtilities para el Locale por defecto.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * DateTimeFormatter formatter = FormatterCache.shared().get(DateUtilities.DD_MM_YYYY_SLASH);<br>
+ * System.out.println(FormatterCache.shared().hitCount());
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class FormatterCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    static final String[] CLASS_PATTERNS = {
+        DateUtilities.DD_MM_YYYY_SLASH,
+        DateUtilities.YYYY_MM_DD_SLASH,
+        DateUtilities.DD_MM_YYYY_DASH,
+        DateUtilities.YYYY_MM_DD_DASH,
+        DateUtilities.DD_MMM_YYYY_DASH,
+        DateUtilities.DD_MMM_YYYY_SLASH,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES,
+        DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES,
+        DateUtilities.MM_DD_YYYY_SLASH,
+        DateUtilities.ISO_DATE
+    };
+
+    private static final FormatterCache SHARED = createShared();
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    // orden del reloj de CLOCK: claves en orden de insercion, las usadas vuelven al final
+    private final Queue<Key> clock = new ConcurrentLinkedQueue<>();
+    private final int maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Crea un cache vacio que guarda como maximo maximumSize formatters.<br>
+     * @param maximumSize => mayor a cero.
+     * @exception IllegalArgumentException => si maximumSize es menor a 1.
+     */
+    public FormatterCache(int maximumSize) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("El tamaño maximo del cache debe ser mayor a cero: " + maximumSize);
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Retorna => el cache compartido que usa DateUtilities.<br>
+     * <p>
+     * El tamaño se puede cambiar con la propiedad de sistema "opendevpro.formatterCache.maximumSize".
+     * @return FormatterCache.
+     */
+    public static FormatterCache shared() {
+        return SHARED;
+    }
+
+    private static FormatterCache createShared() {
+        FormatterCache cache = new FormatterCache(Integer.getInteger("opendevpro.formatterCache.maximumSize", DEFAULT_MAXIMUM_SIZE));
+        cache.preload(Locale.getDefault(Locale.Category.FORMAT));
+        return cache;
+    }
+
+    /**
+     * Equivalente cacheado de DateTimeFormatter.ofPattern(pattern).<br>
+     * <p>
+     * Usa el Locale por defecto de formato al momento de la llamada, igual que ofPattern.
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return DateTimeFormatter.
+     */
+    public DateTimeFormatter get(String pattern) {
+        return get(pattern, Locale.getDefault(Locale.Category.FORMAT), ResolverStyle.SMART);
+    }
+
+    /**
+     * Equivalente cacheado de DateTimeFormatter.ofPattern(pattern, locale).<br>
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return DateTimeFormatter.
+     */
+    public DateTimeFormatter get(String pattern, Locale locale) {
+        return get(pattern, locale, ResolverStyle.SMART);
+    }
+
+    /**
+     * Equivalente cacheado de DateTimeFormatter.ofPattern(pattern, locale).withResolverStyle(resolverStyle).<br>
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return DateTimeFormatter.
+     */
+    public DateTimeFormatter get(String pattern, Locale locale, ResolverStyle resolverStyle) {
+        Key key = new Key(pattern, locale, resolverStyle);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced)
+                entry.referenced = true;
+            return entry.formatter;
+        }
+        misses.increment();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale).withResolverStyle(resolverStyle);
+        Entry previous = entries.putIfAbsent(key, new Entry(formatter));
+        if (previous != null)
+            return previous.formatter;
+        clock.offer(key);
+        evictIfNecessary();
+        return formatter;
+    }
+
+    /**
+     * Compila y guarda las constantes de pattern de DateUtilities para el Locale indicado.<br>
+     * <p>
+     * Sirve para que la primera llamada de cada pattern no pague la compilacion.
+     * @param locale
+     */
+    public void preload(Locale locale) {
+        for (String pattern : CLASS_PATTERNS)
+            get(pattern, locale, ResolverStyle.SMART);
+    }
+
+    private void evictIfNecessary() {
+        if (entries.size() <= maximumSize)
+            return;
+        synchronized (clock) {
+            while (entries.size() > maximumSize) {
+                Key key = clock.poll();
+                if (key == null)
+                    return;
+                Entry entry = entries.get(key);
+                if (entry == null)
+                    continue;
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.offer(key);
+                } else if (entries.remove(key, entry)) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna => cantidad de pedidos resueltos sin compilar el pattern.
+     * @return long.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retorna => cantidad de pedidos que tuvieron que compilar el pattern.
+     * @return long.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Retorna => cantidad de formatters desalojados por superar el tamaño maximo.
+     * @return long.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Retorna => cantidad de formatters guardados actualmente.
+     * @return int.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Vacia el cache, los contadores no se reinician.<br>
+     * <p>
+     * Toma el mismo lock que la eviccion para que no quede un reloj a medio recorrer sobre un mapa vacio.
+     */
+    public void clear() {
+        synchronized (clock) {
+            entries.clear();
+            clock.clear();
+        }
+    }
+
+    private static final class Key {
+        private final String pattern;
+        private final Locale locale;
+        private final ResolverStyle resolverStyle;
+        private final int hash;
+
+        Key(String pattern, Locale locale, ResolverStyle resolverStyle) {
+            if (pattern == null)
+                throw new NullPointerException("pattern");
+            if (locale == null)
+                throw new NullPointerException("locale");
+            if (resolverStyle == null)
+                throw new NullPointerException("resolverStyle");
+            this.pattern = pattern;
+            this.locale = locale;
+            this.resolverStyle = resolverStyle;
+            this.hash = (pattern.hashCode() * 31 + locale.hashCode()) * 31 + resolverStyle.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key) obj;
+            return hash == other.hash
+                && resolverStyle == other.resolverStyle
+                && pattern.equals(other.pattern)
+                && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final DateTimeFormatter formatter;
+        // bit de uso de CLOCK, lo prende un acierto y lo apaga el desalojo
+        private volatile boolean referenced;
+
+        Entry(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+    }
+}
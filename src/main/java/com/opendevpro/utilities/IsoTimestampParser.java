@@ -0,0 +1,337 @@
+package com.opendevpro.utilities;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+/**
+ * Parser de timestamps ISO-8601 en bytes UTF-8 (ISO_DATE_TIME_FORMAT_MILLI_SECONDS y ISO_DATE_TIME_FORMAT_MICRO_SECONDS)
+ * directo a milisegundos o microsegundos desde 1970-01-01T00:00Z, sin crear un String ni ningun otro objeto.<br>
+ * <p>
+ * El texto se lee de a 8 bytes como long (little-endian) y cada palabra se valida y convierte con aritmetica de long (SWAR):
+ * una mascara por palabra comprueba los separadores ('-', 'T', ':', '.') y que todas las posiciones de digito esten
+ * entre '0' y '9' sin un branch por caracter; despues v * 10 + (v >>> 8) arma los pares de digitos de todos los campos
+ * de una vez.<br>
+ * <p>
+ * El camino rapido acepta la forma canonica: "2021-06-05T10:30:15.123Z" (24 bytes) o "2021-06-05T10:30:15.123-03:00"
+ * (29 bytes), con año de 4 digitos, fecha y hora reales y offset hasta +-18:00.
+ * Todo lo demas (años con signo, 24:00, dia 31 en un mes de 30 que SMART ajusta, nombres de zona con z, texto invalido)
+ * se resuelve con DateTimeFormatter, asi que el resultado, y la excepcion, son siempre los mismos que con
+ * ZonedDateTime.parse(new String(bytes, UTF_8), DateTimeFormatter.ofPattern(pattern)).toInstant().<br>
+ * <p>
+ * La fraccion de ambos patterns es SSS: los microsegundos son siempre multiplos de 1000.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * byte[] line = "id=7;ts=2021-06-05T10:30:15.123-03:00".getBytes(StandardCharsets.UTF_8);<br>
+ * long micros = IsoTimestampParser.toEpochMicros(line, 8, 29, DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+ * => 1622899815123000
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class IsoTimestampParser {
+
+    private static final int LENGTH_UTC = 24;
+    private static final int LENGTH_OFFSET = 29;
+    private static final int OFFSET_POSITION = 23;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    // ningun resultado del camino rapido (años 1 a 9999) puede valer esto
+    private static final long NOT_FAST = Long.MIN_VALUE;
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long SIXES = 0x0606060606060606L;
+
+    // plantillas de cada palabra de 8 bytes: 'd' digito, '?' no se mira, el resto es literal
+    private static final String DATE = "dddd-dd-";
+    private static final String DAY_TIME = "ddTdd:dd";
+    private static final String SECONDS = ":dd.ddd?";
+    private static final String OFFSET = "???dd:dd"; // bytes 21 a 28, el signo (23) se mira aparte
+
+    private static final long DATE_DIGITS = digitLanes(DATE);
+    private static final long DATE_LITERAL_LANES = literalLanes(DATE);
+    private static final long DATE_LITERALS = literals(DATE);
+    private static final long DAY_TIME_DIGITS = digitLanes(DAY_TIME);
+    private static final long DAY_TIME_LITERAL_LANES = literalLanes(DAY_TIME);
+    private static final long DAY_TIME_LITERALS = literals(DAY_TIME);
+    private static final long SECONDS_DIGITS = digitLanes(SECONDS);
+    private static final long SECONDS_LITERAL_LANES = literalLanes(SECONDS);
+    private static final long SECONDS_LITERALS = literals(SECONDS);
+    private static final long OFFSET_DIGITS = digitLanes(OFFSET);
+    private static final long OFFSET_LITERAL_LANES = literalLanes(OFFSET);
+    private static final long OFFSET_LITERALS = literals(OFFSET);
+
+    private IsoTimestampParser() {
+    }
+
+    /**
+     * Retorna => true si el pattern es uno de los que lee este parser.
+     * @return boolean.
+     */
+    public static boolean isSupported(String pattern) {
+        return DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS.equals(pattern)
+            || DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS.equals(pattern);
+    }
+
+    /**
+     * Retorna => milisegundos desde 1970-01-01T00:00Z del timestamp en bytes[offset, offset + length).<br>
+     * @exception java.time.format.DateTimeParseException => si el texto no es valido para el pattern.
+     * @exception IllegalArgumentException => si el pattern no es ISO_DATE_TIME_FORMAT_MILLI_SECONDS ni ISO_DATE_TIME_FORMAT_MICRO_SECONDS.
+     * @exception IndexOutOfBoundsException => si el rango no esta dentro del arreglo.
+     * @return long.
+     */
+    public static long toEpochMillis(byte[] bytes, int offset, int length, String pattern) {
+        checkPattern(pattern);
+        checkRange(bytes.length, offset, length);
+        long millis = fastEpochMillis(bytes, offset, length);
+        if (millis != NOT_FAST)
+            return millis;
+        return parseSlow(decode(bytes, offset, length), pattern).toEpochMilli();
+    }
+
+    /**
+     * Igual que toEpochMillis pero con precision de microsegundos.
+     * @exception java.time.format.DateTimeParseException => si el texto no es valido para el pattern.
+     * @exception ArithmeticException => si el resultado no entra en un long.
+     * @return long.
+     */
+    public static long toEpochMicros(byte[] bytes, int offset, int length, String pattern) {
+        checkPattern(pattern);
+        checkRange(bytes.length, offset, length);
+        long millis = fastEpochMillis(bytes, offset, length);
+        if (millis != NOT_FAST)
+            return millis * 1_000L;
+        return toMicros(parseSlow(decode(bytes, offset, length), pattern));
+    }
+
+    /**
+     * Igual que toEpochMillis(byte[]...) leyendo buffer[offset, offset + length) con indices absolutos,
+     * sin mover la posicion del buffer. Funciona con cualquier ByteOrder y con buffers directos o mapeados.
+     * @exception java.time.format.DateTimeParseException => si el texto no es valido para el pattern.
+     * @return long.
+     */
+    public static long toEpochMillis(ByteBuffer buffer, int offset, int length, String pattern) {
+        checkPattern(pattern);
+        checkRange(buffer.limit(), offset, length);
+        long millis = fastEpochMillis(buffer, offset, length);
+        if (millis != NOT_FAST)
+            return millis;
+        return parseSlow(decode(buffer, offset, length), pattern).toEpochMilli();
+    }
+
+    /**
+     * Igual que toEpochMicros(byte[]...) leyendo el ByteBuffer con indices absolutos.
+     * @exception java.time.format.DateTimeParseException => si el texto no es valido para el pattern.
+     * @exception ArithmeticException => si el resultado no entra en un long.
+     * @return long.
+     */
+    public static long toEpochMicros(ByteBuffer buffer, int offset, int length, String pattern) {
+        checkPattern(pattern);
+        checkRange(buffer.limit(), offset, length);
+        long millis = fastEpochMillis(buffer, offset, length);
+        if (millis != NOT_FAST)
+            return millis * 1_000L;
+        return toMicros(parseSlow(decode(buffer, offset, length), pattern));
+    }
+
+    /**
+     * Retorna => el mismo resultado que DateValidationEngine.isValidDateTime(new String(bytes, UTF_8), pattern), sin excepciones.
+     * @return boolean.
+     */
+    public static boolean isValid(byte[] bytes, int offset, int length, String pattern) {
+        checkPattern(pattern);
+        checkRange(bytes.length, offset, length);
+        return fastEpochMillis(bytes, offset, length) != NOT_FAST
+            || DateValidationEngine.isValidDateTime(decode(bytes, offset, length), pattern);
+    }
+
+    /**
+     * Igual que isValid(byte[]...) leyendo el ByteBuffer con indices absolutos.
+     * @return boolean.
+     */
+    public static boolean isValid(ByteBuffer buffer, int offset, int length, String pattern) {
+        checkPattern(pattern);
+        checkRange(buffer.limit(), offset, length);
+        return fastEpochMillis(buffer, offset, length) != NOT_FAST
+            || DateValidationEngine.isValidDateTime(decode(buffer, offset, length), pattern);
+    }
+
+    private static long fastEpochMillis(byte[] bytes, int offset, int length) {
+        int offsetSeconds;
+        if (length == LENGTH_UTC && bytes[offset + OFFSET_POSITION] == 'Z')
+            offsetSeconds = 0;
+        else if (length == LENGTH_OFFSET)
+            offsetSeconds = offsetSeconds(littleEndianLong(bytes, offset + LENGTH_OFFSET - 8));
+        else
+            return NOT_FAST;
+        if (offsetSeconds == NO_OFFSET)
+            return NOT_FAST;
+        return epochMillis(littleEndianLong(bytes, offset), littleEndianLong(bytes, offset + 8),
+            littleEndianLong(bytes, offset + 16), offsetSeconds);
+    }
+
+    private static long fastEpochMillis(ByteBuffer buffer, int offset, int length) {
+        int offsetSeconds;
+        if (length == LENGTH_UTC && buffer.get(offset + OFFSET_POSITION) == 'Z')
+            offsetSeconds = 0;
+        else if (length == LENGTH_OFFSET)
+            offsetSeconds = offsetSeconds(littleEndianLong(buffer, offset + LENGTH_OFFSET - 8));
+        else
+            return NOT_FAST;
+        if (offsetSeconds == NO_OFFSET)
+            return NOT_FAST;
+        return epochMillis(littleEndianLong(buffer, offset), littleEndianLong(buffer, offset + 8),
+            littleEndianLong(buffer, offset + 16), offsetSeconds);
+    }
+
+    /*
+     * date = "yyyy-MM-", dayTime = "ddTHH:mm", seconds = ":ss.SSS?".
+     * Retorna NOT_FAST si algo no es la forma canonica de una fecha-hora real.
+     */
+    private static long epochMillis(long date, long dayTime, long seconds, int offsetSeconds) {
+        if (!matches(date, DATE_DIGITS, DATE_LITERAL_LANES, DATE_LITERALS)
+                || !matches(dayTime, DAY_TIME_DIGITS, DAY_TIME_LITERAL_LANES, DAY_TIME_LITERALS)
+                || !matches(seconds, SECONDS_DIGITS, SECONDS_LITERAL_LANES, SECONDS_LITERALS))
+            return NOT_FAST;
+        long datePairs = pairs(date, DATE_DIGITS);
+        int year = lane(datePairs, 0) * 100 + lane(datePairs, 2);
+        int month = lane(datePairs, 5);
+        long dayTimePairs = pairs(dayTime, DAY_TIME_DIGITS);
+        int day = lane(dayTimePairs, 0);
+        int hour = lane(dayTimePairs, 3);
+        int minute = lane(dayTimePairs, 6);
+        long secondDigits = digits(seconds, SECONDS_DIGITS);
+        long secondPairs = pairs(secondDigits);
+        int second = lane(secondPairs, 1);
+        int millis = lane(secondDigits, 4) * 100 + lane(secondPairs, 5);
+        if (year == 0 || month == 0 || month > 12 || day == 0 || day > DateFields.lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59)
+            return NOT_FAST;
+        long epochSecond = DateFields.toEpochDay(year, month, day) * 86_400L
+            + hour * 3_600 + minute * 60 + second - offsetSeconds;
+        return epochSecond * 1_000L + millis;
+    }
+
+    // word = bytes 21 a 28: "SS+HH:MM", los dos primeros son fraccion y ya se validan con la palabra de segundos
+    private static int offsetSeconds(long word) {
+        int sign = lane(word, 2);
+        if ((sign != '+' && sign != '-') || !matches(word, OFFSET_DIGITS, OFFSET_LITERAL_LANES, OFFSET_LITERALS))
+            return NO_OFFSET;
+        long offsetPairs = pairs(word, OFFSET_DIGITS);
+        int hours = lane(offsetPairs, 3);
+        int minutes = lane(offsetPairs, 6);
+        int total = hours * 3_600 + minutes * 60;
+        if (minutes > 59 || total > MAX_OFFSET_SECONDS)
+            return NO_OFFSET;
+        return sign == '-' ? -total : total;
+    }
+
+    /*
+     * Todos los lanes de digitos entre '0' y '9' y los literales en su lugar.
+     * Un byte es digito si su nibble alto es 3 y sigue siendolo al sumarle 6 ('9' + 6 = '?', ':' + 6 = '@').
+     * Como el nibble alto ya es 3 la suma no pasa al byte siguiente.
+     */
+    private static boolean matches(long word, long digitLanes, long literalLanes, long literals) {
+        long digits = word & digitLanes;
+        long high = digitLanes & HIGH_NIBBLES;
+        long zeros = digitLanes & ZEROS;
+        return (word & literalLanes) == literals
+            && (digits & high) == zeros
+            && ((digits + (digitLanes & SIXES)) & high) == zeros;
+    }
+
+    // valor de cada digito (0 a 9) en su lane, 0 en los lanes que no son digitos
+    private static long digits(long word, long digitLanes) {
+        return (word & digitLanes) - (digitLanes & ZEROS);
+    }
+
+    // cada lane queda con 10 * digito + digito siguiente (hasta 99, sin acarreo entre lanes)
+    private static long pairs(long digits) {
+        return digits * 10 + (digits >>> 8);
+    }
+
+    private static long pairs(long word, long digitLanes) {
+        return pairs(digits(word, digitLanes));
+    }
+
+    private static int lane(long word, int index) {
+        return (int) (word >>> (index << 3)) & 0xFF;
+    }
+
+    private static long littleEndianLong(byte[] bytes, int index) {
+        return (bytes[index] & 0xFFL)
+            | (bytes[index + 1] & 0xFFL) << 8
+            | (bytes[index + 2] & 0xFFL) << 16
+            | (bytes[index + 3] & 0xFFL) << 24
+            | (bytes[index + 4] & 0xFFL) << 32
+            | (bytes[index + 5] & 0xFFL) << 40
+            | (bytes[index + 6] & 0xFFL) << 48
+            | (bytes[index + 7] & 0xFFL) << 56;
+    }
+
+    private static long littleEndianLong(ByteBuffer buffer, int index) {
+        long word = buffer.getLong(index);
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+    }
+
+    private static long digitLanes(String template) {
+        long lanes = 0;
+        for (int i = 0; i < 8; i++) {
+            if (template.charAt(i) == 'd')
+                lanes |= 0xFFL << (i << 3);
+        }
+        return lanes;
+    }
+
+    private static long literalLanes(String template) {
+        long lanes = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = template.charAt(i);
+            if (c != 'd' && c != '?')
+                lanes |= 0xFFL << (i << 3);
+        }
+        return lanes;
+    }
+
+    private static long literals(String template) {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = template.charAt(i);
+            if (c != 'd' && c != '?')
+                bits |= (long) c << (i << 3);
+        }
+        return bits;
+    }
+
+    private static Instant parseSlow(String text, String pattern) {
+        return ZonedDateTime.parse(text, FormatterCache.shared().get(pattern)).toInstant();
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000L);
+    }
+
+    private static String decode(byte[] bytes, int offset, int length) {
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+            bytes[i] = buffer.get(offset + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void checkPattern(String pattern) {
+        if (!isSupported(pattern))
+            throw new IllegalArgumentException("Pattern no soportado por IsoTimestampParser: " + pattern);
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length)
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + size);
+    }
+}
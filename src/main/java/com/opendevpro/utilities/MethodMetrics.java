@@ -0,0 +1,113 @@
+package com.opendevpro.utilities;
+
+/**
+ * Foto inmutable de las metricas de un metodo de DateUtilities para un pattern, ver DateMetrics.snapshot().<br>
+ * <p>
+ * Las latencias se miden en nanosegundos. Los percentiles salen del histograma en potencias de 2, son el limite superior
+ * del bucket (error maximo x2).
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class MethodMetrics {
+
+    private final String method;
+    private final String pattern;
+    private final long calls;
+    private final long failures;
+    private final long nulls;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+
+    MethodMetrics(String method, String pattern, long calls, long failures, long nulls, long totalNanos, long maxNanos,
+            long[] histogram) {
+        this.method = method;
+        this.pattern = pattern;
+        this.calls = calls;
+        this.failures = failures;
+        this.nulls = nulls;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Retorna => pattern usado, "" para los metodos sin pattern (conversiones).
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Retorna => fechas rechazadas (false o excepcion) y llamadas que terminaron con excepcion.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getNulls() {
+        return nulls;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return calls == 0 ? 0 : totalNanos / calls;
+    }
+
+    public long getP50Nanos() {
+        return percentileNanos(0.50);
+    }
+
+    public long getP99Nanos() {
+        return percentileNanos(0.99);
+    }
+
+    /**
+     * Retorna => copia del histograma, el bucket i cuenta latencias en [2^(i-1), 2^i) nanosegundos.
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Retorna => limite superior (nanosegundos) del bucket donde cae el percentil, ej. percentileNanos(0.999).
+     * @return long.
+     */
+    public long percentileNanos(double percentile) {
+        long total = 0;
+        for (long count : histogram)
+            total += count;
+        if (total == 0)
+            return 0;
+        long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= Math.max(1, target))
+                return i == histogram.length - 1 ? maxNanos : (1L << i) - 1;
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodMetrics[" + method + (pattern.isEmpty() ? "" : " " + pattern) + ", calls=" + calls
+            + ", failures=" + failures + ", nulls=" + nulls + ", meanNanos=" + getMeanNanos()
+            + ", p99Nanos=" + getP99Nanos() + ", maxNanos=" + maxNanos + "]";
+    }
+}
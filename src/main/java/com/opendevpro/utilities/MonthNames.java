@@ -0,0 +1,168 @@
+package com.opendevpro.utilities;
+
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabla de nombres de mes de un Locale (abreviados MMM y completos MMMM), calculada una vez y cacheada por Locale.<br>
+ * <p>
+ * Reemplaza al parser de texto de DateTimeFormatter para los patterns MMM (DD_MMM_YYYY_DASH, DD_MMM_YYYY_SLASH):
+ * ese camino busca los textos del Locale y arma un ParsePosition y un TemporalAccessor en cada llamada.
+ * Aca es una comparacion contra a lo sumo 24 textos precargados, sin objetos ni excepciones.<br>
+ * <p>
+ * - match estricto (el que usan isValidDate, firewallIsRealDate y fromStringToLocalDate con MMM): solo el nombre abreviado,
+ * distinguiendo mayusculas, el mas largo que coincida. Da el mismo resultado que DateTimeFormatter.ofPattern("MMM", locale).<br>
+ * - month(name) y match con ignoreCase: nombres abreviados o completos sin distinguir mayusculas, para entradas manuales.<br>
+ * <p>
+ * Los textos de la tabla se verifican al cargarla con el propio DateTimeFormatter: un nombre que el parser no reconoce
+ * (ej. dos meses con el mismo texto) se resuelve al mes que devuelve el parser o se descarta.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class MonthNames {
+
+    private static final Map<Locale, MonthNames> TABLES = new ConcurrentHashMap<>();
+    private static final Comparator<Entry> LONGEST_FIRST = (a, b) -> b.text.length() - a.text.length();
+
+    private final Locale locale;
+    private final String[] shortNames = new String[12];
+    private final String[] fullNames = new String[12];
+    // candidatos ordenados del mas largo al mas corto
+    private final Entry[] strict;
+    private final Entry[] lenient;
+
+    private MonthNames(Locale locale) {
+        this.locale = locale;
+        // se compilan aparte para no ocupar el cache LRU compartido con Locales que solo se usan una vez
+        DateTimeFormatter shortFormatter = DateTimeFormatter.ofPattern("MMM", locale);
+        DateTimeFormatter fullFormatter = DateTimeFormatter.ofPattern("MMMM", locale);
+        Map<String, Entry> shortEntries = new LinkedHashMap<>();
+        Map<String, Entry> allEntries = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            LocalDate date = LocalDate.of(2000, month, 1);
+            shortNames[month - 1] = shortFormatter.format(date);
+            fullNames[month - 1] = fullFormatter.format(date);
+        }
+        for (String name : shortNames)
+            add(shortEntries, name, shortFormatter);
+        allEntries.putAll(shortEntries);
+        for (String name : fullNames)
+            add(allEntries, name, fullFormatter);
+        List<Entry> sorted = new ArrayList<>(shortEntries.values());
+        sorted.sort(LONGEST_FIRST);
+        this.strict = sorted.toArray(new Entry[0]);
+        sorted = new ArrayList<>(allEntries.values());
+        sorted.sort(LONGEST_FIRST);
+        this.lenient = sorted.toArray(new Entry[0]);
+    }
+
+    /**
+     * Retorna => la tabla del Locale, se calcula en el primer uso.
+     * @return MonthNames.
+     */
+    public static MonthNames of(Locale locale) {
+        MonthNames table = TABLES.get(locale);
+        if (table == null) {
+            MonthNames created = new MonthNames(locale);
+            table = TABLES.putIfAbsent(locale, created);
+            if (table == null)
+                table = created;
+        }
+        return table;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Retorna => nombre abreviado del mes (1 a 12), igual que DateTimeFormatter.ofPattern("MMM", locale).
+     * @return String.
+     */
+    public String shortName(int month) {
+        return shortNames[month - 1];
+    }
+
+    /**
+     * Retorna => nombre completo del mes (1 a 12), igual que DateTimeFormatter.ofPattern("MMMM", locale).
+     * @return String.
+     */
+    public String fullName(int month) {
+        return fullNames[month - 1];
+    }
+
+    /**
+     * Retorna => mes (1 a 12) del nombre abreviado o completo, sin distinguir mayusculas, -1 si no es un nombre de mes.
+     * @return int.
+     */
+    public int month(CharSequence name) {
+        long found = match(name, 0, true);
+        return found >= 0 && (found >>> 4) == name.length() ? (int) (found & 0xF) : -1;
+    }
+
+    /*
+     * Busca un nombre de mes en text desde position.
+     * Retorna (fin << 4 | mes) o -1 si no hay ninguno. Sin ignoreCase solo los abreviados, distinguiendo mayusculas.
+     */
+    long match(CharSequence text, int position, boolean ignoreCase) {
+        int length = text.length();
+        if (position >= length)
+            return -1;
+        char first = text.charAt(position);
+        for (Entry entry : ignoreCase ? lenient : strict) {
+            String name = entry.text;
+            int end = position + name.length();
+            if (end > length || !same(name.charAt(0), first, ignoreCase))
+                continue;
+            int i = 1;
+            while (i < name.length() && same(name.charAt(i), text.charAt(position + i), ignoreCase))
+                i++;
+            if (i == name.length())
+                return (long) end << 4 | entry.month;
+        }
+        return -1;
+    }
+
+    // misma comparacion que DateTimeFormatter con parseCaseInsensitive()
+    private static boolean same(char expected, char actual, boolean ignoreCase) {
+        if (expected == actual)
+            return true;
+        return ignoreCase && (Character.toUpperCase(expected) == Character.toUpperCase(actual)
+            || Character.toLowerCase(expected) == Character.toLowerCase(actual));
+    }
+
+    private static void add(Map<String, Entry> entries, String name, DateTimeFormatter formatter) {
+        if (name.isEmpty() || entries.containsKey(name))
+            return;
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsed = formatter.parseUnresolved(name, position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != name.length())
+            return;
+        entries.put(name, new Entry(name, (int) parsed.getLong(ChronoField.MONTH_OF_YEAR)));
+    }
+
+    @Override
+    public String toString() {
+        return "MonthNames[" + locale + "]";
+    }
+
+    private static final class Entry {
+        final String text;
+        final int month;
+
+        Entry(String text, int month) {
+            this.text = text;
+            this.month = month;
+        }
+    }
+}
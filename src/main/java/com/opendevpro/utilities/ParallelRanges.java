@@ -0,0 +1,73 @@
+package com.opendevpro.utilities;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Divide un arreglo en tramos [from, to) y los procesa en el ForkJoinPool comun, para los metodos con parallel = true
+ * de SqlDateColumns, BusinessCalendar y TimeBuckets, y para BulkDateUtilities.<br>
+ * <p>
+ * Hasta threshold valores (o con parallel = false) corre en el hilo que llama. Si no, divide en mitades hasta hojas
+ * de al menos threshold valores y unas 4 hojas por hilo del pool; invoke() ejecuta la primera en el hilo que llama.<br>
+ * <p>
+ * Con align &gt; 1 los cortes caen en multiplos de align (ej. 64 para que cada hoja escriba palabras propias de un BitSet).
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class ParallelRanges {
+
+    private ParallelRanges() {
+    }
+
+    /**
+     * Un tramo [from, to) del arreglo. Cada llamada es una hoja: el estado mutable (cursores de offset, etc.) va adentro.
+     */
+    interface Range {
+        void process(int from, int to);
+    }
+
+    static void run(int length, boolean parallel, int threshold, Range body) {
+        run(length, parallel, threshold, 1, body);
+    }
+
+    static void run(int length, boolean parallel, int threshold, int align, Range body) {
+        if (!parallel || length <= threshold) {
+            body.process(0, length);
+            return;
+        }
+        int perWorker = length / Math.max(1, ForkJoinPool.getCommonPoolParallelism() * 4);
+        new RangeTask(body, 0, length, Math.max(threshold, alignUp(perWorker, align)), align).invoke();
+    }
+
+    private static int alignUp(int value, int align) {
+        return (value + align - 1) / align * align;
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient Range body;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final int align;
+
+        RangeTask(Range body, int from, int to, int leafSize, int align) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.align = align;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int middle = alignUp(from + ((to - from) >>> 1), align);
+                invokeAll(new RangeTask(body, from, middle, leafSize, align),
+                    new RangeTask(body, middle, to, leafSize, align));
+                return;
+            }
+            body.process(from, to);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.opendevpro.utilities;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de resultados de parseo para textos de fecha que se repiten (feeds y archivos con pocos dias distintos).<br>
+ * <p>
+ * Guarda, por (pattern, texto), el LocalDate de fromStringToLocalDate / isValidDate y los milisegundos de parsearFecha.
+ * Tambien guarda el veredicto "invalida": una fecha mala repetida no se vuelve a parsear.<br>
+ * <p>
+ * Tabla de mapeo directo de tamaño fijo (potencia de 2): cada clave va a una sola entrada y una clave nueva pisa a la
+ * anterior. Antes de usar una entrada se comparan el pattern y el texto completo caracter por caracter, una colision
+ * de hash nunca devuelve el resultado de otro texto. Tambien se comparan el Locale de formato y, para parsearFecha,
+ * la TimeZone por defecto, porque cambian el resultado.<br>
+ * <p>
+ * Las lecturas no usan locks: cada entrada es inmutable (campos final) y se publica con una sola escritura en el
+ * arreglo, una lectura que compite con una escritura ve la entrada anterior o la nueva, las dos correctas.<br>
+ * <p>
+ * Los textos de mas de MAX_TEXT_LENGTH caracteres y los null no se cachean.<br>
+ * <p>
+ * fromStringToLocalDate(date, pattern), isValidDate y parsearFecha lo usan si se activa con ParsedDateCache.enable().<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * ParsedDateCache.enable();<br>
+ * for (String row : rows) DateUtilities.isValidDate(row, DateUtilities.DD_MM_YYYY_SLASH);<br>
+ * System.out.println(ParsedDateCache.shared().hitRate());
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class ParsedDateCache {
+
+    public static final int DEFAULT_SLOTS = 1 << 12;
+    public static final int MAX_SLOTS = 1 << 24;
+    public static final int MAX_TEXT_LENGTH = 64;
+
+    /**
+     * Valor de sqlDateMillis() para un texto que parsearFecha rechaza.
+     */
+    public static final long INVALID_MILLIS = Long.MIN_VALUE;
+
+    private static final byte LOCAL_DATE = 0;
+    private static final byte SQL_DATE = 1;
+
+    private static volatile ParsedDateCache shared;
+
+    private final Entry[] slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param slots => entradas de la tabla, se redondea a la siguiente potencia de 2.
+     * @exception IllegalArgumentException => si slots es menor a 1 o mayor a MAX_SLOTS.
+     */
+    public ParsedDateCache(int slots) {
+        if (slots < 1 || slots > MAX_SLOTS)
+            throw new IllegalArgumentException("slots invalido: " + slots);
+        int size = Integer.highestOneBit(slots);
+        if (size < slots)
+            size <<= 1;
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Activa el cache compartido que usan fromStringToLocalDate, isValidDate y parsearFecha, con DEFAULT_SLOTS entradas.
+     */
+    public static void enable() {
+        enable(DEFAULT_SLOTS);
+    }
+
+    public static void enable(int slots) {
+        shared = new ParsedDateCache(slots);
+    }
+
+    public static void disable() {
+        shared = null;
+    }
+
+    /**
+     * Retorna => el cache compartido, null si no esta activado o si el hilo actual corre DateWarmUp.
+     * @return ParsedDateCache.
+     */
+    public static ParsedDateCache shared() {
+        ParsedDateCache cache = shared;
+        // el calentamiento no debe llenar el cache con sus fechas sinteticas
+        return cache != null && DateWarmUp.isActive() ? null : cache;
+    }
+
+    /**
+     * Retorna => el mismo LocalDate que fromStringToLocalDate(date, pattern), null si la fecha no es valida
+     * (isValidDate(date, pattern) == false). Usa el Locale de formato por defecto.
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return LocalDate.
+     */
+    public LocalDate localDate(String date, String pattern) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        if (date.length() > MAX_TEXT_LENGTH) {
+            misses.increment();
+            return parseLocalDate(date, pattern, locale);
+        }
+        int index = index(LOCAL_DATE, date, pattern);
+        Entry entry = slots[index];
+        if (entry != null && entry.matches(LOCAL_DATE, date, pattern, locale, null)) {
+            hits.increment();
+            return entry.date;
+        }
+        misses.increment();
+        LocalDate parsed = parseLocalDate(date, pattern, locale);
+        store(index, entry, new Entry(LOCAL_DATE, date, pattern, locale, null, parsed, 0L));
+        return parsed;
+    }
+
+    /**
+     * Retorna => los milisegundos del java.sql.Date de parsearFecha(fecha, pattern), INVALID_MILLIS si no se puede parsear.
+     * Usa el Locale de formato y la TimeZone por defecto actuales, igual que SimpleDateFormat.
+     * @exception IllegalArgumentException => si el pattern no es valido para SimpleDateFormat.
+     * @return long.
+     */
+    public long sqlDateMillis(String fecha, String pattern) {
+        if (fecha.length() > MAX_TEXT_LENGTH) {
+            misses.increment();
+            return parseMillis(SimpleDateFormatPool.get(pattern), fecha);
+        }
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        String zone = TimeZone.getDefault().getID();
+        int index = index(SQL_DATE, fecha, pattern);
+        Entry entry = slots[index];
+        if (entry != null && entry.matches(SQL_DATE, fecha, pattern, locale, zone)) {
+            hits.increment();
+            return entry.millis;
+        }
+        misses.increment();
+        long millis = parseMillis(SimpleDateFormatPool.get(pattern), fecha);
+        store(index, entry, new Entry(SQL_DATE, fecha, pattern, locale, zone, null, millis));
+        return millis;
+    }
+
+    /**
+     * Retorna => llamadas resueltas desde el cache sin parsear.
+     * @return long.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retorna => llamadas que parsearon el texto (primera vez, entrada pisada o texto largo).
+     * @return long.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Retorna => entradas pisadas por otra clave que cayo en el mismo lugar.
+     * @return long.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Retorna => hitCount / total de llamadas, 0 si no hubo llamadas.
+     * @return double.
+     */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0d : (double) hit / total;
+    }
+
+    public int slotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Descarta las entradas y los contadores.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++)
+            slots[i] = null;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedDateCache[slots=" + slots.length + ", hits=" + hitCount() + ", misses=" + missCount()
+            + ", evictions=" + evictionCount() + "]";
+    }
+
+    private void store(int index, Entry previous, Entry entry) {
+        if (previous != null)
+            evictions.increment();
+        slots[index] = entry;
+    }
+
+    private int index(byte kind, String text, String pattern) {
+        int hash = text.hashCode() * 31 + pattern.hashCode() + kind;
+        hash *= 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // mismo camino que fromStringToLocalDate: motor compilado y DateTimeFormatter para el resto
+    private static LocalDate parseLocalDate(String date, String pattern, Locale locale) {
+        CompiledDatePattern compiled = DateValidationEngine.compiled(pattern);
+        if (compiled != null) {
+            DateFields fields = DateValidationEngine.threadFields();
+            if (!compiled.parseFully(date, locale, fields))
+                return null;
+            CanonicalDatePool pool = CanonicalDatePool.shared();
+            return pool != null ? pool.date(fields.epochDay) : LocalDate.ofEpochDay(fields.epochDay);
+        }
+        try {
+            LocalDate parsed = LocalDate.parse(date, FormatterCache.shared().get(pattern, locale));
+            CanonicalDatePool pool = CanonicalDatePool.shared();
+            return pool != null ? pool.canonical(parsed) : parsed;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // mismo camino que parsearFecha: SimpleDateFormat lenient, cualquier excepcion es "invalida"
+    private static long parseMillis(SimpleDateFormat format, String fecha) {
+        try {
+            return format.parse(fecha).getTime();
+        } catch (Exception e) {
+            return INVALID_MILLIS;
+        }
+    }
+
+    private static final class Entry {
+        final byte kind;
+        final String text;
+        final String pattern;
+        final Locale locale;
+        final String zone;
+        final LocalDate date;
+        final long millis;
+
+        Entry(byte kind, String text, String pattern, Locale locale, String zone, LocalDate date, long millis) {
+            this.kind = kind;
+            this.text = text;
+            this.pattern = pattern;
+            this.locale = locale;
+            this.zone = zone;
+            this.date = date;
+            this.millis = millis;
+        }
+
+        boolean matches(byte kind, String text, String pattern, Locale locale, String zone) {
+            return this.kind == kind && this.text.equals(text) && this.pattern.equals(pattern)
+                && this.locale.equals(locale) && (zone == null || zone.equals(this.zone));
+        }
+    }
+}
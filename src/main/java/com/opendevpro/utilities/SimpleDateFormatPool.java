@@ -0,0 +1,62 @@
+package com.opendevpro.utilities;
+
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Pool por hilo de SimpleDateFormat para parsearFecha y convertDateToIsoDateToSpecificPattern.<br>
+ * <p>
+ * SimpleDateFormat NO es thread-safe, por eso no se puede guardar en un static compartido.<br>
+ * Cada hilo tiene sus propias instancias, entonces no hay locks ni contencion entre hilos.<br>
+ * <p>
+ * Las instancias siguen la TimeZone por defecto actual, igual que new SimpleDateFormat(pattern): en cada pedido se compara
+ * el ID de TimeZone.getDefault() con el de las instancias del hilo y solo si cambio se descartan. Los patterns con 'z'
+ * vuelven a setear la zona antes de devolverse: el parseo de 'z' cambia la zona del formatter.<br>
+ * Si cambia el Locale por defecto tambien se descartan las instancias del hilo.<br>
+ * <p>
+ * Los valores del ThreadLocal son solo clases del JDK para no retener el ClassLoader de la aplicacion.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class SimpleDateFormatPool {
+
+    private static final int MAX_PATTERNS_PER_THREAD = 64;
+
+    // [0] => Locale con el que se crearon las instancias, [1] => Map<String, SimpleDateFormat>, [2] => ID de su TimeZone
+    private static final ThreadLocal<Object[]> FORMATS = new ThreadLocal<>();
+
+    private SimpleDateFormatPool() {
+    }
+
+    /**
+     * Retorna => el SimpleDateFormat del hilo actual para el pattern, equivalente a new SimpleDateFormat(pattern).<br>
+     * <p>
+     * La instancia solo se puede usar en el hilo que la pidio y hasta el proximo get().
+     * @exception IllegalArgumentException => si el pattern no es valido.
+     * @return SimpleDateFormat.
+     */
+    @SuppressWarnings("unchecked")
+    static SimpleDateFormat get(String pattern) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        TimeZone zone = TimeZone.getDefault();
+        Object[] slot = FORMATS.get();
+        if (slot == null || !locale.equals(slot[0]) || !zone.getID().equals(slot[2])) {
+            slot = new Object[] { locale, new HashMap<String, SimpleDateFormat>(), zone.getID() };
+            FORMATS.set(slot);
+        }
+        Map<String, SimpleDateFormat> formats = (Map<String, SimpleDateFormat>) slot[1];
+        SimpleDateFormat format = formats.get(pattern);
+        if (format == null) {
+            format = new SimpleDateFormat(pattern);
+            if (formats.size() >= MAX_PATTERNS_PER_THREAD)
+                formats.clear();
+            formats.put(pattern, format);
+        } else if (pattern.indexOf('z') >= 0) {
+            format.setTimeZone(zone);
+        }
+        return format;
+    }
+}
@@ -0,0 +1,326 @@
+package com.opendevpro.utilities;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+/**
+ * Conversiones por columna (arreglos) entre java.sql.Date / Timestamp / long[] y LocalDate / LocalDateTime / primitivos,
+ * para mover result sets de JDBC sin el costo por valor de los metodos de DateUtilities.<br>
+ * <p>
+ * El offset de la zona se resuelve una vez por tramo de valores con el mismo offset (ZoneOffsetCache), no una vez por valor:
+ * con columnas ordenadas o de fechas cercanas casi no hay busquedas. No se crean Timestamp intermedios ni se pasa por Calendar.<br>
+ * <p>
+ * Los resultados son los mismos que con el metodo por valor de cada conversion (indicado en cada una):<br>
+ * - java.sql usa el TimeZone por defecto y el calendario juliano antes de 1582, los valores fuera de 1901-2037 y las horas
+ * locales que caen en un cambio de horario (hueco o solapamiento) se convierten con el metodo por valor.<br>
+ * - long[] usa java.time en la zona indicada.<br>
+ * <p>
+ * Los null de entrada quedan null en la salida (o nullValue en las salidas primitivas). Con CanonicalDatePool activado los
+ * LocalDate / LocalDateTime son las instancias compartidas.<br>
+ * <p>
+ * Con parallel = true los arreglos de mas de PARALLEL_THRESHOLD valores se dividen en el ForkJoinPool comun.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class SqlDateColumns {
+
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    // java.util.Date usa el calendario juliano antes del 15/10/1582 y el TimeZone de java.util no tiene las transiciones
+    // anteriores a 1900 (horario local medio), java.time si: antes de 1901 se usa el metodo por valor.
+    // Despues de 2037 el TimeZone de java.util solo aplica la ultima regla anual y ZoneRules tiene las transiciones
+    // explicitas de tzdb (ej. Ramadan en Africa/Casablanca): desde 2038 tambien se usa el metodo por valor
+    private static final long LEGACY_MIN_LOCAL_SECOND = LocalDate.of(1901, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+    private static final long LEGACY_MAX_LOCAL_SECOND = LocalDate.of(2038, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+
+    private SqlDateColumns() {
+    }
+
+    /**
+     * Igual que values[i].toLocalDate() (java.sql.Date, TimeZone por defecto).
+     * @return LocalDate[].
+     */
+    public static LocalDate[] toLocalDates(final java.sql.Date[] values, boolean parallel) {
+        final LocalDate[] result = new LocalDate[values.length];
+        final ZoneOffsetCache zone = defaultZone();
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                java.sql.Date value = values[i];
+                if (value == null)
+                    continue;
+                long local = runs.toLocal(Math.floorDiv(value.getTime(), 1_000L));
+                result[i] = isLegacySafe(local) ? date(Math.floorDiv(local, SECONDS_PER_DAY)) : value.toLocalDate();
+            }
+        });
+        return result;
+    }
+
+    public static LocalDate[] toLocalDates(java.sql.Date[] values) {
+        return toLocalDates(values, false);
+    }
+
+    /**
+     * Igual que values[i].toLocalDate().toEpochDay(), sin crear LocalDate.<br>
+     * @param nullValue => valor para los null y los epoch-day que no entran en int.
+     * @return int[].
+     */
+    public static int[] toEpochDays(final java.sql.Date[] values, final int nullValue, boolean parallel) {
+        final int[] result = new int[values.length];
+        final ZoneOffsetCache zone = defaultZone();
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                java.sql.Date value = values[i];
+                if (value == null) {
+                    result[i] = nullValue;
+                    continue;
+                }
+                long local = runs.toLocal(Math.floorDiv(value.getTime(), 1_000L));
+                long epochDay = isLegacySafe(local) ? Math.floorDiv(local, SECONDS_PER_DAY) : value.toLocalDate().toEpochDay();
+                result[i] = epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE ? nullValue : (int) epochDay;
+            }
+        });
+        return result;
+    }
+
+    public static int[] toEpochDays(java.sql.Date[] values, int nullValue) {
+        return toEpochDays(values, nullValue, false);
+    }
+
+    /**
+     * Igual que DateUtilities.fromSqlDateToLocalDateTime(values[i]), sin el Timestamp intermedio.
+     * @return LocalDateTime[].
+     */
+    public static LocalDateTime[] toLocalDateTimes(final java.sql.Date[] values, boolean parallel) {
+        final LocalDateTime[] result = new LocalDateTime[values.length];
+        final ZoneOffsetCache zone = defaultZone();
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                java.sql.Date value = values[i];
+                if (value == null)
+                    continue;
+                long millis = value.getTime();
+                long local = runs.toLocal(Math.floorDiv(millis, 1_000L));
+                result[i] = isLegacySafe(local)
+                    ? dateTime(local, (int) Math.floorMod(millis, 1_000L) * 1_000_000)
+                    : DateUtilities.fromSqlDateToLocalDateTime(value);
+            }
+        });
+        return result;
+    }
+
+    public static LocalDateTime[] toLocalDateTimes(java.sql.Date[] values) {
+        return toLocalDateTimes(values, false);
+    }
+
+    /**
+     * Igual que values[i].toLocalDateTime() (Timestamp, TimeZone por defecto, con nanos).
+     * @return LocalDateTime[].
+     */
+    public static LocalDateTime[] toLocalDateTimes(final Timestamp[] values, boolean parallel) {
+        final LocalDateTime[] result = new LocalDateTime[values.length];
+        final ZoneOffsetCache zone = defaultZone();
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                Timestamp value = values[i];
+                if (value == null)
+                    continue;
+                long local = runs.toLocal(Math.floorDiv(value.getTime(), 1_000L));
+                result[i] = isLegacySafe(local) ? dateTime(local, value.getNanos()) : value.toLocalDateTime();
+            }
+        });
+        return result;
+    }
+
+    public static LocalDateTime[] toLocalDateTimes(Timestamp[] values) {
+        return toLocalDateTimes(values, false);
+    }
+
+    /**
+     * Igual que DateUtilities.fromLocalDateToSqlDate(values[i]) (java.sql.Date.valueOf), sin pasar por Calendar.
+     * @return java.sql.Date[].
+     */
+    public static java.sql.Date[] toSqlDates(final LocalDate[] values, boolean parallel) {
+        final java.sql.Date[] result = new java.sql.Date[values.length];
+        final ZoneOffsetCache zone = defaultZone();
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                LocalDate value = values[i];
+                if (value == null)
+                    continue;
+                long local = value.toEpochDay() * SECONDS_PER_DAY;
+                long epochSecond = isLegacySafe(local) ? runs.toEpoch(local) : OffsetRuns.NO_RUN;
+                result[i] = epochSecond != OffsetRuns.NO_RUN ? new java.sql.Date(epochSecond * 1_000L) : java.sql.Date.valueOf(value);
+            }
+        });
+        return result;
+    }
+
+    public static java.sql.Date[] toSqlDates(LocalDate[] values) {
+        return toSqlDates(values, false);
+    }
+
+    /**
+     * Igual que Timestamp.valueOf(values[i]), sin pasar por Calendar.
+     * @return Timestamp[].
+     */
+    public static Timestamp[] toTimestamps(final LocalDateTime[] values, boolean parallel) {
+        final Timestamp[] result = new Timestamp[values.length];
+        final ZoneOffsetCache zone = defaultZone();
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                LocalDateTime value = values[i];
+                if (value == null)
+                    continue;
+                long local = value.toEpochSecond(ZoneOffset.UTC);
+                long epochSecond = isLegacySafe(local) ? runs.toEpoch(local) : OffsetRuns.NO_RUN;
+                if (epochSecond == OffsetRuns.NO_RUN) {
+                    result[i] = Timestamp.valueOf(value);
+                } else {
+                    Timestamp timestamp = new Timestamp(epochSecond * 1_000L);
+                    timestamp.setNanos(value.getNano());
+                    result[i] = timestamp;
+                }
+            }
+        });
+        return result;
+    }
+
+    public static Timestamp[] toTimestamps(LocalDateTime[] values) {
+        return toTimestamps(values, false);
+    }
+
+    /**
+     * Igual que Instant.ofEpochMilli(epochMillis[i]).atZone(zoneId).toLocalDate().
+     * @return LocalDate[].
+     */
+    public static LocalDate[] toLocalDates(final long[] epochMillis, ZoneId zoneId, boolean parallel) {
+        final LocalDate[] result = new LocalDate[epochMillis.length];
+        final ZoneOffsetCache zone = ZoneOffsetCache.forZone(zoneId);
+        ParallelRanges.run(epochMillis.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++)
+                result[i] = date(Math.floorDiv(runs.toLocal(Math.floorDiv(epochMillis[i], 1_000L)), SECONDS_PER_DAY));
+        });
+        return result;
+    }
+
+    public static LocalDate[] toLocalDates(long[] epochMillis, ZoneId zoneId) {
+        return toLocalDates(epochMillis, zoneId, false);
+    }
+
+    /**
+     * Igual que Instant.ofEpochMilli(epochMillis[i]).atZone(zoneId).toLocalDateTime().
+     * @return LocalDateTime[].
+     */
+    public static LocalDateTime[] toLocalDateTimes(final long[] epochMillis, ZoneId zoneId, boolean parallel) {
+        final LocalDateTime[] result = new LocalDateTime[epochMillis.length];
+        final ZoneOffsetCache zone = ZoneOffsetCache.forZone(zoneId);
+        ParallelRanges.run(epochMillis.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                long millis = epochMillis[i];
+                result[i] = dateTime(runs.toLocal(Math.floorDiv(millis, 1_000L)), (int) Math.floorMod(millis, 1_000L) * 1_000_000);
+            }
+        });
+        return result;
+    }
+
+    public static LocalDateTime[] toLocalDateTimes(long[] epochMillis, ZoneId zoneId) {
+        return toLocalDateTimes(epochMillis, zoneId, false);
+    }
+
+    /**
+     * Igual que values[i].atZone(zoneId).toInstant().toEpochMilli(): en un hueco o un solapamiento usa el offset anterior.<br>
+     * @param nullValue => valor para los null.
+     * @return long[].
+     */
+    public static long[] toEpochMillis(final LocalDateTime[] values, ZoneId zoneId, final long nullValue, boolean parallel) {
+        final long[] result = new long[values.length];
+        final ZoneOffsetCache zone = ZoneOffsetCache.forZone(zoneId);
+        ParallelRanges.run(values.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            OffsetRuns runs = new OffsetRuns(zone);
+            for (int i = from; i < to; i++) {
+                LocalDateTime value = values[i];
+                if (value == null) {
+                    result[i] = nullValue;
+                    continue;
+                }
+                long local = value.toEpochSecond(ZoneOffset.UTC);
+                long epochSecond = runs.toEpoch(local);
+                if (epochSecond == OffsetRuns.NO_RUN)
+                    epochSecond = zone.localToEpochSecond(local);
+                result[i] = epochSecond * 1_000L + value.getNano() / 1_000_000;
+            }
+        });
+        return result;
+    }
+
+    public static long[] toEpochMillis(LocalDateTime[] values, ZoneId zoneId, long nullValue) {
+        return toEpochMillis(values, zoneId, nullValue, false);
+    }
+
+    private static ZoneOffsetCache defaultZone() {
+        return ZoneOffsetCache.forZone(TimeZone.getDefault().toZoneId());
+    }
+
+    private static boolean isLegacySafe(long localSecond) {
+        return localSecond >= LEGACY_MIN_LOCAL_SECOND && localSecond < LEGACY_MAX_LOCAL_SECOND;
+    }
+
+    private static LocalDate date(long epochDay) {
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        return pool != null ? pool.date(epochDay) : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static LocalDateTime dateTime(long localSecond, int nano) {
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        if (pool != null && nano == 0 && Math.floorMod(localSecond, 60L) == 0)
+            return pool.dateTime(Math.floorDiv(localSecond, 60L));
+        return LocalDateTime.ofEpochSecond(localSecond, nano, ZoneOffset.UTC);
+    }
+
+    /*
+     * Ultimo tramo de offset usado: mientras los valores caigan adentro no se busca en la tabla.
+     * Un mismo objeto se usa en un solo sentido (toLocal o toEpoch).
+     */
+    private static final class OffsetRuns {
+        static final long NO_RUN = Long.MIN_VALUE;
+
+        private final ZoneOffsetCache zone;
+        // {inicio, fin, offset}, vacio al comenzar
+        private final long[] run = { 1L, 0L, 0L };
+
+        OffsetRuns(ZoneOffsetCache zone) {
+            this.zone = zone;
+        }
+
+        long toLocal(long epochSecond) {
+            if (epochSecond < run[0] || epochSecond >= run[1])
+                zone.offsetRun(epochSecond, run);
+            return epochSecond + run[2];
+        }
+
+        // NO_RUN si la hora local cae en un cambio de horario o fuera del rango cacheado
+        long toEpoch(long localSecond) {
+            if (localSecond < run[0] || localSecond >= run[1]) {
+                if (!zone.localOffsetRun(localSecond, run)) {
+                    run[0] = 1L;
+                    run[1] = 0L;
+                    return NO_RUN;
+                }
+            }
+            return localSecond - run[2];
+        }
+    }
+}
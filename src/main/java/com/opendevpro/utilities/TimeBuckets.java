@@ -0,0 +1,384 @@
+package com.opendevpro.utilities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Agrupa timestamps (milisegundos epoch, ej. Date.getTime()) en buckets de hora local por minuto, hora, dia o mes para reportes,
+ * sin crear objetos por valor ni pasar por un HashMap de claves boxeadas.<br>
+ * <p>
+ * La clave de un bucket es un long: minutos, horas o dias locales desde 1970-01-01T00:00 (sin zona), o meses desde 1970-01.
+ * El offset de cada valor sale de ZoneOffsetCache y se reusa mientras los valores caigan en el mismo tramo de offset,
+ * como en SqlDateColumns (fuera del rango de años de ZoneOffsetCache se consulta ZoneRules por valor):<br>
+ * - Los dias de 23 o 25 horas de un cambio de horario tienen 23 o 25 horas de valores.<br>
+ * - En un solapamiento la hora repetida cae en el mismo bucket local (ej. las dos 01:00 de la noche del cambio).<br>
+ * - La misma clave que Instant.ofEpochMilli(value).atZone(zone) truncado al minuto, hora, dia o mes.<br>
+ * <p>
+ * counts / sums devuelven un Histogram denso desde el primer al ultimo bucket con datos, los valores NO_VALUE se ignoran
+ * (SqlDateColumns.toEpochMillis(values, zone, TimeBuckets.NO_VALUE) deja asi los null).<br>
+ * <p>
+ * Con parallel = true los arreglos de mas de PARALLEL_THRESHOLD valores se dividen en el ForkJoinPool comun, cada parte cuenta
+ * en su propio arreglo y al final se suman. La cantidad de partes se limita para que entre todas no pasen de 1M de contadores:
+ * un rango de mas de 1M buckets se cuenta en un solo hilo.<br>
+ * <p>
+ * Ejemplo<br>
+ * <p>
+ * TimeBuckets.Histogram porDia = TimeBuckets.counts(millis, zona, TimeBuckets.Granularity.DAY, true);<br>
+ * long altasDelDia = porDia.count(LocalDate.of(2026, 10, 18).toEpochDay());
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class TimeBuckets {
+
+    /**
+     * Tamaño del bucket.
+     */
+    public enum Granularity {
+        MINUTE, HOUR, DAY, MONTH
+    }
+
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Valor que se ignora en counts / sums y clave de los valores ignorados en keys.
+     */
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    /**
+     * Maximo de buckets de un Histogram (16M, 128 MB de contadores).
+     */
+    public static final int MAX_BUCKETS = 1 << 24;
+
+    /*
+     * Maximo de contadores entre todas las partes de un counts / sums paralelo (8 MB por arreglo): cada parte cuenta en su
+     * propio arreglo de size buckets, con rangos grandes se usan menos partes o ninguna.
+     */
+    private static final int PARALLEL_BUCKET_BUDGET = 1 << 20;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    // el offset local esta siempre entre -18:00 y +18:00
+    private static final long MAX_OFFSET_SECONDS = 18 * 3_600L;
+
+    private TimeBuckets() {
+    }
+
+    /**
+     * Retorna => la clave del bucket de cada valor, NO_VALUE para los NO_VALUE.
+     * @return long[].
+     */
+    public static long[] keys(final long[] epochMillis, ZoneId zone, final Granularity granularity, boolean parallel) {
+        final long[] result = new long[epochMillis.length];
+        final ZoneOffsetCache offsets = ZoneOffsetCache.forZone(zone);
+        ParallelRanges.run(epochMillis.length, parallel, PARALLEL_THRESHOLD, (from, to) -> {
+            Cursor cursor = new Cursor(offsets, granularity);
+            for (int i = from; i < to; i++) {
+                long value = epochMillis[i];
+                result[i] = value == NO_VALUE ? NO_VALUE : cursor.key(value);
+            }
+        });
+        return result;
+    }
+
+    public static long[] keys(long[] epochMillis, ZoneId zone, Granularity granularity) {
+        return keys(epochMillis, zone, granularity, false);
+    }
+
+    /**
+     * Retorna => cantidad de valores por bucket.
+     * @exception IllegalArgumentException => si hay mas de MAX_BUCKETS buckets entre el primero y el ultimo.
+     * @return Histogram.
+     */
+    public static Histogram counts(long[] epochMillis, ZoneId zone, Granularity granularity, boolean parallel) {
+        return aggregate(epochMillis, null, zone, granularity, parallel);
+    }
+
+    public static Histogram counts(long[] epochMillis, ZoneId zone, Granularity granularity) {
+        return counts(epochMillis, zone, granularity, false);
+    }
+
+    /**
+     * Retorna => cantidad de valores y suma de values[i] por bucket de epochMillis[i].
+     * @exception IllegalArgumentException => si los arreglos no tienen el mismo largo o hay mas de MAX_BUCKETS buckets.
+     * @return Histogram.
+     */
+    public static Histogram sums(long[] epochMillis, long[] values, ZoneId zone, Granularity granularity, boolean parallel) {
+        if (epochMillis.length != values.length)
+            throw new IllegalArgumentException("Los arreglos no tienen el mismo largo: " + epochMillis.length + " y " + values.length);
+        return aggregate(epochMillis, values, zone, granularity, parallel);
+    }
+
+    public static Histogram sums(long[] epochMillis, long[] values, ZoneId zone, Granularity granularity) {
+        return sums(epochMillis, values, zone, granularity, false);
+    }
+
+    /**
+     * Retorna => hora local de inicio del bucket.
+     * @return LocalDateTime.
+     */
+    public static LocalDateTime toLocalDateTime(long key, Granularity granularity) {
+        switch (granularity) {
+            case MINUTE:
+                return LocalDateTime.ofEpochSecond(Math.multiplyExact(key, 60L), 0, ZoneOffset.UTC);
+            case HOUR:
+                return LocalDateTime.ofEpochSecond(Math.multiplyExact(key, 3_600L), 0, ZoneOffset.UTC);
+            case DAY:
+                return LocalDate.ofEpochDay(key).atStartOfDay();
+            default:
+                return LocalDate.of(1970, 1, 1).plusMonths(key).atStartOfDay();
+        }
+    }
+
+    /**
+     * Retorna => primer milisegundo del bucket en la zona. Si el inicio cae en un hueco de cambio de horario
+     * es el primer instante despues del hueco (como LocalDate.atStartOfDay(zone)).
+     * @return long.
+     */
+    public static long startEpochMillis(long key, ZoneId zone, Granularity granularity) {
+        return toLocalDateTime(key, granularity).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static Histogram aggregate(long[] epochMillis, long[] values, ZoneId zone, Granularity granularity, boolean parallel) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long value : epochMillis) {
+            if (value == NO_VALUE)
+                continue;
+            if (value < min)
+                min = value;
+            if (value > max)
+                max = value;
+        }
+        if (min > max)
+            return new Histogram(granularity, 0, new long[0], values == null ? null : new long[0]);
+        ZoneOffsetCache offsets = ZoneOffsetCache.forZone(zone);
+        // la hora local no se aleja mas de 18 horas del instante: el rango de claves queda acotado sin calcular las claves dos veces
+        long firstKey = utcKey(Math.floorDiv(min, 1_000L) - MAX_OFFSET_SECONDS, granularity);
+        long lastKey = utcKey(Math.floorDiv(max, 1_000L) + MAX_OFFSET_SECONDS, granularity);
+        if (lastKey - firstKey >= MAX_BUCKETS)
+            throw new IllegalArgumentException("Demasiados buckets: " + (lastKey - firstKey + 1) + " (maximo " + MAX_BUCKETS + ")");
+        int size = (int) (lastKey - firstKey + 1);
+        int parts = !parallel || epochMillis.length <= PARALLEL_THRESHOLD ? 1
+            : Math.max(1, Math.min(Math.min(ForkJoinPool.getCommonPoolParallelism(), epochMillis.length / PARALLEL_THRESHOLD),
+                PARALLEL_BUCKET_BUDGET / size));
+        long[][] counts = new long[parts][];
+        long[][] sums = new long[parts][];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(parts);
+        for (int p = 0; p < parts; p++) {
+            int from = (int) ((long) epochMillis.length * p / parts);
+            int to = (int) ((long) epochMillis.length * (p + 1) / parts);
+            counts[p] = new long[size];
+            sums[p] = values == null ? null : new long[size];
+            tasks.add(new CountTask(epochMillis, values, new Cursor(offsets, granularity), firstKey, counts[p], sums[p], from, to));
+        }
+        if (parts == 1)
+            tasks.get(0).invoke();
+        else
+            ForkJoinTask.invokeAll(tasks);
+        long[] totalCounts = counts[0];
+        long[] totalSums = sums[0];
+        for (int p = 1; p < parts; p++) {
+            for (int i = 0; i < size; i++) {
+                totalCounts[i] += counts[p][i];
+                if (totalSums != null)
+                    totalSums[i] += sums[p][i];
+            }
+        }
+        // se recortan los buckets vacios del margen
+        int first = 0;
+        while (totalCounts[first] == 0)
+            first++;
+        int last = size - 1;
+        while (totalCounts[last] == 0)
+            last--;
+        return new Histogram(granularity, firstKey + first, copy(totalCounts, first, last + 1),
+            totalSums == null ? null : copy(totalSums, first, last + 1));
+    }
+
+    private static long[] copy(long[] values, int from, int to) {
+        if (from == 0 && to == values.length)
+            return values;
+        long[] result = new long[to - from];
+        System.arraycopy(values, from, result, 0, result.length);
+        return result;
+    }
+
+    private static long utcKey(long localSecond, Granularity granularity) {
+        switch (granularity) {
+            case MINUTE:
+                return Math.floorDiv(localSecond, 60L);
+            case HOUR:
+                return Math.floorDiv(localSecond, 3_600L);
+            case DAY:
+                return Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            default:
+                return epochMonth(Math.floorDiv(localSecond, SECONDS_PER_DAY));
+        }
+    }
+
+    /*
+     * Meses desde 1970-01 del epoch-day, con aritmetica de calendario civil (sin LocalDate).
+     */
+    private static long epochMonth(long epochDay) {
+        long yearMonthDay = DateFields.civilFromEpochDay(epochDay);
+        long year = Math.floorDiv(yearMonthDay, 10_000L);
+        long month = Math.floorMod(yearMonthDay, 10_000L) / 100;
+        return (year - 1970) * 12 + month - 1;
+    }
+
+    /**
+     * Cantidades (y sumas) por bucket, densas desde firstKey() hasta lastKey() (los buckets sin valores quedan en 0).
+     */
+    public static final class Histogram {
+        private final Granularity granularity;
+        private final long firstKey;
+        private final long[] counts;
+        private final long[] sums;
+
+        Histogram(Granularity granularity, long firstKey, long[] counts, long[] sums) {
+            this.granularity = granularity;
+            this.firstKey = firstKey;
+            this.counts = counts;
+            this.sums = sums;
+        }
+
+        public Granularity getGranularity() {
+            return granularity;
+        }
+
+        public long firstKey() {
+            return firstKey;
+        }
+
+        /**
+         * Retorna => clave del ultimo bucket, firstKey() - 1 si no hay buckets.
+         * @return long.
+         */
+        public long lastKey() {
+            return firstKey + counts.length - 1;
+        }
+
+        public int size() {
+            return counts.length;
+        }
+
+        /**
+         * Retorna => cantidad de valores del bucket, 0 fuera del rango.
+         * @return long.
+         */
+        public long count(long key) {
+            long index = key - firstKey;
+            return index >= 0 && index < counts.length ? counts[(int) index] : 0;
+        }
+
+        /**
+         * Retorna => suma del bucket, 0 fuera del rango.
+         * @exception IllegalStateException => si el Histogram es de counts y no de sums.
+         * @return long.
+         */
+        public long sum(long key) {
+            if (sums == null)
+                throw new IllegalStateException("El Histogram no tiene sumas");
+            long index = key - firstKey;
+            return index >= 0 && index < sums.length ? sums[(int) index] : 0;
+        }
+
+        public boolean hasSums() {
+            return sums != null;
+        }
+
+        /**
+         * Retorna => copia de las cantidades, el indice i es el bucket firstKey() + i.
+         * @return long[].
+         */
+        public long[] toCountArray() {
+            return counts.clone();
+        }
+
+        /**
+         * Retorna => copia de las sumas, null si el Histogram es de counts.
+         * @return long[].
+         */
+        public long[] toSumArray() {
+            return sums == null ? null : sums.clone();
+        }
+
+        public long totalCount() {
+            long total = 0;
+            for (long count : counts)
+                total += count;
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram[" + granularity + ", firstKey=" + firstKey + ", size=" + counts.length + ", total=" + totalCount() + "]";
+        }
+    }
+
+    /*
+     * Estado de una hoja: ultimo tramo de offset usado, no crea objetos por valor.
+     */
+    private static final class Cursor {
+        private final ZoneOffsetCache zone;
+        private final Granularity granularity;
+        // {inicio, fin, offset}, vacio al comenzar
+        private final long[] run = { 1L, 0L, 0L };
+
+        Cursor(ZoneOffsetCache zone, Granularity granularity) {
+            this.zone = zone;
+            this.granularity = granularity;
+        }
+
+        long key(long epochMillis) {
+            long epochSecond = Math.floorDiv(epochMillis, 1_000L);
+            if (epochSecond < run[0] || epochSecond >= run[1])
+                zone.offsetRun(epochSecond, run);
+            return utcKey(epochSecond + run[2], granularity);
+        }
+    }
+
+    /*
+     * Cuenta (y suma) el tramo [from, to) en arreglos propios de la parte.
+     */
+    private static final class CountTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient long[] epochMillis;
+        private final transient long[] values;
+        private final transient Cursor cursor;
+        private final long firstKey;
+        private final transient long[] counts;
+        private final transient long[] sums;
+        private final int from;
+        private final int to;
+
+        CountTask(long[] epochMillis, long[] values, Cursor cursor, long firstKey, long[] counts, long[] sums, int from, int to) {
+            this.epochMillis = epochMillis;
+            this.values = values;
+            this.cursor = cursor;
+            this.firstKey = firstKey;
+            this.counts = counts;
+            this.sums = sums;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                long value = epochMillis[i];
+                if (value == NO_VALUE)
+                    continue;
+                int index = (int) (cursor.key(value) - firstKey);
+                counts[index]++;
+                if (sums != null)
+                    sums[index] += values[i];
+            }
+        }
+    }
+}
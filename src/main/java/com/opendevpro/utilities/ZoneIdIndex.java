@@ -0,0 +1,221 @@
+package com.opendevpro.utilities;
+
+import java.time.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indice inmutable de los ZoneId disponibles para busquedas por substring y por prefijo (selector de zonas type-ahead).<br>
+ * <p>
+ * Se construye una sola vez con n-gramas (1, 2 y 3 caracteres) apuntando a listas ordenadas de ids, mas arreglos ordenados
+ * para buscar prefijos por busqueda binaria. Una busqueda por substring solo revisa los ids de la lista mas corta
+ * de sus trigramas en lugar de recorrer las ~600 zonas.<br>
+ * <p>
+ * Los resultados respetan el orden de ZoneId.getAvailableZoneIds(), el mismo que tenia getZoneIdsByFilterString.<br>
+ * <p>
+ * current() solo lee el indice cacheado, no consulta al ZoneRulesProvider (que copia el Set de ids en cada llamada).
+ * Si se registra un ZoneRulesProvider nuevo hay que llamar a refresh() para ver sus zonas.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class ZoneIdIndex {
+
+    /**
+     * Sin limite de resultados.
+     */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private static volatile ZoneIdIndex current = new ZoneIdIndex(ZoneRulesProvider.getAvailableZoneIds());
+
+    private final String[] ids;
+    private final String[] lowerIds;
+    private final Set<String> idSet;
+    private final List<String> idList;
+    private final Map<Long, int[]> grams;
+    private final Map<Long, int[]> lowerGrams;
+    private final int[] sorted;
+    private final int[] lowerSorted;
+
+    private ZoneIdIndex(Set<String> source) {
+        // misma copia que hace ZoneId.getAvailableZoneIds(), para respetar su orden de iteracion
+        this.ids = new HashSet<>(source).toArray(new String[0]);
+        this.lowerIds = new String[ids.length];
+        for (int i = 0; i < ids.length; i++)
+            lowerIds[i] = ids[i].toLowerCase(Locale.ROOT);
+        this.idSet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(ids)));
+        this.idList = Collections.unmodifiableList(Arrays.asList(ids.clone()));
+        this.grams = buildGrams(ids);
+        this.lowerGrams = buildGrams(lowerIds);
+        this.sorted = sortedOrder(ids);
+        this.lowerSorted = sortedOrder(lowerIds);
+    }
+
+    /**
+     * Retorna => el indice vigente. No consulta al ZoneRulesProvider, ver refresh().
+     * @return ZoneIdIndex.
+     */
+    public static ZoneIdIndex current() {
+        return current;
+    }
+
+    /**
+     * Reconstruye el indice con las zonas actuales del ZoneRulesProvider (por ejemplo despues de registrar un provider).<br>
+     * Retorna => el indice nuevo, que pasa a ser el de current().
+     * @return ZoneIdIndex.
+     */
+    public static ZoneIdIndex refresh() {
+        ZoneIdIndex index = new ZoneIdIndex(ZoneRulesProvider.getAvailableZoneIds());
+        current = index;
+        return index;
+    }
+
+    /**
+     * Retorna => vista no modificable de los ids de zona.
+     * @return Set.
+     */
+    public Set<String> asSet() {
+        return idSet;
+    }
+
+    /**
+     * Retorna => vista no modificable de los ids de zona, mismo orden que asSet().
+     * @return List.
+     */
+    public List<String> asList() {
+        return idList;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Ids que contienen el texto, igual que filtrar con String.contains.<br>
+     * @param text => texto a buscar, "" devuelve todas las zonas.
+     * @param ignoreCase => compara sin distinguir mayusculas/minusculas.
+     * @param limit => cantidad maxima de resultados (NO_LIMIT para todos).
+     * @return List => lista nueva y modificable.
+     */
+    public List<String> findContaining(String text, boolean ignoreCase, int limit) {
+        if (text == null)
+            throw new NullPointerException("text");
+        String query = ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+        String[] haystack = ignoreCase ? lowerIds : ids;
+        List<String> result = new ArrayList<>();
+        if (limit <= 0)
+            return result;
+        if (query.isEmpty()) {
+            for (int i = 0; i < ids.length && result.size() < limit; i++)
+                result.add(ids[i]);
+            return result;
+        }
+        int[] candidates = candidates(query, ignoreCase ? lowerGrams : grams);
+        boolean exact = query.length() <= 3;
+        for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+            int id = candidates[i];
+            if (exact || haystack[id].contains(query))
+                result.add(ids[id]);
+        }
+        return result;
+    }
+
+    /**
+     * Ids que empiezan con el texto, en orden alfabetico.<br>
+     * @param limit => cantidad maxima de resultados (NO_LIMIT para todos).
+     * @return List => lista nueva y modificable.
+     */
+    public List<String> findByPrefix(String prefix, boolean ignoreCase, int limit) {
+        if (prefix == null)
+            throw new NullPointerException("prefix");
+        String query = ignoreCase ? prefix.toLowerCase(Locale.ROOT) : prefix;
+        String[] haystack = ignoreCase ? lowerIds : ids;
+        int[] order = ignoreCase ? lowerSorted : sorted;
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (haystack[order[middle]].compareTo(query) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        List<String> result = new ArrayList<>();
+        for (int i = low; i < order.length && result.size() < limit && haystack[order[i]].startsWith(query); i++)
+            result.add(ids[order[i]]);
+        return result;
+    }
+
+    /*
+     * Lista (ordenada por posicion) de ids que pueden contener la consulta:
+     * la lista del propio n-grama si tiene hasta 3 caracteres, si no la mas corta de sus trigramas.
+     */
+    private static int[] candidates(String query, Map<Long, int[]> grams) {
+        int length = query.length();
+        if (length <= 3)
+            return postings(grams, gramKey(query, 0, length));
+        int[] best = null;
+        for (int i = 0; i + 3 <= length; i++) {
+            int[] postings = postings(grams, gramKey(query, i, 3));
+            if (best == null || postings.length < best.length)
+                best = postings;
+            if (best.length == 0)
+                break;
+        }
+        return best;
+    }
+
+    private static int[] postings(Map<Long, int[]> grams, long key) {
+        int[] postings = grams.get(key);
+        return postings != null ? postings : new int[0];
+    }
+
+    private static Map<Long, int[]> buildGrams(String[] values) {
+        Map<Long, List<Integer>> lists = new HashMap<>();
+        for (int id = 0; id < values.length; id++) {
+            String value = values[id];
+            for (int n = 1; n <= 3; n++) {
+                for (int i = 0; i + n <= value.length(); i++) {
+                    List<Integer> list = lists.computeIfAbsent(gramKey(value, i, n), k -> new ArrayList<Integer>());
+                    if (list.isEmpty() || list.get(list.size() - 1) != id)
+                        list.add(id);
+                }
+            }
+        }
+        Map<Long, int[]> grams = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<Long, List<Integer>> entry : lists.entrySet()) {
+            List<Integer> list = entry.getValue();
+            int[] postings = new int[list.size()];
+            for (int i = 0; i < postings.length; i++)
+                postings[i] = list.get(i);
+            grams.put(entry.getKey(), postings);
+        }
+        return grams;
+    }
+
+    private static long gramKey(String value, int start, int length) {
+        long key = length;
+        for (int i = 0; i < length; i++)
+            key = (key << 16) | value.charAt(start + i);
+        return key;
+    }
+
+    private static int[] sortedOrder(final String[] values) {
+        Integer[] order = new Integer[values.length];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        Arrays.sort(order, Comparator.comparing(i -> values[i]));
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++)
+            result[i] = order[i];
+        return result;
+    }
+}
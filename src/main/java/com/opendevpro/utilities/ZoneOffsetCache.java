@@ -0,0 +1,225 @@
+package com.opendevpro.utilities;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache por zona de las transiciones de offset (cambios de horario) de un rango de años configurable.<br>
+ * <p>
+ * Con la tabla precalculada, pasar un timestamp a fecha/hora local es una busqueda binaria sobre un long[] y aritmetica,
+ * en lugar de Instant.atZone(), que busca la transicion en ZoneRules y crea un ZonedDateTime por cada valor.<br>
+ * <p>
+ * Las zonas de offset fijo (UTC, -03:00, Etc/GMT+3) usan un camino constante, sin tabla.<br>
+ * Fuera del rango cacheado se usa ZoneRules directamente, el resultado es siempre el mismo que con java.time.<br>
+ * <p>
+ * El rango por defecto es 1970-2100, se cambia con setCachedYears() o con las propiedades de sistema
+ * "opendevpro.zoneOffsetCache.fromYear" y "opendevpro.zoneOffsetCache.toYear".
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class ZoneOffsetCache {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    // margen para que una hora local cerca del borde del rango no caiga del otro lado al restar el offset
+    private static final long LOCAL_MARGIN_SECONDS = 2 * SECONDS_PER_DAY;
+
+    private static final Map<ZoneId, ZoneOffsetCache> TABLES = new ConcurrentHashMap<>();
+    private static volatile int fromYear = Integer.getInteger("opendevpro.zoneOffsetCache.fromYear", 1970);
+    private static volatile int toYear = Integer.getInteger("opendevpro.zoneOffsetCache.toYear", 2100);
+
+    private final ZoneRules rules;
+    private final boolean fixed;
+    private final int fixedOffset;
+    private final long startEpochSecond;
+    private final long endEpochSecond;
+    // offsets[i] rige desde transitions[i - 1] (o desde el inicio del rango) hasta transitions[i]
+    private final long[] transitions;
+    private final int[] offsets;
+    // ventana local de cada transicion: hueco o solapamiento [localStart, localEnd)
+    private final long[] localStarts;
+    private final long[] localEnds;
+
+    private ZoneOffsetCache(ZoneId zone, int fromYear, int toYear) {
+        this.rules = zone.getRules();
+        this.fixed = rules.isFixedOffset();
+        this.fixedOffset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        this.startEpochSecond = DateFields.toEpochDay(fromYear, 1, 1) * SECONDS_PER_DAY;
+        this.endEpochSecond = DateFields.toEpochDay(toYear + 1L, 1, 1) * SECONDS_PER_DAY;
+        List<ZoneOffsetTransition> found = new ArrayList<>();
+        if (!fixed) {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(startEpochSecond - 1));
+            while (transition != null && transition.toEpochSecond() < endEpochSecond) {
+                found.add(transition);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+        int count = found.size();
+        this.transitions = new long[count];
+        this.offsets = new int[count + 1];
+        this.localStarts = new long[count];
+        this.localEnds = new long[count];
+        offsets[0] = rules.getOffset(Instant.ofEpochSecond(startEpochSecond)).getTotalSeconds();
+        for (int i = 0; i < count; i++) {
+            ZoneOffsetTransition transition = found.get(i);
+            int before = transition.getOffsetBefore().getTotalSeconds();
+            int after = transition.getOffsetAfter().getTotalSeconds();
+            transitions[i] = transition.toEpochSecond();
+            offsets[i + 1] = after;
+            localStarts[i] = transitions[i] + Math.min(before, after);
+            localEnds[i] = transitions[i] + Math.max(before, after);
+        }
+    }
+
+    /**
+     * Retorna => la tabla de la zona, se calcula en el primer uso.
+     * @return ZoneOffsetCache.
+     */
+    public static ZoneOffsetCache forZone(ZoneId zone) {
+        ZoneOffsetCache table = TABLES.get(zone);
+        if (table == null) {
+            ZoneOffsetCache created = new ZoneOffsetCache(zone, fromYear, toYear);
+            table = TABLES.putIfAbsent(zone, created);
+            if (table == null)
+                table = created;
+        }
+        return table;
+    }
+
+    /**
+     * Cambia el rango de años cacheado y descarta las tablas calculadas.
+     * @exception IllegalArgumentException => si fromYear es mayor a toYear.
+     */
+    public static void setCachedYears(int fromYear, int toYear) {
+        if (fromYear > toYear)
+            throw new IllegalArgumentException("fromYear mayor a toYear: " + fromYear + " > " + toYear);
+        ZoneOffsetCache.fromYear = fromYear;
+        ZoneOffsetCache.toYear = toYear;
+        TABLES.clear();
+    }
+
+    /**
+     * Retorna => offset en segundos en el instante, igual que rules.getOffset(Instant.ofEpochSecond(epochSecond)).
+     * @return int.
+     */
+    public int offsetSecondsAt(long epochSecond) {
+        if (fixed)
+            return fixedOffset;
+        if (epochSecond < startEpochSecond || epochSecond >= endEpochSecond)
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        return offsets[search(transitions, epochSecond)];
+    }
+
+    /**
+     * Retorna => segundo epoch que corresponde a la hora local (segundos epoch UTC), igual que LocalDateTime.atZone(zone).<br>
+     * <p>
+     * En un hueco o un solapamiento usa el offset anterior a la transicion.
+     * @return long.
+     */
+    public long localToEpochSecond(long localEpochSecond) {
+        if (fixed)
+            return localEpochSecond - fixedOffset;
+        if (localEpochSecond < startEpochSecond + LOCAL_MARGIN_SECONDS || localEpochSecond >= endEpochSecond - LOCAL_MARGIN_SECONDS)
+            return slowLocalToEpochSecond(localEpochSecond);
+        int index = search(localStarts, localEpochSecond) - 1;
+        if (index >= 0 && localEpochSecond < localEnds[index])
+            return localEpochSecond - offsets[index];
+        return localEpochSecond - offsets[index + 1];
+    }
+
+    /**
+     * Retorna => epoch-day local del instante en milisegundos.
+     * @return long.
+     */
+    public long localEpochDay(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1_000L);
+        return Math.floorDiv(epochSecond + offsetSecondsAt(epochSecond), SECONDS_PER_DAY);
+    }
+
+    /*
+     * Llena run con {inicio, fin, offset}: el tramo [inicio, fin) de segundos epoch que tiene el mismo offset que epochSecond.
+     * Fuera del rango cacheado el tramo es solo ese segundo.
+     */
+    void offsetRun(long epochSecond, long[] run) {
+        if (fixed) {
+            run[0] = Long.MIN_VALUE;
+            run[1] = Long.MAX_VALUE;
+            run[2] = fixedOffset;
+            return;
+        }
+        if (epochSecond < startEpochSecond || epochSecond >= endEpochSecond) {
+            run[0] = epochSecond;
+            run[1] = epochSecond + 1;
+            run[2] = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+            return;
+        }
+        int index = search(transitions, epochSecond);
+        run[0] = index == 0 ? startEpochSecond : transitions[index - 1];
+        run[1] = index == transitions.length ? endEpochSecond : transitions[index];
+        run[2] = offsets[index];
+    }
+
+    /*
+     * Igual que offsetRun para horas locales: el tramo sin hueco ni solapamiento donde cae localEpochSecond.
+     * Retorna false si cae en una transicion o cerca de los bordes del rango (el llamador resuelve ese valor aparte).
+     */
+    boolean localOffsetRun(long localEpochSecond, long[] run) {
+        if (fixed) {
+            run[0] = Long.MIN_VALUE;
+            run[1] = Long.MAX_VALUE;
+            run[2] = fixedOffset;
+            return true;
+        }
+        long first = startEpochSecond + LOCAL_MARGIN_SECONDS;
+        long last = endEpochSecond - LOCAL_MARGIN_SECONDS;
+        if (localEpochSecond < first || localEpochSecond >= last)
+            return false;
+        int index = search(localStarts, localEpochSecond);
+        if (index > 0 && localEpochSecond < localEnds[index - 1])
+            return false;
+        run[0] = index == 0 ? first : Math.max(first, localEnds[index - 1]);
+        run[1] = index == localStarts.length ? last : Math.min(last, localStarts[index]);
+        run[2] = offsets[index];
+        return true;
+    }
+
+    // cantidad de valores de sorted menores o iguales a value
+    private static int search(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] <= value)
+                low = middle + 1;
+            else
+                high = middle - 1;
+        }
+        return low;
+    }
+
+    public boolean isFixedOffset() {
+        return fixed;
+    }
+
+    /**
+     * Retorna => cantidad de transiciones precalculadas en el rango.
+     * @return int.
+     */
+    public int transitionCount() {
+        return transitions.length;
+    }
+
+    private long slowLocalToEpochSecond(long localEpochSecond) {
+        LocalDateTime local = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(local);
+        ZoneOffset offset = validOffsets.size() == 1 ? validOffsets.get(0) : rules.getTransition(local).getOffsetBefore();
+        return localEpochSecond - offset.getTotalSeconds();
+    }
+}
@@ -0,0 +1,39 @@
+package com.opendevpro.utilities;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Resolucion de offsets de zona trabajando con segundos epoch en primitivos.<br>
+ * <p>
+ * localToEpochSecond reproduce LocalDateTime.atZone(zone): en un hueco (cambio de horario hacia adelante) y en un
+ * solapamiento (hacia atras) se usa el offset anterior a la transicion, igual que ZonedDateTime.ofLocal sin offset preferido.<br>
+ * <p>
+ * Las zonas con cambios de horario usan las transiciones precalculadas de ZoneOffsetCache.
+ * @since 18-10-2026
+ * @version 1.1
+ */
+final class ZoneOffsets {
+
+    private ZoneOffsets() {
+    }
+
+    /**
+     * Retorna => offset en segundos de la zona en el instante indicado, igual que zone.getRules().getOffset(instant).
+     */
+    static int offsetSecondsAt(ZoneId zone, long epochSecond) {
+        if (zone instanceof ZoneOffset)
+            return ((ZoneOffset) zone).getTotalSeconds();
+        return ZoneOffsetCache.forZone(zone).offsetSecondsAt(epochSecond);
+    }
+
+    /**
+     * Retorna => segundo epoch del instante que corresponde a la hora local (expresada como segundos epoch UTC) en la zona,
+     * igual que LocalDateTime.atZone(zone).toEpochSecond().
+     */
+    static long localToEpochSecond(ZoneId zone, long localEpochSecond) {
+        if (zone instanceof ZoneOffset)
+            return localEpochSecond - ((ZoneOffset) zone).getTotalSeconds();
+        return ZoneOffsetCache.forZone(zone).localToEpochSecond(localEpochSecond);
+    }
+}
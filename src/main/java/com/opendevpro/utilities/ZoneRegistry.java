@@ -0,0 +1,130 @@
+package com.opendevpro.utilities;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Registro precargado de ZoneId y ZoneRules para getZoneIdByShortcut y los metodos que reciben ZoneId.<br>
+ * <p>
+ * Al inicializarse resuelve una sola vez todas las keys de ZoneId.SHORT_IDS (CAT, AGT, AET...) y todos los ids de region
+ * disponibles, con sus ZoneRules ya cargadas. Despues las busquedas son lecturas de mapas inmutables, sin locks ni parseo.<br>
+ * <p>
+ * Los shortcuts se buscan sin distinguir mayusculas/minusculas ("agt" => America/Argentina/Buenos_Aires).<br>
+ * <p>
+ * Las zonas registradas despues de la precarga (ZoneRulesProvider nuevo) se resuelven con ZoneId.of en cada busqueda.
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class ZoneRegistry {
+
+    private final Map<String, ZoneId> shortcuts;
+    private final Map<String, ZoneId> regions;
+    private final int preloadedCount;
+    private final long preloadNanos;
+
+    private ZoneRegistry() {
+        long start = System.nanoTime();
+        Map<String, ZoneId> regionMap = new HashMap<>();
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            ZoneId zone = ZoneId.of(id);
+            // carga las reglas en el cache del ZoneRulesProvider
+            zone.getRules();
+            regionMap.put(id, zone);
+        }
+        Map<String, ZoneId> shortcutMap = new HashMap<>();
+        Set<String> offsetIds = new HashSet<>();
+        for (Map.Entry<String, String> entry : ZoneId.SHORT_IDS.entrySet()) {
+            ZoneId zone = regionMap.get(entry.getValue());
+            if (zone == null) {
+                // EST, MST, HST: offsets fijos que no son regiones
+                zone = ZoneId.of(entry.getValue());
+                offsetIds.add(zone.getId());
+            }
+            shortcutMap.put(entry.getKey().toUpperCase(Locale.ROOT), zone);
+        }
+        this.shortcuts = Collections.unmodifiableMap(shortcutMap);
+        this.regions = Collections.unmodifiableMap(regionMap);
+        this.preloadedCount = regionMap.size() + offsetIds.size();
+        this.preloadNanos = System.nanoTime() - start;
+    }
+
+    private static final class Holder {
+        static final ZoneRegistry INSTANCE = new ZoneRegistry();
+    }
+
+    /**
+     * Retorna => el registro compartido, se precarga en la primera llamada.
+     * @return ZoneRegistry.
+     */
+    public static ZoneRegistry shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Busca el ZoneId de un shortcut de ZoneId.SHORT_IDS sin distinguir mayusculas.<br>
+     * @return Optional => vacio si el shortcut no existe o es null.
+     */
+    public Optional<ZoneId> findByShortcut(String shortcut) {
+        if (shortcut == null)
+            return Optional.empty();
+        ZoneId zone = shortcuts.get(shortcut);
+        if (zone == null)
+            zone = shortcuts.get(shortcut.toUpperCase(Locale.ROOT));
+        return Optional.ofNullable(zone);
+    }
+
+    /**
+     * Busca el ZoneId de un id de region (ej. "America/Mexico_City") o de offset (ej. "-03:00").<br>
+     * @return Optional => vacio si el id no es valido o es null.
+     */
+    public Optional<ZoneId> findById(String zoneId) {
+        if (zoneId == null)
+            return Optional.empty();
+        ZoneId zone = regions.get(zoneId);
+        if (zone != null)
+            return Optional.of(zone);
+        try {
+            return Optional.of(ZoneId.of(zoneId));
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Retorna => Map no modificable de shortcut (3 letras MAYUSCULAS) => ZoneId ya resuelto.
+     * @return Map.
+     */
+    public Map<String, ZoneId> shortcuts() {
+        return shortcuts;
+    }
+
+    /**
+     * Retorna => cantidad de zonas distintas precargadas: las regiones mas los offsets fijos de los shortcuts
+     * (los shortcuts que apuntan a una region no se cuentan dos veces).
+     * @return int.
+     */
+    public int getPreloadedCount() {
+        return preloadedCount;
+    }
+
+    /**
+     * Retorna => tiempo en nanosegundos que tomo resolver todas las zonas.
+     * @return long.
+     */
+    public long getPreloadNanos() {
+        return preloadNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneRegistry[regions=" + regions.size() + ", shortcuts=" + shortcuts.size()
+            + ", preloadMillis=" + preloadNanos / 1_000_000 + "]";
+    }
+}
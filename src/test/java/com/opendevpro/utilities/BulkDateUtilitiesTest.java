@@ -0,0 +1,48 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BulkDateUtilitiesTest {
+
+    @Test
+    public void smallColumnMatchesPerValueMethods() {
+        String[] values = { "29/02/2020", "30/02/2021", "32/01/2021", null, "1/01/2020", "31/12/9999" };
+        BitSet valid = BulkDateUtilities.validateDates(values, DateUtilities.DD_MM_YYYY_SLASH);
+        int[] epochDays = BulkDateUtilities.parseEpochDays(Arrays.asList(values), DateUtilities.DD_MM_YYYY_SLASH);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], DateUtilities.isValidDate(values[i], DateUtilities.DD_MM_YYYY_SLASH), valid.get(i));
+            int expected = values[i] != null && DateUtilities.isValidDate(values[i], DateUtilities.DD_MM_YYYY_SLASH)
+                ? (int) DateUtilities.fromStringToLocalDate(values[i], DateUtilities.DD_MM_YYYY_SLASH).toEpochDay()
+                : BulkDateUtilities.INVALID_EPOCH_DAY;
+            assertEquals(values[i], expected, epochDays[i]);
+        }
+    }
+
+    @Test
+    public void largeColumnIsSplitWithoutLosingBits() {
+        Random random = new Random(7);
+        String[] values = new String[100_003];
+        for (int i = 0; i < values.length; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(50_000));
+            values[i] = random.nextInt(10) == 0 ? "xx/01/2020"
+                : DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.YYYY_MM_DD_SLASH);
+        }
+        BitSet valid = BulkDateUtilities.validateDates(values, DateUtilities.YYYY_MM_DD_SLASH);
+        int[] epochDays = BulkDateUtilities.parseEpochDays(values, DateUtilities.YYYY_MM_DD_SLASH);
+        for (int i = 0; i < values.length; i++) {
+            boolean expected = DateUtilities.isValidDate(values[i], DateUtilities.YYYY_MM_DD_SLASH);
+            assertEquals(expected, valid.get(i));
+            if (expected)
+                assertEquals(DateUtilities.fromStringToLocalDate(values[i], DateUtilities.YYYY_MM_DD_SLASH).toEpochDay(), epochDays[i]);
+            else
+                assertEquals(BulkDateUtilities.INVALID_EPOCH_DAY, epochDays[i]);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class BusinessCalendarTest {
+
+    @Test
+    public void argentineHolidaysAroundCarnival() {
+        List<LocalDate> holidays = Arrays.asList(LocalDate.of(2026, 2, 16), LocalDate.of(2026, 2, 17), LocalDate.of(2026, 3, 24));
+        BusinessCalendar calendar = new BusinessCalendar(holidays);
+        LocalDate friday = LocalDate.of(2026, 2, 13);
+        assertEquals(LocalDate.of(2026, 2, 18), calendar.nextBusinessDay(friday));
+        assertEquals(LocalDate.of(2026, 2, 18), calendar.plusBusinessDays(friday, 1));
+        assertEquals(friday, calendar.plusBusinessDays(LocalDate.of(2026, 2, 18), -1));
+        assertEquals(friday, calendar.previousBusinessDay(LocalDate.of(2026, 2, 17)));
+        assertEquals(4, calendar.businessDaysBetween(LocalDate.of(2026, 2, 13), LocalDate.of(2026, 2, 21)));
+        assertEquals(-4, calendar.businessDaysBetween(LocalDate.of(2026, 2, 21), LocalDate.of(2026, 2, 13)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2026, 3, 24)));
+        assertEquals(3, calendar.holidayCount());
+        assertEquals(261 - 3, calendar.businessDaysInYear(2026));
+        assertEquals(LocalDate.of(2026, 2, 18), calendar.nextOrSameBusinessDay(LocalDate.of(2026, 2, 14)));
+    }
+
+    @Test
+    public void matchesDayByDayStepping() {
+        Random random = new Random(20);
+        for (int round = 0; round < 12; round++) {
+            Set<DayOfWeek> weekend = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextInt(4) == 0)
+                    weekend.add(day);
+            }
+            if (weekend.size() == 7)
+                weekend.remove(DayOfWeek.WEDNESDAY);
+            Set<LocalDate> holidays = new HashSet<>();
+            for (int i = 0; i < 300; i++)
+                holidays.add(LocalDate.of(1990 + random.nextInt(60), 1, 1).plusDays(random.nextInt(366)));
+            BusinessCalendar calendar = new BusinessCalendar(weekend, holidays, 2000, 2030);
+            for (int i = 0; i < 2_000; i++) {
+                // incluye fechas fuera del rango precalculado (1990-2049 por los feriados)
+                LocalDate start = LocalDate.of(1980, 1, 1).plusDays(random.nextInt(30_000));
+                LocalDate end = start.plusDays(random.nextInt(800) - 400);
+                assertEquals(isBusinessDay(weekend, holidays, start), calendar.isBusinessDay(start));
+                assertEquals(countBetween(weekend, holidays, start, end), calendar.businessDaysBetween(start, end));
+                int days = random.nextInt(60) - 30;
+                assertEquals(plusByStepping(weekend, holidays, start, days), calendar.plusBusinessDays(start, days));
+            }
+        }
+    }
+
+    @Test
+    public void bulkQueriesMatchSingleQueries() {
+        BusinessCalendar calendar = new BusinessCalendar(Collections.singletonList(LocalDate.of(2026, 12, 25)));
+        Random random = new Random(3);
+        int size = 10_000;
+        LocalDate[] starts = new LocalDate[size];
+        LocalDate[] ends = new LocalDate[size];
+        int[] startDays = new int[size];
+        int[] endDays = new int[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365));
+            ends[i] = starts[i].plusDays(random.nextInt(120));
+            startDays[i] = (int) starts[i].toEpochDay();
+            endDays[i] = (int) ends[i].toEpochDay();
+        }
+        starts[5] = null;
+        startDays[5] = BulkDateUtilities.INVALID_EPOCH_DAY;
+        for (boolean parallel : new boolean[] { false, true }) {
+            long[] counts = calendar.businessDaysBetween(starts, ends, parallel);
+            assertArrayEquals(counts, calendar.businessDaysBetween(startDays, endDays, parallel));
+            LocalDate[] deadlines = calendar.plusBusinessDays(starts, 5, parallel);
+            for (int i = 0; i < size; i++) {
+                if (i == 5) {
+                    assertEquals(BusinessCalendar.NULL_COUNT, counts[i]);
+                    assertNull(deadlines[i]);
+                    continue;
+                }
+                assertEquals(calendar.businessDaysBetween(starts[i], ends[i]), counts[i]);
+                assertEquals(calendar.plusBusinessDays(starts[i], 5), deadlines[i]);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calendarWithoutBusinessDaysIsRejected() {
+        new BusinessCalendar(EnumSet.allOf(DayOfWeek.class), new ArrayList<>());
+    }
+
+    @Test
+    public void holidaysOutsideTheRangeExtendIt() {
+        BusinessCalendar calendar = new BusinessCalendar(Collections.singletonList(LocalDate.of(2150, 1, 1)));
+        assertEquals(2150, calendar.getToYear());
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2150, 1, 1)));
+        // fuera del rango: solo fin de semana (viernes y sabado)
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2151, 1, 1)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2151, 1, 2)));
+    }
+
+    private static boolean isBusinessDay(Set<DayOfWeek> weekend, Set<LocalDate> holidays, LocalDate date) {
+        return !weekend.contains(date.getDayOfWeek()) && !holidays.contains(date);
+    }
+
+    private static long countBetween(Set<DayOfWeek> weekend, Set<LocalDate> holidays, LocalDate start, LocalDate end) {
+        long count = 0;
+        for (LocalDate day = start; day.isBefore(end); day = day.plusDays(1)) {
+            if (isBusinessDay(weekend, holidays, day))
+                count++;
+        }
+        for (LocalDate day = end; day.isBefore(start); day = day.plusDays(1)) {
+            if (isBusinessDay(weekend, holidays, day))
+                count--;
+        }
+        return count;
+    }
+
+    private static LocalDate plusByStepping(Set<DayOfWeek> weekend, Set<LocalDate> holidays, LocalDate date, int days) {
+        int step = days > 0 ? 1 : -1;
+        for (int left = Math.abs(days); left > 0;) {
+            date = date.plusDays(step);
+            if (isBusinessDay(weekend, holidays, date))
+                left--;
+        }
+        return date;
+    }
+}
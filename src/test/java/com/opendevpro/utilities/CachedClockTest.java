@@ -0,0 +1,226 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CachedClockTest {
+
+    private static final Locale ES_AR = new Locale("es", "AR");
+    private static final String[] PATTERNS = {
+        DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES,
+        DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS,
+        "yyyy-MM-dd'T'HH:mm:ssXXX",
+        "dd/MM/yyyy hh a z",
+        DateUtilities.DD_MM_YYYY_SLASH,
+        "'mm' yyyy"
+    };
+
+    @Test
+    public void resolutionFollowsFinestField() {
+        assertEquals(60_000L, CachedClock.resolutionMillis(DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES));
+        assertEquals(1L, CachedClock.resolutionMillis(DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS));
+        assertEquals(1_000L, CachedClock.resolutionMillis("HH:mm:ss"));
+        assertEquals(3_600_000L, CachedClock.resolutionMillis("dd/MM/yyyy hh a"));
+        assertEquals(86_400_000L, CachedClock.resolutionMillis(DateUtilities.DD_MM_YYYY_SLASH));
+        assertEquals(86_400_000L, CachedClock.resolutionMillis("'mm' yyyy"));
+    }
+
+    @Test
+    public void matchesSimpleDateFormatAcrossZonesAndTransitions() {
+        Random random = new Random(15);
+        for (String id : new String[] { "America/Argentina/Buenos_Aires", "Europe/London", "America/New_York",
+                "Australia/Lord_Howe", "Asia/Kolkata", "UTC" }) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            MutableClock clock = new MutableClock(Instant.parse("2026-03-08T00:00:00Z").toEpochMilli());
+            CachedClock cached = new CachedClock(clock, zone, ES_AR);
+            for (int i = 0; i < 20_000; i++) {
+                // pasos chicos y algunos saltos para cruzar minutos, horas, dias y cambios de horario
+                clock.advance(random.nextInt(10) == 0 ? random.nextInt(40_000_000) : random.nextInt(90_000));
+                String pattern = PATTERNS[random.nextInt(PATTERNS.length)];
+                assertEquals(id + " " + pattern + " " + clock.millis(),
+                    expected(pattern, zone, clock.millis()), cached.now(pattern));
+            }
+        }
+    }
+
+    @Test
+    public void followsClockGoingBackwards() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/London");
+        long start = Instant.parse("2026-10-25T00:30:00Z").toEpochMilli();
+        MutableClock clock = new MutableClock(start);
+        CachedClock cached = new CachedClock(clock, zone, ES_AR);
+        for (long step : new long[] { 3_600_000L, -60_000L, -3_600_000L, 7_200_000L, -86_400_000L }) {
+            clock.advance(step);
+            for (String pattern : PATTERNS)
+                assertEquals(expected(pattern, zone, clock.millis()), cached.now(pattern));
+        }
+    }
+
+    @Test
+    public void reusesTextInsideResolution() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-18T10:30:00Z").toEpochMilli());
+        CachedClock cached = new CachedClock(clock, TimeZone.getTimeZone("UTC"), ES_AR)
+            .register(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES);
+        assertEquals(1, cached.refreshCount());
+        String first = cached.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES);
+        for (int i = 0; i < 59; i++) {
+            clock.advance(1_000L);
+            assertSame(first, cached.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+        }
+        assertEquals("2026-10-18T10:30Z", first);
+        clock.advance(1_000L);
+        assertEquals("2026-10-18T10:31Z", cached.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+        assertEquals(2, cached.refreshCount());
+    }
+
+    @Test
+    public void tickerRefreshesWithoutReadingClock() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-18T10:30:00Z").toEpochMilli());
+        CachedClock cached = new CachedClock(clock, TimeZone.getTimeZone("UTC"), ES_AR);
+        try (CachedClock ticking = cached) {
+            ticking.register(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES);
+            ticking.startTicker(1, TimeUnit.HOURS);
+            assertTrue(ticking.isTicking());
+            clock.advance(120_000L);
+            // el ticker todavia no corrio: se sirve el ultimo texto
+            assertEquals("2026-10-18T10:30Z", ticking.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+            assertEquals(Instant.parse("2026-10-18T10:30:00Z").toEpochMilli(), ticking.millis());
+            ticking.tick();
+            assertEquals("2026-10-18T10:32Z", ticking.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+            assertEquals(clock.millis(), ticking.millis());
+        }
+        assertFalse(cached.isTicking());
+        clock.advance(60_000L);
+        assertEquals("2026-10-18T10:33Z", cached.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+    }
+
+    @Test
+    public void patternCountIsBounded() {
+        CachedClock cached = new CachedClock(new MutableClock(0L), TimeZone.getTimeZone("UTC"), ES_AR);
+        for (int i = 0; i < CachedClock.MAXIMUM_PATTERNS * 3; i++)
+            assertEquals("p" + i + " 1970", cached.now("'p" + i + "' yyyy"));
+        assertEquals(CachedClock.MAXIMUM_PATTERNS, cached.patternCount());
+    }
+
+    @Test
+    public void backgroundTickerAdvances() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-18T10:30:00Z").toEpochMilli());
+        try (CachedClock cached = new CachedClock(clock, TimeZone.getTimeZone("UTC"), ES_AR)) {
+            cached.register(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES).startTicker(5, TimeUnit.MILLISECONDS);
+            clock.advance(60_000L);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!"2026-10-18T10:31Z".equals(cached.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES))
+                    && System.nanoTime() < deadline)
+                Thread.sleep(5);
+            assertEquals("2026-10-18T10:31Z", cached.now(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+        }
+    }
+
+    @Test
+    public void concurrentReadersSeeConsistentText() throws Exception {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        MutableClock clock = new MutableClock(Instant.parse("2026-11-01T05:00:00Z").toEpochMilli());
+        CachedClock cached = new CachedClock(clock, zone, ES_AR);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                final int seed = t;
+                futures[t] = pool.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        long before = clock.millis();
+                        String pattern = PATTERNS[random.nextInt(PATTERNS.length)];
+                        String text = cached.now(pattern);
+                        long after = clock.millis();
+                        if (!pattern.contains("S") && !matchesWindow(text, pattern, zone, before, after))
+                            throw new AssertionError(pattern + " " + text);
+                        if (seed == 0)
+                            clock.advance(random.nextInt(5_000));
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void dateUtilitiesUsesSharedClock() {
+        String before = DateUtilities.convertDateToIsoDateToSpecificPattern(new Date(), DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES);
+        String now = DateUtilities.convertNowToSpecificPattern(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES);
+        String after = DateUtilities.convertDateToIsoDateToSpecificPattern(new Date(), DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES);
+        assertTrue(now, now.equals(before) || now.equals(after));
+    }
+
+    // el hilo 0 puede avanzar el reloj varias veces entre before y after: vale cualquier segundo de la ventana
+    private static boolean matchesWindow(String text, String pattern, TimeZone zone, long before, long after) {
+        for (long millis = before; millis < after; millis += 1_000) {
+            if (text.equals(expected(pattern, zone, millis)))
+                return true;
+        }
+        return text.equals(expected(pattern, zone, after));
+    }
+
+    private static String expected(String pattern, TimeZone zone, long millis) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, ES_AR);
+        format.setTimeZone(zone);
+        return format.format(new Date(millis));
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis;
+
+        MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        void advance(long delta) {
+            millis.addAndGet(delta);
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
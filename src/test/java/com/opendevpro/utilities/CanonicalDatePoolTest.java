@@ -0,0 +1,98 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class CanonicalDatePoolTest {
+
+    @After
+    public void tearDown() {
+        CanonicalDatePool.disable();
+    }
+
+    @Test
+    public void datesInsideRangeAreShared() {
+        CanonicalDatePool pool = new CanonicalDatePool(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 12, 31), 0);
+        assertEquals(366, pool.dayCount());
+        LocalDate date = pool.date(LocalDate.of(2000, 2, 29).toEpochDay());
+        assertEquals(LocalDate.of(2000, 2, 29), date);
+        assertSame(date, pool.canonical(LocalDate.of(2000, 2, 29)));
+        assertSame(pool.date(LocalDate.of(2000, 1, 1).toEpochDay()), pool.date(LocalDate.of(2000, 1, 1).toEpochDay()));
+        LocalDate outside = LocalDate.of(2001, 1, 1);
+        assertSame(outside, pool.canonical(outside));
+        assertEquals(outside, pool.date(outside.toEpochDay()));
+        assertEquals(4, pool.dateHitCount());
+        assertEquals(2, pool.dateMissCount());
+        assertEquals(4L * CanonicalDatePool.LOCAL_DATE_BYTES, pool.savedBytesEstimate());
+    }
+
+    @Test
+    public void dateTimesAreSharedPerMinute() {
+        CanonicalDatePool pool = new CanonicalDatePool(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), 1000);
+        assertEquals(1024, pool.dateTimeSlotCount());
+        LocalDateTime value = LocalDateTime.of(2020, 3, 1, 10, 30);
+        LocalDateTime first = pool.canonical(value);
+        assertEquals(value, first);
+        assertSame(first, pool.canonical(LocalDateTime.of(2020, 3, 1, 10, 30)));
+        assertSame(pool.date(LocalDate.of(2020, 3, 1).toEpochDay()), first.toLocalDate());
+        LocalDateTime withSeconds = LocalDateTime.of(2020, 3, 1, 10, 30, 5);
+        assertSame(withSeconds, pool.canonical(withSeconds));
+        Random random = new Random(17);
+        for (int i = 0; i < 50_000; i++) {
+            long minute = (random.nextInt(80_000) - 40_000) * 1_440L + random.nextInt(1_440);
+            LocalDateTime expected = LocalDateTime.of(1970, 1, 1, 0, 0).plusMinutes(minute);
+            assertEquals(expected, pool.dateTime(minute));
+        }
+        assertTrue(pool.dateTimeHitCount() >= 1);
+        assertTrue(pool.dateTimeMissCount() > 0);
+    }
+
+    @Test
+    public void convertersReturnEqualSharedInstances() {
+        ZoneId[] zones = { ZoneId.of("America/Argentina/Buenos_Aires"), ZoneId.of("Europe/London"), ZoneId.of("Asia/Kolkata") };
+        Random random = new Random(18);
+        CanonicalDatePool.enable();
+        CanonicalDatePool pool = CanonicalDatePool.shared();
+        for (int i = 0; i < 20_000; i++) {
+            ZoneId zone = zones[random.nextInt(zones.length)];
+            long millis = (random.nextLong() % 4_000_000_000_000L);
+            if (random.nextBoolean())
+                millis -= Math.floorMod(millis, 60_000L);
+            Date date = new Date(millis);
+            Instant instant = Instant.ofEpochMilli(millis);
+            LocalDate expectedDate = instant.atZone(zone).toLocalDate();
+            LocalDateTime expectedDateTime = instant.atZone(zone).toLocalDateTime();
+            assertEquals(expectedDate, DateUtilities.fromDateToLocalDateByInstant(date, zone));
+            assertEquals(expectedDate, DateUtilities.fromDateToLocalDateByMilliSeconds(date, zone));
+            assertEquals(expectedDateTime, DateUtilities.fromDateToLocalDateTimeByInstant(date, zone));
+            assertEquals(expectedDateTime, DateUtilities.fromDateToLocalDateTimeByMilisecond(date, zone));
+            assertEquals(expectedDateTime, DateUtilities.fromDateToLocalDateTimeByInstant(new java.sql.Timestamp(millis), zone));
+        }
+        Date date = new Date(Instant.parse("2020-06-05T13:45:00Z").toEpochMilli());
+        ZoneId zone = ZoneId.of("UTC");
+        assertSame(DateUtilities.fromDateToLocalDateByInstant(date, zone), DateUtilities.fromDateToLocalDateByMilliSeconds(date, zone));
+        assertSame(DateUtilities.fromDateToLocalDateByInstant(date, zone), DateUtilities.fromStringToLocalDate("2020-06-05"));
+        assertSame(DateUtilities.fromStringToLocalDate("2020-06-05"), DateUtilities.fromStringToLocalDate("05/06/2020", DateUtilities.DD_MM_YYYY_SLASH));
+        assertSame(DateUtilities.fromDateToLocalDateTimeByMilisecond(date, zone), DateUtilities.fromDateToLocalDateTimeByInstant(date, zone));
+        assertTrue(pool.savedBytesEstimate() > 0);
+        CanonicalDatePool.disable();
+        assertNotSame(DateUtilities.fromStringToLocalDate("2020-06-05"), DateUtilities.fromStringToLocalDate("2020-06-05"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvertedRange() {
+        new CanonicalDatePool(LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1), 16);
+    }
+}
@@ -0,0 +1,241 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DateCodecTest {
+
+    private static final int[] NANOS = { 0, 123_000_000, 123_456_000, 123_456_789, 999_999_999 };
+
+    @Test
+    public void singleValuesRoundTrip() {
+        Random random = new Random(19);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        LocalDate[] edges = { LocalDate.MIN, LocalDate.MAX, LocalDate.ofEpochDay(0), LocalDate.of(1582, 10, 15) };
+        for (LocalDate date : edges)
+            assertEquals(date, roundTrip(buffer, date));
+        assertEquals(LocalDateTime.MIN, roundTrip(buffer, LocalDateTime.MIN));
+        assertEquals(LocalDateTime.MAX, roundTrip(buffer, LocalDateTime.MAX));
+        assertEquals(Instant.MIN, roundTrip(buffer, Instant.MIN));
+        assertEquals(Instant.MAX, roundTrip(buffer, Instant.MAX));
+        for (int i = 0; i < 20_000; i++) {
+            long seconds = random.nextLong() % 50_000_000_000L;
+            int nano = NANOS[random.nextInt(NANOS.length)];
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(seconds, nano, ZoneOffset.UTC);
+            assertEquals(dateTime, roundTrip(buffer, dateTime));
+            assertEquals(dateTime.toLocalDate(), roundTrip(buffer, dateTime.toLocalDate()));
+            Instant instant = Instant.ofEpochSecond(seconds, nano);
+            assertEquals(instant, roundTrip(buffer, instant));
+        }
+    }
+
+    @Test
+    public void encodedSizesAreCompact() {
+        assertEquals(3, DateCodec.encodedSize(LocalDate.of(2026, 10, 18)));
+        assertEquals(5, DateCodec.encodedSize(LocalDateTime.of(2026, 10, 18, 10, 30)));
+        assertEquals(7, DateCodec.encodedSize(LocalDateTime.of(2026, 10, 18, 10, 30, 15, 250_000_000)));
+        assertEquals(8, DateCodec.encodedSize(Instant.parse("2026-10-18T10:30:15.250123Z")));
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 18, 10, 30, 15, 250_000_000);
+        DateCodec.writeLocalDateTime(buffer, dateTime);
+        assertEquals(DateCodec.encodedSize(dateTime), buffer.position());
+    }
+
+    @Test
+    public void zonedAndOffsetValuesKeepTheirZone() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        ZoneId[] zones = { ZoneId.of("America/Argentina/Buenos_Aires"), ZoneId.of("Europe/London"), ZoneOffset.UTC,
+            ZoneOffset.ofHoursMinutes(5, 45), ZoneOffset.ofTotalSeconds(-12_345) };
+        for (ZoneId zone : zones) {
+            ZonedDateTime zoned = ZonedDateTime.of(2026, 10, 25, 1, 30, 0, 123_456_789, zone);
+            DateCodec.writeZonedDateTime(buffer, zoned);
+            buffer.flip();
+            assertEquals(zoned, DateCodec.readZonedDateTime(buffer));
+            buffer.clear();
+        }
+        // segunda 01:30 del cambio de horario en Londres (offset +00:00)
+        ZonedDateTime overlap = ZonedDateTime.of(2026, 10, 25, 1, 30, 0, 0, ZoneId.of("Europe/London")).withLaterOffsetAtOverlap();
+        DateCodec.writeZonedDateTime(buffer, overlap);
+        buffer.flip();
+        assertEquals(overlap, DateCodec.readZonedDateTime(buffer));
+        buffer.clear();
+
+        OffsetDateTime offset = OffsetDateTime.of(2026, 10, 18, 10, 30, 0, 0, ZoneOffset.ofHours(-3));
+        DateCodec.writeOffsetDateTime(buffer, offset);
+        assertEquals(6, buffer.position());
+        buffer.flip();
+        assertEquals(offset, DateCodec.readOffsetDateTime(buffer));
+    }
+
+    @Test
+    public void arraysRoundTripWithEveryEncoding() {
+        Random random = new Random(7);
+        LocalDate[] dates = new LocalDate[3_000];
+        LocalDateTime[] dateTimes = new LocalDateTime[dates.length];
+        Instant[] instants = new Instant[dates.length];
+        int[] epochDays = new int[dates.length];
+        long[] millis = new long[dates.length];
+        long seconds = LocalDateTime.of(2020, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < dates.length; i++) {
+            seconds += random.nextInt(10) == 0 ? -random.nextInt(100_000) : random.nextInt(100_000);
+            int nano = NANOS[random.nextInt(NANOS.length)];
+            dateTimes[i] = random.nextInt(20) == 0 ? null : LocalDateTime.ofEpochSecond(seconds, nano, ZoneOffset.UTC);
+            dates[i] = dateTimes[i] == null ? null : dateTimes[i].toLocalDate();
+            instants[i] = random.nextInt(20) == 0 ? null : Instant.ofEpochSecond(seconds, nano);
+            epochDays[i] = (int) (seconds / 86_400);
+            millis[i] = seconds * 1_000 + nano / 1_000_000;
+        }
+        millis[0] = Long.MIN_VALUE;
+        millis[1] = Long.MAX_VALUE;
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            for (DateCodec.Encoding encoding : DateCodec.Encoding.values()) {
+                ByteBuffer buffer = ByteBuffer.allocate(1 << 18).order(order);
+                DateCodec.writeLocalDates(buffer, dates, encoding);
+                DateCodec.writeLocalDateTimes(buffer, dateTimes, encoding);
+                DateCodec.writeInstants(buffer, instants, encoding);
+                DateCodec.writeEpochDays(buffer, epochDays, encoding);
+                DateCodec.writeEpochMillis(buffer, millis, encoding);
+                buffer.flip();
+                assertArrayEquals(encoding.name(), dates, DateCodec.readLocalDates(buffer));
+                assertArrayEquals(encoding.name(), dateTimes, DateCodec.readLocalDateTimes(buffer));
+                assertArrayEquals(encoding.name(), instants, DateCodec.readInstants(buffer));
+                assertArrayEquals(encoding.name(), epochDays, DateCodec.readEpochDays(buffer));
+                assertArrayEquals(encoding.name(), millis, DateCodec.readEpochMillis(buffer));
+                assertFalse(buffer.hasRemaining());
+            }
+        }
+    }
+
+    @Test
+    public void extremeDatesRoundTripOrAreRejected() {
+        LocalDate[] dates = { LocalDate.MIN, LocalDate.of(2026, 10, 18), LocalDate.MAX, null };
+        LocalDateTime[] dateTimes = { LocalDateTime.MIN, LocalDateTime.MAX };
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        for (DateCodec.Encoding encoding : DateCodec.Encoding.values()) {
+            buffer.clear();
+            DateCodec.writeLocalDateTimes(buffer, dateTimes, encoding);
+            buffer.flip();
+            assertArrayEquals(encoding.name(), dateTimes, DateCodec.readLocalDateTimes(buffer));
+            buffer.clear();
+            if (encoding == DateCodec.Encoding.FIXED) {
+                for (LocalDate extreme : new LocalDate[] { LocalDate.MIN, LocalDate.MAX, LocalDate.of(6_000_000, 1, 1) }) {
+                    try {
+                        DateCodec.writeLocalDates(buffer, new LocalDate[] { LocalDate.of(2026, 10, 18), extreme }, encoding);
+                        fail(extreme.toString());
+                    } catch (IllegalArgumentException e) {
+                        assertEquals(0, buffer.position());
+                    }
+                }
+                continue;
+            }
+            DateCodec.writeLocalDates(buffer, dates, encoding);
+            buffer.flip();
+            assertArrayEquals(encoding.name(), dates, DateCodec.readLocalDates(buffer));
+        }
+        buffer.clear();
+        DateCodec.writeLocalDate(buffer, LocalDate.MIN);
+        DateCodec.writeLocalDate(buffer, LocalDate.MAX);
+        buffer.flip();
+        assertEquals(LocalDate.MIN, DateCodec.readLocalDate(buffer));
+        assertEquals(LocalDate.MAX, DateCodec.readLocalDate(buffer));
+    }
+
+    @Test
+    public void deltaEncodingOfSortedDaysUsesOneBytePerValue() {
+        LocalDate[] dates = new LocalDate[1_000];
+        for (int i = 0; i < dates.length; i++)
+            dates[i] = LocalDate.of(2026, 1, 1).plusDays(i);
+        ByteBuffer buffer = ByteBuffer.allocate(8_192);
+        DateCodec.writeLocalDates(buffer, dates, DateCodec.Encoding.DELTA);
+        // cantidad (2 bytes) + cabecera (1) + primer valor (3) + 999 deltas de 1 byte
+        assertEquals(2 + 1 + 3 + 999, buffer.position());
+    }
+
+    @Test
+    public void overflowRestoresThePosition() {
+        LocalDateTime[] values = new LocalDateTime[100];
+        Arrays.fill(values, LocalDateTime.of(2026, 10, 18, 10, 30, 0, 1));
+        ByteBuffer buffer = ByteBuffer.allocate(300);
+        buffer.put((byte) 1);
+        try {
+            DateCodec.writeLocalDateTimes(buffer, values, DateCodec.Encoding.VARINT);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(1, buffer.position());
+        }
+        try {
+            DateCodec.writeEpochMillis(buffer, new long[100], DateCodec.Encoding.FIXED);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(1, buffer.position());
+        }
+    }
+
+    @Test
+    public void corruptOrMismatchedInputIsRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        DateCodec.writeLocalDates(buffer, new LocalDate[] { LocalDate.of(2026, 10, 18) }, DateCodec.Encoding.VARINT);
+        buffer.flip();
+        try {
+            DateCodec.readInstants(buffer);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        byte[] tooLong = new byte[11];
+        Arrays.fill(tooLong, (byte) 0xFF);
+        try {
+            DateCodec.readLocalDate(ByteBuffer.wrap(tooLong));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        buffer.clear();
+        DateCodec.writeZonedDateTime(buffer, ZonedDateTime.of(2026, 10, 18, 10, 30, 0, 0, ZoneId.of("Europe/London")));
+        buffer.flip();
+        try {
+            DateCodec.readOffsetDateTime(buffer);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static LocalDate roundTrip(ByteBuffer buffer, LocalDate value) {
+        buffer.clear();
+        DateCodec.writeLocalDate(buffer, value);
+        assertEquals(DateCodec.encodedSize(value), buffer.position());
+        buffer.flip();
+        return DateCodec.readLocalDate(buffer);
+    }
+
+    private static LocalDateTime roundTrip(ByteBuffer buffer, LocalDateTime value) {
+        buffer.clear();
+        DateCodec.writeLocalDateTime(buffer, value);
+        assertEquals(DateCodec.encodedSize(value), buffer.position());
+        buffer.flip();
+        return DateCodec.readLocalDateTime(buffer);
+    }
+
+    private static Instant roundTrip(ByteBuffer buffer, Instant value) {
+        buffer.clear();
+        DateCodec.writeInstant(buffer, value);
+        assertEquals(DateCodec.encodedSize(value), buffer.position());
+        buffer.flip();
+        return DateCodec.readInstant(buffer);
+    }
+}
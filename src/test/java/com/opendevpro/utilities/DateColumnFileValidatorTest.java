@@ -0,0 +1,66 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DateColumnFileValidatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void reportsInvalidRowsAcrossChunks() throws Exception {
+        StringBuilder content = new StringBuilder("id;nombre;alta\r\n");
+        List<Long> expectedOffsets = new ArrayList<>();
+        int rows = 5000;
+        for (int i = 0; i < rows; i++) {
+            boolean bad = i % 97 == 0;
+            if (bad)
+                expectedOffsets.add((long) content.toString().getBytes(StandardCharsets.UTF_8).length);
+            String date = bad ? "31/13/2020" : String.format("%02d/%02d/%04d", 1 + i % 28, 1 + i % 12, 1990 + i % 30);
+            content.append(i).append(";\"Perez; Juan\";").append(i % 2 == 0 ? "\"" + date + "\"" : date).append("\r\n");
+        }
+        File file = folder.newFile("altas.csv");
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        DateColumnReport report = new DateColumnFileValidator(';', 2, DateUtilities.DD_MM_YYYY_SLASH)
+            .withHeader(true)
+            .withChunkSize(4096)
+            .validate(file.toPath());
+
+        assertEquals(rows, report.getRows());
+        assertEquals(expectedOffsets.size(), report.getInvalidRows());
+        long[] expected = new long[expectedOffsets.size()];
+        for (int i = 0; i < expected.length; i++)
+            expected[i] = expectedOffsets.get(i);
+        assertArrayEquals(expected, report.getInvalidRowOffsets());
+    }
+
+    @Test
+    public void missingColumnsAndEmptyCells() throws Exception {
+        File file = folder.newFile("tsv.tsv");
+        Files.write(file.toPath(), "a\t01-ene.-2020\nb\t\nc\n\nd\t29-feb.-2021\n".getBytes(StandardCharsets.UTF_8));
+        DateColumnFileValidator validator = new DateColumnFileValidator('\t', 1, DateUtilities.DD_MMM_YYYY_DASH)
+            .withLocale(new Locale("es", "AR"));
+
+        DateColumnReport strict = validator.validate(file.toPath());
+        assertEquals(4, strict.getRows());
+        assertEquals(2, strict.getInvalidRows());
+
+        DateColumnReport lenient = validator.withAllowEmpty(true).validate(file.toPath());
+        assertEquals(1, lenient.getInvalidRows());
+        assertTrue(lenient.toString().contains("invalidRows=1"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.opendevpro.utilities.DateFormatDetector.Ambiguity;
+
+public class DateFormatDetectorTest {
+
+    private static final Locale ES_AR = new Locale("es", "AR");
+
+    @Test
+    public void detectsEveryLayoutLikeParsingWithThePattern() {
+        DateFormatDetector detector = new DateFormatDetector(Ambiguity.DAY_FIRST, ES_AR);
+        String[] patterns = { DateUtilities.DD_MM_YYYY_SLASH, DateUtilities.YYYY_MM_DD_SLASH, DateUtilities.DD_MM_YYYY_DASH,
+            DateUtilities.ISO_DATE, DateUtilities.DD_MMM_YYYY_DASH, DateUtilities.DD_MMM_YYYY_SLASH };
+        Random random = new Random(12);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(60_000));
+            for (String pattern : patterns) {
+                String text = DateTimeFormatter.ofPattern(pattern, ES_AR).format(date);
+                DetectedDate detected = detector.detect(text).get();
+                assertEquals(text, date, detected.getDate());
+                assertEquals(text, pattern, detected.getPattern());
+            }
+        }
+    }
+
+    @Test
+    public void detectsIsoDateTimes() {
+        ZonedDateTime dateTime = ZonedDateTime.of(2021, 6, 5, 10, 15, 30, 123_000_000, ZoneId.of("America/Argentina/Buenos_Aires"));
+        DetectedDate micro = DateUtilities.detectDateFormat("2021-06-05T10:15:30.123-03:00").get();
+        assertEquals(DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS, micro.getPattern());
+        assertEquals(dateTime.toLocalDateTime(), micro.getDateTime());
+        assertEquals(DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS, DateUtilities.detectDateFormat("2021-06-05T10:15:30.123Z").get().getPattern());
+        String milli = DateTimeFormatter.ofPattern(DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS, Locale.US).format(dateTime);
+        assertEquals(DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS, new DateFormatDetector(Ambiguity.DAY_FIRST, Locale.US).detect(milli).get().getPattern());
+        DetectedDate zoneMinutes = DateUtilities.detectDateFormat("2021-06-05T10:15Z").get();
+        assertEquals(DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES, zoneMinutes.getPattern());
+        assertEquals(LocalDateTime.of(2021, 6, 5, 10, 15), zoneMinutes.getDateTime());
+        assertEquals(DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES,
+            new DateFormatDetector(Ambiguity.DAY_FIRST, Locale.US).detect("2021-06-05T10:15ART").get().getPattern());
+    }
+
+    @Test
+    public void ambiguityRule() {
+        String text = "05/06/2021";
+        assertEquals(LocalDate.of(2021, 6, 5), new DateFormatDetector(Ambiguity.DAY_FIRST, null).detect(text).get().getDate());
+        DetectedDate monthFirst = new DateFormatDetector(Ambiguity.MONTH_FIRST, null).detect(text).get();
+        assertEquals(LocalDate.of(2021, 5, 6), monthFirst.getDate());
+        assertEquals(DateUtilities.MM_DD_YYYY_SLASH, monthFirst.getPattern());
+        assertFalse(new DateFormatDetector(Ambiguity.REJECT, null).detect(text).isPresent());
+        // una sola lectura valida o las dos iguales: no es ambigua
+        assertEquals(LocalDate.of(2021, 6, 13), new DateFormatDetector(Ambiguity.REJECT, null).detect("13/06/2021").get().getDate());
+        assertEquals(LocalDate.of(2021, 6, 13), new DateFormatDetector(Ambiguity.DAY_FIRST, null).detect("06/13/2021").get().getDate());
+        assertEquals(LocalDate.of(2021, 5, 5), new DateFormatDetector(Ambiguity.REJECT, null).detect("05/05/2021").get().getDate());
+    }
+
+    @Test
+    public void rejectsUnknownLayoutsAndUnrealDates() {
+        String[] texts = { null, "", "2021-6-5", "5/6/2021", "32/01/2021", "2021/13/01", "2021-06-05T25:00", "05.06.2021",
+            "05-jun-2021x", "2021-06-05 10:15", "abcdefghij", "05/06-2021", "40/40/2021" };
+        for (String text : texts)
+            assertFalse(String.valueOf(text), DateUtilities.detectDateFormat(text).isPresent());
+    }
+}
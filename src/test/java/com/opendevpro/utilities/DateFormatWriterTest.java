@@ -0,0 +1,181 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DateFormatWriterTest {
+
+    private static final String[] DATE_PATTERNS = { DateUtilities.DD_MM_YYYY_SLASH, DateUtilities.YYYY_MM_DD_SLASH,
+        DateUtilities.DD_MM_YYYY_DASH, DateUtilities.DD_MMM_YYYY_DASH, DateUtilities.DD_MMM_YYYY_SLASH, DateUtilities.ISO_DATE,
+        "dd 'de' MMM 'de' yyyy", "yyyyMMdd" };
+    private static final String[] DATE_TIME_PATTERNS = { DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS, DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES,
+        DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES, DateUtilities.DD_MM_YYYY_SLASH, DateUtilities.DD_MMM_YYYY_DASH };
+    private static final String[] ZONES = { "America/Argentina/Buenos_Aires", "Europe/Amsterdam", "Australia/Lord_Howe",
+        "Asia/Kolkata", "America/New_York", "UTC", "GMT-03:00" };
+    private static final Locale[] LOCALES = { new Locale("es", "AR"), Locale.US, Locale.FRANCE, new Locale("th", "TH"),
+        new Locale("ja", "JP", "JP") };
+
+    private TimeZone defaultZone;
+    private Locale defaultLocale;
+
+    @Before
+    public void setUp() {
+        defaultZone = TimeZone.getDefault();
+        defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(defaultZone);
+        Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+    }
+
+    @Test
+    public void localDateMatchesFormatLocaldateTimeToAnyPattern() {
+        Random random = new Random(13);
+        for (Locale locale : LOCALES) {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+            for (int i = 0; i < 3_000; i++) {
+                LocalDate date = LocalDate.ofEpochDay(random.nextInt(4_000_000) - 2_000_000);
+                for (String pattern : DATE_PATTERNS)
+                    assertSameOutput(DateUtilities.formatLocaldateTimeToAnyPattern(date, pattern), date, pattern);
+            }
+        }
+    }
+
+    @Test
+    public void followsDefaultZoneChanges() throws Exception {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        StringBuilder out = new StringBuilder();
+        DateUtilities.convertDateToIsoDateToSpecificPattern(new Date(0L), "dd/MM/yyyy HH:mm", out);
+        assertEquals("01/01/1970 00:00", out.toString());
+        assertEquals(0L, DateUtilities.parsearFecha("01/01/1970", DateUtilities.DD_MM_YYYY_SLASH).getTime());
+        TimeZone.setDefault(TimeZone.getTimeZone("America/Argentina/Buenos_Aires"));
+        out.setLength(0);
+        DateUtilities.convertDateToIsoDateToSpecificPattern(new Date(0L), "dd/MM/yyyy HH:mm", out);
+        assertEquals("31/12/1969 21:00", out.toString());
+        assertEquals("31/12/1969 21:00", DateUtilities.convertDateToIsoDateToSpecificPattern(new Date(0L), "dd/MM/yyyy HH:mm"));
+        assertEquals(10_800_000L, DateUtilities.parsearFecha("01/01/1970", DateUtilities.DD_MM_YYYY_SLASH).getTime());
+    }
+
+    @Test
+    public void dateMatchesConvertDateToIsoDateToSpecificPattern() throws Exception {
+        Random random = new Random(14);
+        for (String zone : ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                for (Locale locale : LOCALES) {
+                Locale.setDefault(Locale.Category.FORMAT, locale);
+                for (int i = 0; i < 1_000; i++) {
+                    // 1800 .. 2200, cruza los limites del camino rapido
+                    Date date = new Date(-5_364_662_400_000L + (long) (random.nextDouble() * 12_623_000_000_000L));
+                    for (String pattern : DATE_TIME_PATTERNS)
+                        assertSameOutput(DateUtilities.convertDateToIsoDateToSpecificPattern(date, pattern), date, pattern);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void localDateWithTimePatternThrowsLikeTheOriginal() {
+        try {
+            DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2021, 6, 5), DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES, new StringBuilder());
+            fail();
+        } catch (UnsupportedTemporalTypeException e) {
+            // esperado
+        }
+    }
+
+    @Test
+    public void failsWithoutWritingWhenTargetIsTooSmall() {
+        char[] buffer = new char[12];
+        try {
+            DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2021, 6, 5), DateUtilities.DD_MM_YYYY_SLASH, buffer, 5);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(0, buffer[5]);
+        }
+        ByteBuffer bytes = ByteBuffer.allocate(9);
+        try {
+            DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2021, 6, 5), DateUtilities.DD_MM_YYYY_SLASH, bytes);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(0, bytes.position());
+        }
+    }
+
+    @Test
+    public void localDateFastPathDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        LocalDate date = LocalDate.of(2021, 6, 5);
+        StringBuilder out = new StringBuilder(64);
+        char[] buffer = new char[64];
+        ByteBuffer bytes = ByteBuffer.allocate(64);
+        for (int i = 0; i < 10_000; i++) {
+            out.setLength(0);
+            bytes.clear();
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.DD_MM_YYYY_SLASH, out);
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.DD_MMM_YYYY_DASH, buffer, 0);
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.YYYY_MM_DD_SLASH, bytes);
+        }
+        long id = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 10_000; i++) {
+            out.setLength(0);
+            bytes.clear();
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.DD_MM_YYYY_SLASH, out);
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.DD_MMM_YYYY_DASH, buffer, 0);
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, DateUtilities.YYYY_MM_DD_SLASH, bytes);
+        }
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        // margen para lo que asigne la propia medicion, no para 30000 Strings
+        assertTrue("bytes asignados: " + allocated, allocated < 10_000);
+    }
+
+    private static void assertSameOutput(String expected, LocalDate date, String pattern) {
+        StringBuilder builder = new StringBuilder("x");
+        DateUtilities.formatLocaldateTimeToAnyPattern(date, pattern, builder);
+        assertEquals(date + " " + pattern, "x" + expected, builder.toString());
+        char[] buffer = new char[expected.length() + 3];
+        assertEquals(expected.length(), DateUtilities.formatLocaldateTimeToAnyPattern(date, pattern, buffer, 3));
+        assertEquals(expected, new String(buffer, 3, expected.length()));
+        boolean ascii = StandardCharsets.US_ASCII.newEncoder().canEncode(expected);
+        ByteBuffer bytes = ByteBuffer.allocate(expected.length());
+        try {
+            DateUtilities.formatLocaldateTimeToAnyPattern(date, pattern, bytes);
+            assertTrue(ascii);
+            assertEquals(expected, new String(bytes.array(), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            assertTrue(!ascii && bytes.position() == 0);
+        }
+    }
+
+    private static void assertSameOutput(String expected, Date date, String pattern) throws Exception {
+        StringBuilder builder = new StringBuilder();
+        DateUtilities.convertDateToIsoDateToSpecificPattern(date, pattern, builder);
+        assertEquals(date.getTime() + " " + pattern + " " + TimeZone.getDefault().getID(), expected, builder.toString());
+        StringWriter writer = new StringWriter();
+        DateUtilities.convertDateToIsoDateToSpecificPattern(date, pattern, writer);
+        assertEquals(expected, writer.toString());
+        char[] buffer = new char[expected.length()];
+        assertEquals(expected.length(), DateUtilities.convertDateToIsoDateToSpecificPattern(date, pattern, buffer, 0));
+        assertEquals(expected, new String(buffer));
+    }
+}
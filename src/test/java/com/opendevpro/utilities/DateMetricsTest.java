@@ -0,0 +1,130 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DateMetricsTest {
+
+    @Before
+    public void setUp() {
+        DateMetrics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        DateMetrics.disable();
+        DateMetrics.reset();
+        DateMetrics.unregisterMBean();
+    }
+
+    @Test
+    public void disabledRecordsNothing() {
+        DateUtilities.isValidDate("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH);
+        assertTrue(DateMetrics.snapshot().isEmpty());
+    }
+
+    @Test
+    public void countsCallsFailuresAndNullsPerPattern() throws Exception {
+        DateMetrics.enable();
+        DateUtilities.isValidDate("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH);
+        DateUtilities.isValidDate("32/04/2020", DateUtilities.DD_MM_YYYY_SLASH);
+        DateUtilities.isValidDate(null, DateUtilities.DD_MM_YYYY_SLASH);
+        DateUtilities.isValidDate("2020-01-01", "yyyy-MM-dd");
+        try {
+            DateUtilities.firewallIsRealDate("50/12/2020", DateUtilities.DD_MM_YYYY_SLASH, false);
+            fail();
+        } catch (DateTimeParseException e) {
+            // esperado
+        }
+        DateUtilities.parsearFecha("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH);
+        DateUtilities.fromDateToLocalDateByMilliSeconds(new Date(0L), ZoneId.of("UTC"));
+        DateUtilities.fromDateToLocalDateByMilliSeconds(new Date(0L));
+
+        MethodMetrics slash = find("isValidDate", DateUtilities.DD_MM_YYYY_SLASH);
+        assertEquals(3, slash.getCalls());
+        assertEquals(1, slash.getFailures());
+        assertEquals(1, slash.getNulls());
+        assertEquals(1, find("isValidDate", "yyyy-MM-dd").getCalls());
+        assertEquals(1, find("firewallIsRealDate", DateUtilities.DD_MM_YYYY_SLASH).getFailures());
+        assertEquals(0, find("parsearFecha", DateUtilities.DD_MM_YYYY_SLASH).getFailures());
+        MethodMetrics conversion = find("fromDateToLocalDateByMilliSeconds", "");
+        assertEquals(2, conversion.getCalls());
+
+        long histogramTotal = 0;
+        for (long count : slash.getHistogram())
+            histogramTotal += count;
+        assertEquals(3, histogramTotal);
+        assertTrue(slash.getP99Nanos() >= slash.getP50Nanos());
+        assertTrue(slash.getMaxNanos() <= slash.getTotalNanos());
+    }
+
+    @Test
+    public void bufferOverloadsAreCountedOnce() {
+        DateMetrics.enable();
+        StringBuilder out = new StringBuilder();
+        DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2020, 1, 1), DateUtilities.DD_MM_YYYY_SLASH, out);
+        // sin camino rapido (hora en un LocalDate): pasa por el formatter y falla
+        try {
+            DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2020, 1, 1), "HH:mm", new char[16], 0);
+            fail();
+        } catch (RuntimeException e) {
+            // esperado
+        }
+        DateUtilities.convertDateToIsoDateToSpecificPattern(new Date(0L), DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES, out);
+        try {
+            DateUtilities.convertDateToIsoDateToSpecificPattern(null, DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES, ByteBuffer.allocate(0));
+            fail();
+        } catch (NullPointerException e) {
+            // esperado
+        }
+        assertEquals(1, find("formatLocaldateTimeToAnyPattern", DateUtilities.DD_MM_YYYY_SLASH).getCalls());
+        assertEquals(1, find("formatLocaldateTimeToAnyPattern", "HH:mm").getFailures());
+        MethodMetrics dates = find("convertDateToIsoDateToSpecificPattern", DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES);
+        assertEquals(2, dates.getCalls());
+        assertEquals(1, dates.getNulls());
+        assertEquals(1, dates.getFailures());
+    }
+
+    @Test
+    public void exposedThroughJmx() throws Exception {
+        DateMetrics.enable();
+        DateUtilities.isValidDateTime("2020-01-01T10:00:00.000-03:00", DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+        ObjectName name = DateMetrics.registerMBean();
+        assertEquals(name, DateMetrics.registerMBean());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(name, "TotalCalls"));
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        CompositeData[] metrics = (CompositeData[]) server.getAttribute(name, "Metrics");
+        assertEquals(1, metrics.length);
+        assertEquals("isValidDateTime", metrics[0].get("method"));
+        assertEquals(1L, metrics[0].get("calls"));
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        assertTrue(DateMetrics.snapshot().isEmpty());
+    }
+
+    private static MethodMetrics find(String method, String pattern) {
+        List<MethodMetrics> snapshot = DateMetrics.snapshot();
+        for (MethodMetrics metrics : snapshot) {
+            if (metrics.getMethod().equals(method) && metrics.getPattern().equals(pattern))
+                return metrics;
+        }
+        throw new AssertionError(method + " " + pattern + " no esta en " + snapshot);
+    }
+}
@@ -0,0 +1,64 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DateUtilitiesEpochTest {
+
+    private static final ZoneId[] ZONES = {
+        ZoneId.of("UTC"), ZoneId.of("America/Argentina/Buenos_Aires"), ZoneId.of("Europe/Madrid"),
+        ZoneId.of("America/Sao_Paulo"), ZoneId.of("Australia/Lord_Howe"), ZoneId.of("+05:30")
+    };
+
+    @Test
+    public void epochDayMatchesLocalDate() {
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            String text = DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.ofEpochDay(random.nextInt(3_000_000) - 700_000),
+                DateUtilities.DD_MM_YYYY_DASH);
+            assertEquals(text, DateUtilities.fromStringToLocalDate(text, DateUtilities.DD_MM_YYYY_DASH).toEpochDay(),
+                DateUtilities.fromStringToEpochDay(text, DateUtilities.DD_MM_YYYY_DASH));
+        }
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void invalidDateThrowsSameException() {
+        DateUtilities.fromStringToEpochDay("32/01/2020", DateUtilities.DD_MM_YYYY_SLASH);
+    }
+
+    @Test
+    public void epochMillisMatchesObjectConversionsAcrossTransitions() {
+        Random random = new Random(13);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+        for (ZoneId zone : ZONES) {
+            for (int i = 0; i < 20_000; i++) {
+                LocalDateTime local = LocalDateTime.of(2019, 1, 1, 0, 0).plusMinutes(random.nextInt(3 * 366 * 24 * 4) * 15L)
+                    .plusNanos(random.nextInt(1000) * 1_000_000L);
+                String text = formatter.format(local.atZone(zone));
+                LocalDateTime parsed = LocalDateTime.parse(text, formatter);
+                assertEquals(text, parsed.atZone(zone).toInstant().toEpochMilli(),
+                    DateUtilities.fromStringToEpochMillis(text, DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS, zone));
+                assertEquals(text, ChronoUnit.MICROS.between(java.time.Instant.EPOCH, parsed.atZone(zone).toInstant()),
+                    DateUtilities.fromStringToEpochMicros(text, DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS, zone));
+
+                long millis = random.nextLong() % 5_000_000_000_000L;
+                assertEquals(DateUtilities.fromDateToLocalDateByMilliSeconds(new Date(millis), zone).toEpochDay(),
+                    DateUtilities.fromEpochMillisToEpochDay(millis, zone));
+
+                LocalDate day = local.toLocalDate();
+                assertEquals(DateUtilities.fromLocalDateToUtilDate(day, zone).getTime(),
+                    DateUtilities.fromEpochDayToEpochMillis((int) day.toEpochDay(), zone));
+            }
+        }
+    }
+}
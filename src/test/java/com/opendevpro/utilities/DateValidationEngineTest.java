@@ -0,0 +1,125 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DateValidationEngineTest {
+
+    private static final Locale[] LOCALES = { Locale.US, new Locale("es", "AR"), Locale.GERMANY, Locale.ROOT };
+    private static final String NOISE = "0123456789/-:.+TZz JanFebenedic";
+
+    @Test
+    public void classPatternsAreCompiled() {
+        for (String pattern : FormatterCache.CLASS_PATTERNS)
+            assertTrue(pattern, DateValidationEngine.isSupported(pattern));
+        assertFalse(DateValidationEngine.isSupported("yyyyMMdd"));
+        assertFalse(DateValidationEngine.isSupported("d/M/yy"));
+    }
+
+    @Test
+    public void smartResolutionIsPreserved() {
+        assertTrue(DateValidationEngine.isValidDate("29/02/2020", DateUtilities.DD_MM_YYYY_SLASH));
+        assertTrue(DateValidationEngine.isValidDate("31/02/2021", DateUtilities.DD_MM_YYYY_SLASH));
+        assertFalse(DateValidationEngine.isValidDate("32/01/2021", DateUtilities.DD_MM_YYYY_SLASH));
+        assertFalse(DateValidationEngine.isValidDate("01/13/2021", DateUtilities.DD_MM_YYYY_SLASH));
+        assertFalse(DateValidationEngine.isValidDate("01/01/0000", DateUtilities.DD_MM_YYYY_SLASH));
+        assertTrue(DateValidationEngine.isValidDate("01/01/+20201", DateUtilities.DD_MM_YYYY_SLASH));
+        assertTrue(DateValidationEngine.isValidDateTime("2020-01-01T24:00Z", DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+        assertFalse(DateValidationEngine.isValidDateTime("2020-01-01T24:01Z", DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES));
+        assertFalse(DateValidationEngine.isValidDateTime("2020-01-01T10:00:00.000+18:01", DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS));
+        assertFalse(DateValidationEngine.isValidDateTime("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH));
+    }
+
+    @Test
+    public void maxEpochDayMatchesLocalDate() {
+        assertEquals(LocalDate.MAX.toEpochDay(), DateFields.MAX_EPOCH_DAY);
+    }
+
+    @Test
+    public void answersMatchDateTimeFormatterOnFuzzedInput() {
+        Random random = new Random(20201201L);
+        for (String pattern : FormatterCache.CLASS_PATTERNS) {
+            for (Locale locale : LOCALES) {
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+                for (int i = 0; i < 4000; i++) {
+                    String text = mutate(sample(random, formatter), random);
+                    assertEquals(pattern + " " + locale + " '" + text + "'",
+                        referenceDate(text, formatter), DateValidationEngine.isValidDate(text, pattern, locale));
+                    assertEquals(pattern + " " + locale + " '" + text + "'",
+                        referenceDateTime(text, formatter), DateValidationEngine.isValidDateTime(text, pattern, locale));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void unsupportedPatternsFallBackToFormatter() {
+        assertTrue(DateValidationEngine.isValidDate("20200229", "yyyyMMdd"));
+        assertFalse(DateValidationEngine.isValidDate("20200230x", "yyyyMMdd"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPatternStillThrows() {
+        DateUtilities.isValidDate(null, "dd/MM/yyyy{");
+    }
+
+    private static String sample(Random random, DateTimeFormatter formatter) {
+        LocalDateTime dateTime = LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12), 1 + random.nextInt(28),
+            random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1_000_000);
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(73) - 36) * 1800);
+        return formatter.format(dateTime.atOffset(offset).atZoneSameInstant(random.nextBoolean() ? offset : java.time.ZoneId.of("Europe/Paris")));
+    }
+
+    private static String mutate(String text, Random random) {
+        StringBuilder builder = new StringBuilder(text);
+        int mutations = random.nextInt(3);
+        for (int i = 0; i < mutations && builder.length() > 0; i++) {
+            int at = random.nextInt(builder.length());
+            char noise = NOISE.charAt(random.nextInt(NOISE.length()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    builder.setCharAt(at, noise);
+                    break;
+                case 1:
+                    builder.insert(at, noise);
+                    break;
+                case 2:
+                    builder.deleteCharAt(at);
+                    break;
+                default:
+                    builder.setCharAt(at, (char) ('0' + random.nextInt(10)));
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean referenceDate(String text, DateTimeFormatter formatter) {
+        try {
+            LocalDate.parse(text, formatter);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static boolean referenceDateTime(String text, DateTimeFormatter formatter) {
+        try {
+            LocalDateTime.parse(text, formatter);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
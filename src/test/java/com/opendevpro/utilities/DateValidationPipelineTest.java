@@ -0,0 +1,263 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class DateValidationPipelineTest {
+
+    private static final String[] PATTERNS = {
+        DateUtilities.DD_MM_YYYY_SLASH,
+        DateUtilities.YYYY_MM_DD_DASH,
+        DateUtilities.DD_MMM_YYYY_DASH,
+        "dd.MM.uuuu G"
+    };
+
+    @Test
+    public void matchesSynchronousValidatorsFromManyProducers() throws Exception {
+        try (DateValidationPipeline pipeline = new DateValidationPipeline(64, 16, 1, 3, null)) {
+            ExecutorService producers = Executors.newFixedThreadPool(6);
+            try {
+                List<Future<?>> done = new ArrayList<>();
+                for (int t = 0; t < 6; t++) {
+                    final int seed = t;
+                    done.add(producers.submit(() -> {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 3_000; i++) {
+                            String pattern = PATTERNS[random.nextInt(PATTERNS.length)];
+                            String value = random.nextInt(20) == 0 ? null : sample(random, pattern);
+                            boolean allowNulls = random.nextBoolean();
+                            assertEquals(pattern + " " + value, expectedDate(value, pattern, allowNulls),
+                                pipeline.submit(value, pattern, allowNulls).get());
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : done)
+                    future.get();
+            } finally {
+                producers.shutdownNow();
+            }
+            DateValidationPipeline.Stats stats = pipeline.stats();
+            assertEquals(18_000, stats.getSubmitted());
+            assertEquals(18_000, stats.getCompleted());
+            assertEquals(0, stats.getRejected());
+            assertTrue(stats.getBatches() > 0 && stats.getBatches() <= 18_000);
+            assertTrue(stats.getMaxLatencyNanos() >= stats.getMeanLatencyNanos());
+        }
+    }
+
+    @Test
+    public void dateTimeUsesLocalDateTimeRules() throws Exception {
+        try (DateValidationPipeline pipeline = new DateValidationPipeline()) {
+            assertTrue(pipeline.submitDateTime("2020-12-01T10:30Z", DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES, false).get());
+            assertFalse(pipeline.submitDateTime("2020-12-01T25:30Z", DateUtilities.ISO_DATE_TIME_ZONE_FORMAT_MINUTES, false).get());
+            // un pattern sin hora nunca es una fecha/hora
+            assertFalse(pipeline.submitDateTime("20/12/2020", DateUtilities.DD_MM_YYYY_SLASH, false).get());
+            assertTrue(pipeline.submit("20/12/2020", DateUtilities.DD_MM_YYYY_SLASH, false).get());
+            assertFalse(pipeline.submit("32/02/2021", DateUtilities.DD_MM_YYYY_SLASH, false).get());
+        }
+    }
+
+    @Test
+    public void fullBatchesDoNotWaitForLinger() throws Exception {
+        DateValidationPipeline pipeline = new DateValidationPipeline(1_000, 10, TimeUnit.HOURS.toMillis(1), 2, null);
+        CompletableFuture<Boolean> lone;
+        try (DateValidationPipeline open = pipeline) {
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++)
+                futures.add(open.submit("0" + (i % 9 + 1) + "/01/2020", DateUtilities.DD_MM_YYYY_SLASH, false));
+            for (CompletableFuture<Boolean> future : futures)
+                assertTrue(future.get(10, TimeUnit.SECONDS));
+            lone = open.submit("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH, false);
+            Thread.sleep(50);
+            assertFalse(lone.isDone());
+        }
+        // close() despacha el lote pendiente
+        assertTrue(lone.get());
+        assertEquals(2, pipeline.stats().getBatches());
+    }
+
+    @Test
+    public void invalidPatternFailsOnlyItsBatch() throws Exception {
+        AtomicInteger errors = new AtomicInteger();
+        DateValidationPipeline.Listener listener = new DateValidationPipeline.Listener() {
+            @Override
+            public void onResult(String value, String pattern, boolean valid) {
+            }
+
+            @Override
+            public void onError(String value, String pattern, RuntimeException error) {
+                errors.incrementAndGet();
+            }
+        };
+        try (DateValidationPipeline pipeline = new DateValidationPipeline(100, 8, 1, 2, listener)) {
+            CompletableFuture<Boolean> bad = pipeline.submit("2020-01-01", "yyyy-MM-dd-bbb", false);
+            CompletableFuture<Boolean> good = pipeline.submit("2020-01-01", DateUtilities.ISO_DATE, false);
+            try {
+                bad.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalArgumentException);
+            }
+            assertTrue(good.get());
+            assertEquals(1, errors.get());
+            assertEquals(1, pipeline.stats().getFailed());
+        }
+    }
+
+    @Test
+    public void listenerReceivesSentValues() throws Exception {
+        CountDownLatch latch = new CountDownLatch(100);
+        AtomicInteger valid = new AtomicInteger();
+        try (DateValidationPipeline pipeline = new DateValidationPipeline(10, 7, 1, 2, (value, pattern, ok) -> {
+            if (ok)
+                valid.incrementAndGet();
+            latch.countDown();
+        })) {
+            for (int i = 0; i < 100; i++)
+                pipeline.send(i % 2 == 0 ? "10/10/2010" : "10/13/2010", DateUtilities.DD_MM_YYYY_SLASH, false);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(50, valid.get());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void sendRequiresListener() {
+        try (DateValidationPipeline pipeline = new DateValidationPipeline()) {
+            pipeline.send("10/10/2010", DateUtilities.DD_MM_YYYY_SLASH, false);
+        }
+    }
+
+    @Test
+    public void offerRejectsWhenQueueStaysFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        // el listener frena al unico worker, el despachador espera y la cola de 2 se llena
+        try (DateValidationPipeline pipeline = new DateValidationPipeline(2, 1, 0, 1, (value, pattern, ok) -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })) {
+            pipeline.submit("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH, false);
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+            CompletableFuture<Boolean> rejected = null;
+            for (int i = 0; i < 10 && rejected == null; i++) {
+                CompletableFuture<Boolean> future = pipeline.offer("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH, false, 20, TimeUnit.MILLISECONDS);
+                if (future.isCompletedExceptionally())
+                    rejected = future;
+            }
+            assertTrue(rejected != null);
+            try {
+                rejected.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+            assertTrue(pipeline.stats().getRejected() >= 1);
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void closeRejectsNewValuesAndReleasesBlockedProducers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        DateValidationPipeline pipeline = new DateValidationPipeline(1, 1, 0, 1, (value, pattern, ok) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 20; i++)
+                    synchronizedAdd(futures, pipeline.submit("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH, false));
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        producer.start();
+        Thread.sleep(50);
+        Thread closer = new Thread(pipeline::close);
+        closer.start();
+        Thread.sleep(50);
+        release.countDown();
+        closer.join(10_000);
+        producer.join(10_000);
+        assertFalse(closer.isAlive());
+        assertFalse(producer.isAlive());
+        assertEquals(null, failure.get());
+        synchronized (futures) {
+            assertEquals(20, futures.size());
+            for (CompletableFuture<Boolean> future : futures) {
+                assertTrue(future.isDone());
+                if (!future.isCompletedExceptionally())
+                    assertTrue(future.get());
+            }
+        }
+        DateValidationPipeline.Stats stats = pipeline.stats();
+        assertEquals(20, stats.getCompleted() + stats.getRejected());
+        assertTrue(pipeline.submit("01/01/2020", DateUtilities.DD_MM_YYYY_SLASH, false).isCompletedExceptionally());
+    }
+
+    @Test
+    public void workersMatchRuntime() {
+        try (DateValidationPipeline pipeline = new DateValidationPipeline()) {
+            assertEquals(DateValidationPipeline.virtualThreadsAvailable(), pipeline.usesVirtualThreads());
+        }
+    }
+
+    private static void synchronizedAdd(List<CompletableFuture<Boolean>> futures, CompletableFuture<Boolean> future) {
+        synchronized (futures) {
+            futures.add(future);
+        }
+    }
+
+    private static String sample(Random random, String pattern) {
+        LocalDate date = LocalDate.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28));
+        String text = java.time.format.DateTimeFormatter.ofPattern(pattern).format(date);
+        switch (random.nextInt(4)) {
+            case 0:
+                return text.replace("28", "31").replace("02", "02");
+            case 1:
+                return text.replace('1', '3');
+            default:
+                return text;
+        }
+    }
+
+    private static boolean expectedDate(String value, String pattern, boolean allowNulls) {
+        if (value == null)
+            return allowNulls;
+        try {
+            DateUtilities.firewallIsRealDate(value, pattern, false);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
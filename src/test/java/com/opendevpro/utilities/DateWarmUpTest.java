@@ -0,0 +1,81 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class DateWarmUpTest {
+
+    @Test
+    public void reportsEveryPhaseWithTheSelectedLocalesAndZones() {
+        ZoneId buenosAires = ZoneId.of("America/Argentina/Buenos_Aires");
+        Locale spanish = new Locale("es", "AR");
+        DateWarmUp.Report report = DateWarmUp.create().locales(spanish, Locale.US).zones(buenosAires).workload(50).run();
+        assertEquals(DateWarmUp.Initialization.LAZY, report.getInitialization());
+        assertEquals(DateWarmUp.Phase.values().length, report.getPhaseNanos().size());
+        long total = 0;
+        for (DateWarmUp.Phase phase : DateWarmUp.Phase.values()) {
+            assertTrue(report.getNanos(phase) >= 0);
+            total += report.getNanos(phase);
+        }
+        assertEquals(total, report.getTotalNanos());
+        assertTrue(report.getLocales().contains(spanish));
+        assertTrue(report.getLocales().contains(Locale.getDefault(Locale.Category.FORMAT)));
+        assertTrue(report.getZones().contains(buenosAires));
+        assertTrue(report.getZones().contains(ZoneOffset.UTC));
+        assertTrue(report.getChecksum() != 0);
+        assertTrue(report.toString().startsWith("DateWarmUp.Report[LAZY, PATTERNS="));
+    }
+
+    @Test
+    public void workloadLeavesPatternsCompiledAndCached() {
+        DateUtilities.warmUp(DateWarmUp.Initialization.EAGER, 20);
+        for (String pattern : DateWarmUp.DATE_PATTERNS)
+            assertTrue(pattern, DateValidationEngine.isSupported(pattern));
+        long misses = FormatterCache.shared().missCount();
+        DateUtilities.warmUp();
+        assertEquals(misses, FormatterCache.shared().missCount());
+    }
+
+    @Test
+    public void warmUpDoesNotTouchMetricsNorOptInCaches() {
+        DateMetrics.reset();
+        DateMetrics.enable();
+        ParsedDateCache.enable();
+        CanonicalDatePool.enable();
+        FormattedDateCache.enable();
+        try {
+            DateUtilities.warmUp(DateWarmUp.Initialization.LAZY, 20);
+            assertTrue(DateMetrics.snapshot().isEmpty());
+            assertEquals(0, ParsedDateCache.shared().missCount());
+            assertEquals(0, CanonicalDatePool.shared().dateMissCount() + CanonicalDatePool.shared().dateHitCount());
+            assertEquals(0, FormattedDateCache.shared().fillCount() + FormattedDateCache.shared().missCount());
+            assertFalse(DateWarmUp.isActive());
+        } finally {
+            DateMetrics.disable();
+            DateMetrics.reset();
+            ParsedDateCache.disable();
+            CanonicalDatePool.disable();
+            FormattedDateCache.disable();
+        }
+    }
+
+    @Test
+    public void startRunsInBackground() throws Exception {
+        DateWarmUp.Report report = DateWarmUp.create().initialization(DateWarmUp.Initialization.EAGER).start().get(30, TimeUnit.SECONDS);
+        assertEquals(DateWarmUp.Initialization.EAGER, report.getInitialization());
+        assertEquals(0, report.getWorkloadIterations());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWorkloadIsRejected() {
+        DateWarmUp.create().workload(-1);
+    }
+}
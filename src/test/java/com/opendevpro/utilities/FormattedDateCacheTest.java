@@ -0,0 +1,127 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class FormattedDateCacheTest {
+
+    private static final Locale ES_AR = new Locale("es", "AR");
+
+    @After
+    public void tearDown() {
+        FormattedDateCache.disable();
+    }
+
+    @Test
+    public void matchesFormatterInsideAndOutsideWindow() {
+        LocalDate today = LocalDate.of(2026, 10, 18);
+        FormattedDateCache cache = new FormattedDateCache(30, 10, fixedClock(today));
+        Random random = new Random(14);
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate date = today.plusDays(random.nextInt(100) - 50);
+            for (String pattern : new String[] { DateUtilities.DD_MM_YYYY_SLASH, DateUtilities.DD_MMM_YYYY_DASH })
+                assertEquals(DateTimeFormatter.ofPattern(pattern, ES_AR).format(date), cache.format(date, pattern, ES_AR));
+        }
+        assertSame(cache.format(today, DateUtilities.DD_MM_YYYY_SLASH, ES_AR), cache.format(today, DateUtilities.DD_MM_YYYY_SLASH, ES_AR));
+        assertEquals(2 * 41, cache.fillCount());
+        assertTrue(cache.missCount() > 0);
+        long total = cache.hitCount() + cache.fillCount() + cache.missCount();
+        assertEquals(2 * 5_000 + 2, total);
+        assertEquals((double) cache.hitCount() / total, cache.hitRate(), 0d);
+    }
+
+    @Test
+    public void windowFollowsTheClock() {
+        final AtomicLong millis = new AtomicLong(LocalDate.of(2026, 10, 18).toEpochDay() * 86_400_000L);
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+        FormattedDateCache cache = new FormattedDateCache(10, 5, clock);
+        LocalDate yesterday = LocalDate.of(2026, 10, 17);
+        String cached = cache.format(yesterday, DateUtilities.DD_MM_YYYY_SLASH, ES_AR);
+        LocalDate later = LocalDate.of(2026, 10, 30);
+        cache.format(later, DateUtilities.DD_MM_YYYY_SLASH, ES_AR);
+        assertEquals(1, cache.missCount());
+        // pasan 8 dias: 30/10 entra en la ventana y 17/10 sigue adentro con el mismo String
+        millis.addAndGet(8 * 86_400_000L);
+        assertEquals("30/10/2026", cache.format(later, DateUtilities.DD_MM_YYYY_SLASH, ES_AR));
+        assertEquals(1, cache.missCount());
+        assertSame(cached, cache.format(yesterday, DateUtilities.DD_MM_YYYY_SLASH, ES_AR));
+    }
+
+    @Test
+    public void concurrentReadersSeeCorrectValues() throws Exception {
+        final LocalDate today = LocalDate.now(Clock.systemUTC());
+        final FormattedDateCache cache = new FormattedDateCache(200, 200, Clock.systemUTC());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                final int seed = t;
+                futures[t] = pool.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        LocalDate date = today.plusDays(random.nextInt(500) - 250);
+                        assertEquals(DateTimeFormatter.ofPattern(DateUtilities.DD_MMM_YYYY_SLASH, Locale.US).format(date),
+                            cache.format(date, DateUtilities.DD_MMM_YYYY_SLASH, Locale.US));
+                    }
+                });
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1, cache.formatCount());
+        assertTrue(cache.fillCount() >= 401);
+    }
+
+    @Test
+    public void formatLocaldateTimeToAnyPatternUsesSharedCacheWhenEnabled() {
+        LocalDate today = LocalDate.now(Clock.systemUTC());
+        String expected = DateUtilities.formatLocaldateTimeToAnyPattern(today, DateUtilities.DD_MM_YYYY_DASH);
+        FormattedDateCache.enable();
+        assertEquals(expected, DateUtilities.formatLocaldateTimeToAnyPattern(today, DateUtilities.DD_MM_YYYY_DASH));
+        assertEquals(expected, DateUtilities.formatLocaldateTimeToAnyPattern(today, DateUtilities.DD_MM_YYYY_DASH));
+        assertEquals(1, FormattedDateCache.shared().hitCount());
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void timePatternsStillThrow() {
+        new FormattedDateCache(1, 1, Clock.systemUTC()).format(LocalDate.now(Clock.systemUTC()), DateUtilities.ISO_DATE_TIME_FORMAT_MINUTES);
+    }
+
+    private static Clock fixedClock(LocalDate today) {
+        return Clock.fixed(Instant.ofEpochSecond(today.toEpochDay() * 86_400L + 3_600L), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,85 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class FormatterCacheTest {
+
+    @Test
+    public void returnsSameFormatterForSameKey() {
+        FormatterCache cache = new FormatterCache(8);
+        DateTimeFormatter first = cache.get(DateUtilities.DD_MM_YYYY_SLASH, Locale.US);
+        DateTimeFormatter second = cache.get(DateUtilities.DD_MM_YYYY_SLASH, Locale.US);
+        assertSame(first, second);
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    public void keysIncludeLocaleAndResolverStyle() {
+        FormatterCache cache = new FormatterCache(8);
+        DateTimeFormatter us = cache.get(DateUtilities.DD_MMM_YYYY_DASH, Locale.US);
+        DateTimeFormatter es = cache.get(DateUtilities.DD_MMM_YYYY_DASH, new Locale("es", "AR"));
+        DateTimeFormatter strict = cache.get(DateUtilities.DD_MMM_YYYY_DASH, Locale.US, ResolverStyle.STRICT);
+        assertNotSame(us, es);
+        assertNotSame(us, strict);
+        assertEquals(ResolverStyle.STRICT, strict.getResolverStyle());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws InterruptedException {
+        FormatterCache cache = new FormatterCache(2);
+        DateTimeFormatter a = cache.get("dd/MM/yyyy", Locale.US);
+        Thread.sleep(1);
+        cache.get("yyyy/MM/dd", Locale.US);
+        Thread.sleep(1);
+        cache.get("dd/MM/yyyy", Locale.US);
+        Thread.sleep(1);
+        cache.get("dd-MM-yyyy", Locale.US);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertSame(a, cache.get("dd/MM/yyyy", Locale.US));
+    }
+
+    @Test
+    public void frequentlyUsedEntriesSurviveAStreamOfNewPatterns() {
+        FormatterCache cache = new FormatterCache(16);
+        DateTimeFormatter hot = cache.get(DateUtilities.DD_MM_YYYY_SLASH, Locale.US);
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("'n" + i + "' dd/MM/yyyy", Locale.US);
+            assertSame(hot, cache.get(DateUtilities.DD_MM_YYYY_SLASH, Locale.US));
+        }
+        assertEquals(16, cache.size());
+        assertEquals(1_001 - 16, cache.evictionCount());
+    }
+
+    @Test
+    public void sharedCacheIsPreloadedWithClassPatterns() {
+        FormatterCache cache = FormatterCache.shared();
+        long misses = cache.missCount();
+        cache.get(DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+        cache.get(DateUtilities.DD_MM_YYYY_SLASH);
+        assertEquals(misses, cache.missCount());
+    }
+
+    @Test
+    public void formattersBehaveLikeOfPattern() {
+        LocalDate date = LocalDate.of(2020, 2, 29);
+        assertEquals(DateTimeFormatter.ofPattern(DateUtilities.DD_MMM_YYYY_SLASH, Locale.UK).format(date),
+            new FormatterCache(4).get(DateUtilities.DD_MMM_YYYY_SLASH, Locale.UK).format(date));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPatternIsRejected() {
+        new FormatterCache(4).get("dd/MM/yyyy{");
+    }
+}
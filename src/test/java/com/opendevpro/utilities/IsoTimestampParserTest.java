@@ -0,0 +1,133 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IsoTimestampParserTest {
+
+    private static final String[] PATTERNS = {
+        DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS,
+        DateUtilities.ISO_DATE_TIME_FORMAT_MILLI_SECONDS
+    };
+    private static final DateTimeFormatter CANONICAL = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+    @Test
+    public void canonicalTimestampsMatchJavaTime() {
+        Random random = new Random(24);
+        for (int i = 0; i < 20_000; i++) {
+            LocalDateTime local = LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12), 1, 0, 0)
+                .plusDays(random.nextInt(31)).plusSeconds(random.nextInt(86_400)).withNano(random.nextInt(1_000) * 1_000_000);
+            ZoneOffset offset = random.nextInt(4) == 0 ? ZoneOffset.UTC : ZoneOffset.ofTotalSeconds((random.nextInt(145) - 72) * 15 * 60);
+            String text = CANONICAL.format(local.atOffset(offset));
+            for (String pattern : PATTERNS)
+                assertSameAsJavaTime(text, pattern);
+        }
+    }
+
+    @Test
+    public void malformedTimestampsAreRejectedLikeTheValidators() {
+        Random random = new Random(7);
+        byte[] alphabet = "0123456789:-+.TZ /aAé".getBytes(StandardCharsets.UTF_8);
+        String[] seeds = { "2021-06-05T10:30:15.123Z", "2021-06-05T10:30:15.123-03:00", "2020-02-29T23:59:59.999+18:00" };
+        for (int i = 0; i < 20_000; i++) {
+            byte[] bytes = seeds[random.nextInt(seeds.length)].getBytes(StandardCharsets.US_ASCII);
+            for (int changes = 1 + random.nextInt(2); changes > 0; changes--)
+                bytes[random.nextInt(bytes.length)] = alphabet[random.nextInt(alphabet.length)];
+            String text = new String(bytes, StandardCharsets.UTF_8);
+            for (String pattern : PATTERNS)
+                assertSameAsJavaTime(text, pattern);
+        }
+    }
+
+    @Test
+    public void edgeCasesFallBackToTheFormatter() {
+        String[] texts = {
+            "2021-06-05T24:00:00.000Z",
+            "2021-04-31T10:30:15.123Z",
+            "2021-02-29T10:30:15.123+01:00",
+            "0000-01-01T00:00:00.000Z",
+            "+10000-01-01T00:00:00.000Z",
+            "2021-06-05T10:30:15.123+18:01",
+            "2021-06-05T10:30:15.123+19:00",
+            "2021-06-05T10:30:15.123-00:00",
+            "2021-06-05T10:30:15.123+03:00:10",
+            "2021-06-05T10:30:15.123ART",
+            "2021-06-05T10:30:15.123+0300",
+            "2021-06-05T10:30:15.123",
+            "2021-06-05T10:30:15.1234Z",
+            ""
+        };
+        for (String text : texts) {
+            for (String pattern : PATTERNS)
+                assertSameAsJavaTime(text, pattern);
+        }
+    }
+
+    @Test
+    public void readsAtAnOffsetFromArraysAndBuffers() {
+        byte[] line = "id=7;ts=2021-06-05T10:30:15.123-03:00;ok".getBytes(StandardCharsets.UTF_8);
+        String pattern = DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS;
+        assertEquals(1_622_899_815_123_000L, IsoTimestampParser.toEpochMicros(line, 8, 29, pattern));
+        assertEquals(1_622_899_815_123L, DateUtilities.fromBytesToEpochMillis(line, 8, 29, pattern));
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            ByteBuffer heap = ByteBuffer.wrap(line).order(order);
+            ByteBuffer direct = ByteBuffer.allocateDirect(line.length).order(order);
+            direct.put(line).position(3);
+            for (ByteBuffer buffer : new ByteBuffer[] { heap, direct }) {
+                int position = buffer.position();
+                assertEquals(1_622_899_815_123L, IsoTimestampParser.toEpochMillis(buffer, 8, 29, pattern));
+                assertEquals(1_622_899_815_123_000L, IsoTimestampParser.toEpochMicros(buffer, 8, 29, pattern));
+                assertTrue(IsoTimestampParser.isValid(buffer, 8, 29, pattern));
+                assertFalse(IsoTimestampParser.isValid(buffer, 8, 30, pattern));
+                assertEquals(position, buffer.position());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherPatternsAreRejected() {
+        IsoTimestampParser.toEpochMillis(new byte[10], 0, 10, DateUtilities.ISO_DATE);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rangeOutsideTheArrayIsRejected() {
+        IsoTimestampParser.toEpochMillis(new byte[24], 1, 24, DateUtilities.ISO_DATE_TIME_FORMAT_MICRO_SECONDS);
+    }
+
+    private static void assertSameAsJavaTime(String text, String pattern) {
+        byte[] bytes = ("##" + text).getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length - 2;
+        assertEquals(text + " " + pattern, DateValidationEngine.isValidDateTime(text, pattern),
+            IsoTimestampParser.isValid(bytes, 2, length, pattern));
+        Instant expected;
+        try {
+            expected = ZonedDateTime.parse(text, FormatterCache.shared().get(pattern)).toInstant();
+        } catch (DateTimeParseException e) {
+            try {
+                IsoTimestampParser.toEpochMillis(bytes, 2, length, pattern);
+                fail("Se esperaba error para " + text + " " + pattern);
+            } catch (DateTimeParseException actual) {
+                assertEquals(text, e.getErrorIndex(), actual.getErrorIndex());
+                assertEquals(e.getMessage(), actual.getMessage());
+            }
+            return;
+        }
+        assertEquals(text, expected.toEpochMilli(), IsoTimestampParser.toEpochMillis(bytes, 2, length, pattern));
+        assertEquals(text, expected.toEpochMilli() * 1_000L, IsoTimestampParser.toEpochMicros(bytes, 2, length, pattern));
+    }
+}
@@ -0,0 +1,99 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class MonthNamesTest {
+
+    @Test
+    public void strictMatchEqualsDateTimeFormatterForEveryLocale() {
+        for (Locale locale : Locale.getAvailableLocales()) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM", locale);
+            MonthNames names = MonthNames.of(locale);
+            for (String input : inputs(locale)) {
+                ParsePosition position = new ParsePosition(1);
+                TemporalAccessor parsed = formatter.parseUnresolved(input, position);
+                long expected = parsed == null || position.getErrorIndex() >= 0 ? -1
+                    : (long) position.getIndex() << 4 | parsed.getLong(ChronoField.MONTH_OF_YEAR);
+                assertEquals(locale + " " + input, expected, names.match(input, 1, false));
+            }
+        }
+    }
+
+    @Test
+    public void validationWithMonthTextMatchesFormatter() {
+        Locale[] locales = { new Locale("es", "AR"), new Locale("es", "ES"), Locale.US, Locale.UK, Locale.FRANCE, Locale.GERMANY,
+            new Locale("pt", "BR"), new Locale("ru"), Locale.JAPAN };
+        for (Locale locale : locales) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DateUtilities.DD_MMM_YYYY_DASH, locale);
+            for (int month = 1; month <= 12; month++) {
+                for (int day : new int[] { 1, 29, 31, 32 }) {
+                    String text = String.format("%02d-%s-2021", day, MonthNames.of(locale).shortName(month));
+                    for (String value : new String[] { text, text.toUpperCase(locale), text.toLowerCase(locale) }) {
+                        boolean expected;
+                        try {
+                            LocalDate.parse(value, formatter);
+                            expected = true;
+                        } catch (RuntimeException e) {
+                            expected = false;
+                        }
+                        assertEquals(locale + " " + value, expected,
+                            DateValidationEngine.isValidDate(value, DateUtilities.DD_MMM_YYYY_DASH, locale));
+                        boolean passed;
+                        try {
+                            DateUtilities.firewallIsRealDate(value, DateUtilities.DD_MMM_YYYY_DASH, false, locale);
+                            passed = true;
+                        } catch (DateTimeParseException e) {
+                            passed = false;
+                        }
+                        assertEquals(locale + " " + value, expected, passed);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lenientLookupAcceptsFullNamesInAnyCase() {
+        MonthNames spanish = MonthNames.of(new Locale("es", "AR"));
+        assertEquals(9, spanish.month("SEPTIEMBRE"));
+        assertEquals(9, spanish.month(spanish.shortName(9).toUpperCase(Locale.ROOT)));
+        assertEquals(1, spanish.month("enero"));
+        assertEquals(-1, spanish.month("enerox"));
+        MonthNames english = MonthNames.of(Locale.US);
+        assertEquals(5, english.month("may"));
+        assertEquals(12, english.month("december"));
+        assertEquals("Dec", english.shortName(12));
+        assertSame(english, MonthNames.of(Locale.US));
+    }
+
+    private static List<String> inputs(Locale locale) {
+        List<String> inputs = new ArrayList<>();
+        MonthNames names = MonthNames.of(locale);
+        for (int month = 1; month <= 12; month++) {
+            for (String name : new String[] { names.shortName(month), names.fullName(month) }) {
+                inputs.add("-" + name);
+                inputs.add("-" + name + "-2021");
+                inputs.add("-" + name.toUpperCase(locale));
+                inputs.add("-" + name.toLowerCase(locale));
+                inputs.add("-" + name.substring(0, name.length() - 1));
+            }
+        }
+        inputs.add("-");
+        inputs.add("-xyz");
+        inputs.add("-12");
+        return inputs;
+    }
+}
@@ -0,0 +1,127 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ParsedDateCacheTest {
+
+    @After
+    public void tearDown() {
+        ParsedDateCache.disable();
+    }
+
+    @Test
+    public void repeatedValuesAreServedFromTheCache() throws IOException {
+        ParsedDateCache.enable();
+        ParsedDateCache cache = ParsedDateCache.shared();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(DateUtilities.isValidDate("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH));
+            assertEquals(LocalDate.of(2021, 6, 5), DateUtilities.fromStringToLocalDate("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH));
+            assertFalse(DateUtilities.isValidDate("31/13/2021", DateUtilities.DD_MM_YYYY_SLASH));
+        }
+        assertEquals(2, cache.missCount());
+        assertEquals(298, cache.hitCount());
+        assertEquals(298 / 300d, cache.hitRate(), 1e-9);
+        java.sql.Date first = DateUtilities.parsearFecha("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH);
+        java.sql.Date second = DateUtilities.parsearFecha("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH);
+        assertEquals(first, second);
+        assertTrue(first != second);
+        assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    public void invalidVerdictsKeepTheOriginalExceptions() {
+        ParsedDateCache.enable();
+        for (int i = 0; i < 2; i++) {
+            try {
+                DateUtilities.fromStringToLocalDate("30/02/2021x", DateUtilities.DD_MM_YYYY_SLASH);
+                fail();
+            } catch (DateTimeParseException e) {
+                assertEquals(10, e.getErrorIndex());
+            }
+            try {
+                DateUtilities.parsearFecha("no es fecha", DateUtilities.DD_MM_YYYY_SLASH);
+                fail();
+            } catch (IOException e) {
+                assertEquals("Error al parsear la fecha", e.getMessage());
+            }
+        }
+        assertEquals(2, ParsedDateCache.shared().hitCount());
+    }
+
+    @Test
+    public void collisionsNeverReturnAnotherTextsResult() throws IOException {
+        // una sola entrada: todas las claves caen en el mismo lugar
+        ParsedDateCache cache = new ParsedDateCache(1);
+        Random random = new Random(25);
+        String[] patterns = { DateUtilities.DD_MM_YYYY_SLASH, DateUtilities.MM_DD_YYYY_SLASH, DateUtilities.DD_MMM_YYYY_DASH, "d/M/yy" };
+        for (int i = 0; i < 20_000; i++) {
+            String pattern = patterns[random.nextInt(patterns.length)];
+            String text = String.format(Locale.ROOT, "%02d/%02d/%04d", 1 + random.nextInt(32), 1 + random.nextInt(13), 2020 + random.nextInt(3));
+            if (random.nextBoolean())
+                text = DateUtilities.formatLocaldateTimeToAnyPattern(LocalDate.of(2021, 1, 1).plusDays(random.nextInt(8)), pattern);
+            assertEquals(text + " " + pattern, uncachedLocalDate(text, pattern), cache.localDate(text, pattern));
+            long millis = cache.sqlDateMillis(text, pattern);
+            try {
+                assertEquals(DateUtilities.parsearFecha(text, pattern).getTime(), millis);
+            } catch (IOException e) {
+                assertEquals(ParsedDateCache.INVALID_MILLIS, millis);
+            }
+        }
+        assertTrue(cache.evictionCount() > 0);
+        long hits = cache.hitCount();
+        cache.localDate("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH);
+        cache.localDate("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH);
+        assertEquals(hits + 1, cache.hitCount());
+    }
+
+    @Test
+    public void localeAndTimeZoneArePartOfTheKey() {
+        ParsedDateCache cache = new ParsedDateCache(64);
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        TimeZone zone = TimeZone.getDefault();
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            assertEquals(LocalDate.of(2021, 6, 5), cache.localDate("05-Jun-2021", DateUtilities.DD_MMM_YYYY_DASH));
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertNull(cache.localDate("05-Jun-2021", DateUtilities.DD_MMM_YYYY_DASH));
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            long utc = cache.sqlDateMillis("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH);
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Argentina/Buenos_Aires"));
+            assertEquals(utc + 3 * 3_600_000L, cache.sqlDateMillis("05/06/2021", DateUtilities.DD_MM_YYYY_SLASH));
+            assertEquals(0, cache.hitCount());
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+            TimeZone.setDefault(zone);
+        }
+    }
+
+    @Test
+    public void longTextsAreNotCached() {
+        ParsedDateCache cache = new ParsedDateCache(16);
+        StringBuilder text = new StringBuilder("05/06/2021");
+        while (text.length() <= ParsedDateCache.MAX_TEXT_LENGTH)
+            text.append(' ');
+        assertNull(cache.localDate(text.toString(), DateUtilities.DD_MM_YYYY_SLASH));
+        assertNull(cache.localDate(text.toString(), DateUtilities.DD_MM_YYYY_SLASH));
+        assertEquals(0, cache.hitCount());
+        assertEquals(16, cache.slotCount());
+    }
+
+    private static LocalDate uncachedLocalDate(String text, String pattern) {
+        return DateUtilities.isValidDate(text, pattern) ? DateUtilities.fromStringToLocalDate(text, pattern) : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class SimpleDateFormatPoolTest {
+
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 1500;
+
+    @Test
+    public void reusesInstancePerThread() {
+        assertSame(SimpleDateFormatPool.get(DateUtilities.DD_MM_YYYY_SLASH), SimpleDateFormatPool.get(DateUtilities.DD_MM_YYYY_SLASH));
+    }
+
+    @Test
+    public void followsRefreshedDefaultZoneAndUndoesParsedZone() throws Exception {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            String pattern = "yyyy-MM-dd HH:mm z";
+            SimpleDateFormatPool.get(pattern).parse("2020-01-01 10:00 JST");
+            assertEquals("1970-01-01 00:00 UTC", SimpleDateFormatPool.get(pattern).format(new Date(0L)));
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Argentina/Buenos_Aires"));
+            assertEquals("01/01/1970", SimpleDateFormatPool.get(DateUtilities.DD_MM_YYYY_SLASH).format(new Date(10_800_000L)));
+            assertEquals("31/12/1969", SimpleDateFormatPool.get(DateUtilities.DD_MM_YYYY_SLASH).format(new Date(0L)));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void concurrentCallsProduceSameResultsAsFreshFormatters() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final long seed = t;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+                        return stress(new Random(seed));
+                    }
+                }));
+            }
+            start.countDown();
+            int checked = 0;
+            for (Future<Integer> result : results)
+                checked += result.get();
+            assertEquals(THREADS * ITERATIONS, checked);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int stress(Random random) throws Exception {
+        int checked = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            String pattern = FormatterCache.CLASS_PATTERNS[random.nextInt(FormatterCache.CLASS_PATTERNS.length)];
+            Date date = new Date(random.nextLong() % 4_000_000_000_000L);
+            String expected = new SimpleDateFormat(pattern).format(date);
+            String formatted = DateUtilities.convertDateToIsoDateToSpecificPattern(date, pattern);
+            assertEquals(pattern, expected, formatted);
+            assertEquals(pattern + " " + formatted, new SimpleDateFormat(pattern).parse(formatted).getTime(),
+                DateUtilities.parsearFecha(formatted, pattern).getTime());
+            checked++;
+        }
+        return checked;
+    }
+}
@@ -0,0 +1,170 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SqlDateColumnsTest {
+
+    private static final String[] ZONES = { "America/Argentina/Buenos_Aires", "America/Sao_Paulo", "Europe/London",
+        "America/Santiago", "Australia/Lord_Howe", "America/New_York", "Asia/Kolkata", "UTC" };
+
+    private final TimeZone original = TimeZone.getDefault();
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(original);
+        CanonicalDatePool.disable();
+    }
+
+    @Test
+    public void sqlConversionsMatchPerValueMethods() {
+        for (String id : ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(id));
+            long[] millis = dataset(ZoneId.of(id), new Random(id.hashCode()));
+            for (boolean parallel : new boolean[] { false, true }) {
+                java.sql.Date[] sqlDates = new java.sql.Date[millis.length];
+                Timestamp[] timestamps = new Timestamp[millis.length];
+                for (int i = 0; i < millis.length; i++) {
+                    if (i % 97 == 0)
+                        continue;
+                    sqlDates[i] = new java.sql.Date(millis[i]);
+                    timestamps[i] = new Timestamp(millis[i]);
+                    if (i % 3 == 0)
+                        timestamps[i].setNanos(timestamps[i].getNanos() + i % 999_999);
+                }
+                LocalDate[] dates = SqlDateColumns.toLocalDates(sqlDates, parallel);
+                LocalDateTime[] fromSqlDates = SqlDateColumns.toLocalDateTimes(sqlDates, parallel);
+                LocalDateTime[] fromTimestamps = SqlDateColumns.toLocalDateTimes(timestamps, parallel);
+                int[] epochDays = SqlDateColumns.toEpochDays(sqlDates, Integer.MIN_VALUE, parallel);
+                for (int i = 0; i < millis.length; i++) {
+                    String message = id + " " + millis[i];
+                    assertEquals(message, sqlDates[i] == null ? null : sqlDates[i].toLocalDate(), dates[i]);
+                    assertEquals(message, sqlDates[i] == null ? null : DateUtilities.fromSqlDateToLocalDateTime(sqlDates[i]), fromSqlDates[i]);
+                    assertEquals(message, timestamps[i] == null ? null : timestamps[i].toLocalDateTime(), fromTimestamps[i]);
+                    assertEquals(message, sqlDates[i] == null ? Integer.MIN_VALUE : sqlDates[i].toLocalDate().toEpochDay(), epochDays[i]);
+                }
+                java.sql.Date[] backDates = SqlDateColumns.toSqlDates(dates, parallel);
+                Timestamp[] backTimestamps = SqlDateColumns.toTimestamps(fromTimestamps, parallel);
+                for (int i = 0; i < millis.length; i++) {
+                    String message = id + " " + dates[i] + " " + fromTimestamps[i];
+                    assertEquals(message, dates[i] == null ? null : DateUtilities.fromLocalDateToSqlDate(dates[i]), backDates[i]);
+                    Timestamp expected = fromTimestamps[i] == null ? null : Timestamp.valueOf(fromTimestamps[i]);
+                    assertEquals(message, expected, backTimestamps[i]);
+                    if (expected != null)
+                        assertEquals(message, expected.getTime(), backTimestamps[i].getTime());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void ramadanRulesAfter2037MatchPerValueMethods() {
+        // TimeZone de java.util y ZoneRules difieren desde 2038 en las zonas con reglas de Ramadan
+        long min = Instant.parse("2036-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("2090-01-01T00:00:00Z").toEpochMilli();
+        for (String id : new String[] { "Africa/Casablanca", "Africa/El_Aaiun" }) {
+            TimeZone.setDefault(TimeZone.getTimeZone(id));
+            Random random = new Random(id.hashCode());
+            Timestamp[] timestamps = new Timestamp[50_000];
+            java.sql.Date[] sqlDates = new java.sql.Date[timestamps.length];
+            for (int i = 0; i < timestamps.length; i++) {
+                long millis = min + (long) (random.nextDouble() * (max - min));
+                timestamps[i] = new Timestamp(millis);
+                sqlDates[i] = new java.sql.Date(millis);
+            }
+            for (boolean parallel : new boolean[] { false, true }) {
+                LocalDateTime[] dateTimes = SqlDateColumns.toLocalDateTimes(timestamps, parallel);
+                LocalDate[] dates = SqlDateColumns.toLocalDates(sqlDates, parallel);
+                Timestamp[] backTimestamps = SqlDateColumns.toTimestamps(dateTimes, parallel);
+                java.sql.Date[] backDates = SqlDateColumns.toSqlDates(dates, parallel);
+                for (int i = 0; i < timestamps.length; i++) {
+                    String message = id + " " + timestamps[i].getTime();
+                    assertEquals(message, timestamps[i].toLocalDateTime(), dateTimes[i]);
+                    assertEquals(message, sqlDates[i].toLocalDate(), dates[i]);
+                    assertEquals(message, Timestamp.valueOf(dateTimes[i]).getTime(), backTimestamps[i].getTime());
+                    assertEquals(message, DateUtilities.fromLocalDateToSqlDate(dates[i]), backDates[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void epochMillisConversionsMatchJavaTime() {
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            long[] millis = dataset(zone, new Random(id.hashCode() * 31));
+            for (boolean parallel : new boolean[] { false, true }) {
+                LocalDate[] dates = SqlDateColumns.toLocalDates(millis, zone, parallel);
+                LocalDateTime[] dateTimes = SqlDateColumns.toLocalDateTimes(millis, zone, parallel);
+                long[] back = SqlDateColumns.toEpochMillis(dateTimes, zone, -1L, parallel);
+                for (int i = 0; i < millis.length; i++) {
+                    Instant instant = Instant.ofEpochMilli(millis[i]);
+                    assertEquals(id, instant.atZone(zone).toLocalDate(), dates[i]);
+                    assertEquals(id, instant.atZone(zone).toLocalDateTime(), dateTimes[i]);
+                    assertEquals(id, dateTimes[i].atZone(zone).toInstant().toEpochMilli(), back[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void nullsArePreserved() {
+        assertArrayEquals(new LocalDate[2], SqlDateColumns.toLocalDates(new java.sql.Date[2]));
+        assertArrayEquals(new Timestamp[1], SqlDateColumns.toTimestamps(new LocalDateTime[1]));
+        assertArrayEquals(new long[] { 7L }, SqlDateColumns.toEpochMillis(new LocalDateTime[1], ZoneId.of("UTC"), 7L));
+        assertArrayEquals(new int[] { -1 }, SqlDateColumns.toEpochDays(new java.sql.Date[1], -1));
+    }
+
+    @Test
+    public void usesCanonicalPoolWhenEnabled() {
+        CanonicalDatePool.enable();
+        long day = Instant.parse("2020-06-05T12:00:00Z").toEpochMilli();
+        LocalDate[] dates = SqlDateColumns.toLocalDates(new long[] { day, day + 1_000L }, ZoneId.of("UTC"));
+        assertEquals(LocalDate.of(2020, 6, 5), dates[0]);
+        assertEquals(true, dates[0] == dates[1]);
+    }
+
+    /*
+     * Valores alrededor de cada cambio de horario (de a 7 minutos, sin ordenar), valores cercanos ordenados
+     * y valores al azar entre 1583 y 9999, incluyendo los primeros años del calendario gregoriano.
+     */
+    private static long[] dataset(ZoneId zone, Random random) {
+        List<Long> values = new ArrayList<>();
+        for (ZoneOffsetTransition transition : zone.getRules().getTransitions()) {
+            long instant = transition.toEpochSecond() * 1_000L;
+            if (instant < -2_500_000_000_000L)
+                continue;
+            for (int minutes = -180; minutes <= 180; minutes += 7)
+                values.add(instant + minutes * 60_000L + random.nextInt(60_000));
+        }
+        long base = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 10_000; i++)
+            values.add(base + i * 3_600_000L);
+        long min = Instant.parse("1583-01-02T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-30T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 10_000; i++)
+            values.add(min + (long) (random.nextDouble() * (max - min)));
+        for (int i = 0; i < 500; i++)
+            values.add(Instant.parse("1500-01-01T00:00:00Z").toEpochMilli() + (long) (random.nextDouble() * 120 * 365.25 * 86_400_000L));
+        long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = values.get(i);
+        Arrays.sort(result, 0, result.length / 3);
+        return result;
+    }
+}
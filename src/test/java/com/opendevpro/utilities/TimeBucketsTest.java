@@ -0,0 +1,142 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TimeBucketsTest {
+
+    private static final String[] ZONES = { "America/Argentina/Buenos_Aires", "Europe/London", "America/Santiago",
+        "Australia/Lord_Howe", "Asia/Kolkata", "UTC" };
+
+    @Test
+    public void keysMatchJavaTime() {
+        Random random = new Random(21);
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            long[] millis = new long[20_000];
+            for (int i = 0; i < millis.length; i++)
+                millis[i] = (random.nextLong() % 8_000_000_000_000L) + 1_000_000_000_000L;
+            for (TimeBuckets.Granularity granularity : TimeBuckets.Granularity.values()) {
+                long[] expected = new long[millis.length];
+                for (int i = 0; i < millis.length; i++)
+                    expected[i] = expectedKey(millis[i], zone, granularity);
+                assertArrayEquals(id + " " + granularity, expected, TimeBuckets.keys(millis, zone, granularity));
+                assertArrayEquals(id + " " + granularity, expected, TimeBuckets.keys(millis, zone, granularity, true));
+            }
+        }
+    }
+
+    @Test
+    public void dstDaysHaveTheirRealLength() {
+        ZoneId london = ZoneId.of("Europe/London");
+        long start = ZonedDateTime.of(2026, 3, 28, 0, 0, 0, 0, london).toInstant().toEpochMilli();
+        long end = ZonedDateTime.of(2026, 11, 2, 0, 0, 0, 0, london).toInstant().toEpochMilli();
+        long[] minutes = new long[(int) ((end - start) / 60_000)];
+        for (int i = 0; i < minutes.length; i++)
+            minutes[i] = start + i * 60_000L;
+        TimeBuckets.Histogram days = TimeBuckets.counts(minutes, london, TimeBuckets.Granularity.DAY, true);
+        assertEquals(24 * 60, days.count(LocalDateTime.of(2026, 3, 28, 0, 0).toLocalDate().toEpochDay()));
+        assertEquals(23 * 60, days.count(LocalDateTime.of(2026, 3, 29, 0, 0).toLocalDate().toEpochDay()));
+        assertEquals(25 * 60, days.count(LocalDateTime.of(2026, 10, 25, 0, 0).toLocalDate().toEpochDay()));
+        assertEquals(minutes.length, days.totalCount());
+        TimeBuckets.Histogram hours = TimeBuckets.counts(minutes, london, TimeBuckets.Granularity.HOUR);
+        // la 01:00 del 25/10 se repite, la 01:00 del 29/03 no existe
+        assertEquals(120, hours.count(LocalDateTime.of(2026, 10, 25, 1, 0).toEpochSecond(ZoneOffset.UTC) / 3_600));
+        assertEquals(0, hours.count(LocalDateTime.of(2026, 3, 29, 1, 0).toEpochSecond(ZoneOffset.UTC) / 3_600));
+        assertEquals(ZonedDateTime.of(2026, 3, 29, 2, 0, 0, 0, london).toInstant().toEpochMilli(),
+            TimeBuckets.startEpochMillis(LocalDateTime.of(2026, 3, 29, 1, 0).toEpochSecond(ZoneOffset.UTC) / 3_600,
+                london, TimeBuckets.Granularity.HOUR));
+    }
+
+    @Test
+    public void countsAndSumsMatchBoxedGrouping() {
+        Random random = new Random(5);
+        ZoneId zone = ZoneId.of("America/Santiago");
+        long[] millis = new long[50_000];
+        long[] values = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = 1_600_000_000_000L + (long) (random.nextDouble() * 200_000_000_000L);
+            values[i] = random.nextInt(1_000);
+        }
+        millis[7] = TimeBuckets.NO_VALUE;
+        for (TimeBuckets.Granularity granularity : TimeBuckets.Granularity.values()) {
+            if (granularity == TimeBuckets.Granularity.MINUTE)
+                continue;
+            Map<Long, long[]> expected = new HashMap<>();
+            for (int i = 0; i < millis.length; i++) {
+                if (millis[i] == TimeBuckets.NO_VALUE)
+                    continue;
+                long[] bucket = expected.computeIfAbsent(expectedKey(millis[i], zone, granularity), k -> new long[2]);
+                bucket[0]++;
+                bucket[1] += values[i];
+            }
+            for (boolean parallel : new boolean[] { false, true }) {
+                TimeBuckets.Histogram histogram = TimeBuckets.sums(millis, values, zone, granularity, parallel);
+                assertEquals(millis.length - 1, histogram.totalCount());
+                for (long key = histogram.firstKey(); key <= histogram.lastKey(); key++) {
+                    long[] bucket = expected.getOrDefault(key, new long[2]);
+                    assertEquals(bucket[0], histogram.count(key));
+                    assertEquals(bucket[1], histogram.sum(key));
+                }
+                assertEquals(expected.size(), countNonEmpty(histogram));
+            }
+        }
+    }
+
+    @Test
+    public void wideParallelRangeMatchesSequential() {
+        Random random = new Random(9);
+        ZoneId zone = ZoneId.of("Europe/London");
+        long[] millis = new long[40_000];
+        // ~5 años en minutos: mas de 2M buckets, el paralelo no puede tener un arreglo por parte
+        for (int i = 0; i < millis.length; i++)
+            millis[i] = 1_500_000_000_000L + (long) (random.nextDouble() * 160_000_000_000L);
+        TimeBuckets.Histogram sequential = TimeBuckets.counts(millis, zone, TimeBuckets.Granularity.MINUTE, false);
+        TimeBuckets.Histogram parallel = TimeBuckets.counts(millis, zone, TimeBuckets.Granularity.MINUTE, true);
+        assertEquals(sequential.firstKey(), parallel.firstKey());
+        assertArrayEquals(sequential.toCountArray(), parallel.toCountArray());
+    }
+
+    @Test
+    public void emptyInput() {
+        TimeBuckets.Histogram histogram = TimeBuckets.counts(new long[] { TimeBuckets.NO_VALUE }, ZoneId.of("UTC"),
+            TimeBuckets.Granularity.DAY);
+        assertEquals(0, histogram.size());
+        assertEquals(0, histogram.count(0));
+    }
+
+    private static int countNonEmpty(TimeBuckets.Histogram histogram) {
+        int count = 0;
+        for (long value : histogram.toCountArray()) {
+            if (value > 0)
+                count++;
+        }
+        return count;
+    }
+
+    private static long expectedKey(long millis, ZoneId zone, TimeBuckets.Granularity granularity) {
+        LocalDateTime local = Instant.ofEpochMilli(millis).atZone(zone).toLocalDateTime();
+        switch (granularity) {
+            case MINUTE:
+                return ChronoUnit.MINUTES.between(LocalDateTime.of(1970, 1, 1, 0, 0), local.truncatedTo(ChronoUnit.MINUTES));
+            case HOUR:
+                return ChronoUnit.HOURS.between(LocalDateTime.of(1970, 1, 1, 0, 0), local.truncatedTo(ChronoUnit.HOURS));
+            case DAY:
+                return local.toLocalDate().toEpochDay();
+            default:
+                return (local.getYear() - 1970) * 12L + local.getMonthValue() - 1;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class ZoneIdIndexTest {
+
+    private static final String[] QUERIES = { "", "a", "Am", "ame", "America", "Mendoza", "/", "Buenos_Aires", "zz", "GMT+1", "Etc/GMT-1", "x" };
+
+    @Test
+    public void substringSearchMatchesLinearScan() {
+        List<String> all = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        for (String query : QUERIES) {
+            List<String> expected = new ArrayList<>();
+            List<String> expectedIgnoreCase = new ArrayList<>();
+            for (String id : all) {
+                if (id.contains(query))
+                    expected.add(id);
+                if (id.toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                    expectedIgnoreCase.add(id);
+            }
+            assertEquals(query, expected, DateUtilities.getZoneIdsByFilterString(query));
+            assertEquals(query, expectedIgnoreCase, DateUtilities.getZoneIdsByFilterString(query.toUpperCase(Locale.ROOT), true, ZoneIdIndex.NO_LIMIT));
+            assertEquals(query, expected.subList(0, Math.min(3, expected.size())), DateUtilities.getZoneIdsByFilterString(query, false, 3));
+        }
+    }
+
+    @Test
+    public void prefixSearchIsSorted() {
+        List<String> result = DateUtilities.getZoneIdsByPrefix("america/argentina/", true, ZoneIdIndex.NO_LIMIT);
+        List<String> expected = new ArrayList<>();
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            if (id.startsWith("America/Argentina/"))
+                expected.add(id);
+        }
+        expected.sort(null);
+        assertEquals(expected, result);
+        assertEquals(2, DateUtilities.getZoneIdsByPrefix("Europe/", false, 2).size());
+    }
+
+    @Test
+    public void listingsAreCachedViews() {
+        assertSame(DateUtilities.getZoneIdAsList(), DateUtilities.getZoneIdAsList());
+        assertEquals(ZoneId.getAvailableZoneIds(), DateUtilities.getZoneIdAsSet());
+    }
+
+    @Test
+    public void refreshReplacesCurrentIndex() {
+        ZoneIdIndex before = ZoneIdIndex.current();
+        ZoneIdIndex refreshed = ZoneIdIndex.refresh();
+        assertSame(refreshed, ZoneIdIndex.current());
+        assertEquals(before.asList(), refreshed.asList());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void listingsAreUnmodifiable() {
+        DateUtilities.getZoneIdAsSet().add("Marte/Olympus_Mons");
+    }
+}
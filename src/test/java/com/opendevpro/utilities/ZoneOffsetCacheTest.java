@@ -0,0 +1,83 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ZoneOffsetCacheTest {
+
+    private static final String[] ZONES = { "America/Argentina/Buenos_Aires", "Europe/Amsterdam", "America/Sao_Paulo",
+        "Australia/Lord_Howe", "Asia/Kolkata", "America/New_York", "Pacific/Apia", "UTC", "-03:00", "Etc/GMT+3" };
+
+    @Test
+    public void offsetsMatchZoneRulesInsideAndOutsideSpan() {
+        Random random = new Random(9);
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneRules rules = zone.getRules();
+            ZoneOffsetCache cache = ZoneOffsetCache.forZone(zone);
+            for (int i = 0; i < 20_000; i++) {
+                // 1850 .. 2250, cubre el rango cacheado y ambos lados
+                long epochSecond = -3_786_825_600L + (long) (random.nextDouble() * 12_623_000_000L);
+                assertEquals(id + " " + epochSecond, rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds(),
+                    cache.offsetSecondsAt(epochSecond));
+                LocalDateTime local = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+                assertEquals(id + " " + local, local.atZone(zone).toEpochSecond(), cache.localToEpochSecond(epochSecond));
+            }
+        }
+    }
+
+    @Test
+    public void gapsAndOverlapsResolveLikeAtZone() {
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneOffsetCache cache = ZoneOffsetCache.forZone(zone);
+            for (ZoneOffsetTransition transition : zone.getRules().getTransitions()) {
+                long local = transition.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC);
+                for (long delta = -7_200; delta <= 7_200; delta += 900) {
+                    LocalDateTime dateTime = LocalDateTime.ofEpochSecond(local + delta, 0, ZoneOffset.UTC);
+                    assertEquals(id + " " + dateTime, dateTime.atZone(zone).toEpochSecond(), cache.localToEpochSecond(local + delta));
+                    assertEquals(zone.getRules().getOffset(transition.getInstant().plusSeconds(delta)).getTotalSeconds(),
+                        cache.offsetSecondsAt(transition.toEpochSecond() + delta));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void convertersMatchJavaTime() {
+        Random random = new Random(17);
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            for (int i = 0; i < 5_000; i++) {
+                long millis = -4_000_000_000_000L + (long) (random.nextDouble() * 12_000_000_000_000L);
+                Date date = new Date(millis);
+                assertEquals(Instant.ofEpochMilli(millis).atZone(zone).toLocalDate(), DateUtilities.fromDateToLocalDateByInstant(date, zone));
+                assertEquals(Instant.ofEpochMilli(millis).atZone(zone).toLocalDate(), DateUtilities.fromDateToLocalDateByMilliSeconds(date, zone));
+                assertEquals(Instant.ofEpochMilli(millis).atZone(zone).toLocalDateTime(), DateUtilities.fromDateToLocalDateTimeByInstant(date, zone));
+                assertEquals(Instant.ofEpochMilli(millis).atZone(zone).toLocalDateTime(), DateUtilities.fromDateToLocalDateTimeByMilisecond(date, zone));
+            }
+        }
+    }
+
+    @Test
+    public void timestampKeepsNanosAndFixedZonesHaveNoTable() {
+        Timestamp timestamp = Timestamp.valueOf("2021-03-14 02:30:00.123456789");
+        ZoneId zone = ZoneId.of("America/New_York");
+        assertEquals(timestamp.toInstant().atZone(zone).toLocalDateTime(), DateUtilities.fromDateToLocalDateTimeByInstant(timestamp, zone));
+        assertTrue(ZoneOffsetCache.forZone(ZoneId.of("Etc/GMT+3")).isFixedOffset());
+        assertEquals(0, ZoneOffsetCache.forZone(ZoneId.of("Etc/GMT+3")).transitionCount());
+        assertTrue(ZoneOffsetCache.forZone(zone).transitionCount() > 100);
+    }
+}
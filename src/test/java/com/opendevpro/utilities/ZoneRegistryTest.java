@@ -0,0 +1,48 @@
+package com.opendevpro.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.ZoneId;
+import java.time.zone.ZoneRulesException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class ZoneRegistryTest {
+
+    @Test
+    public void everyShortcutResolvesLikeZoneIdOf() {
+        for (Map.Entry<String, String> entry : ZoneId.SHORT_IDS.entrySet()) {
+            assertEquals(ZoneId.of(entry.getValue()), DateUtilities.getZoneIdByShortcut(entry.getKey()));
+            assertEquals(ZoneId.of(entry.getValue()), DateUtilities.getZoneIdByShortcut(entry.getKey().toLowerCase()));
+        }
+        Set<ZoneId> distinct = new HashSet<>();
+        for (String id : ZoneId.getAvailableZoneIds())
+            distinct.add(ZoneId.of(id));
+        for (String id : ZoneId.SHORT_IDS.values())
+            distinct.add(ZoneId.of(id));
+        assertEquals(distinct.size(), ZoneRegistry.shared().getPreloadedCount());
+    }
+
+    @Test
+    public void unknownShortcutIsReportedClearly() {
+        assertFalse(DateUtilities.findZoneIdByShortcut("XYZ").isPresent());
+        assertFalse(DateUtilities.findZoneIdByShortcut(null).isPresent());
+        assertEquals(ZoneId.of("America/Argentina/Buenos_Aires"), DateUtilities.findZoneIdByShortcut("agt").get());
+    }
+
+    @Test(expected = ZoneRulesException.class)
+    public void unknownShortcutThrowsZoneRulesException() {
+        DateUtilities.getZoneIdByShortcut("XYZ");
+    }
+
+    @Test
+    public void regionLookup() {
+        assertEquals(ZoneId.of("Europe/Amsterdam"), ZoneRegistry.shared().findById("Europe/Amsterdam").get());
+        assertEquals(ZoneId.of("-03:00"), ZoneRegistry.shared().findById("-03:00").get());
+        assertFalse(ZoneRegistry.shared().findById("Marte/Olympus_Mons").isPresent());
+    }
+}